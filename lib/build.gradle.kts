@@ -52,6 +52,10 @@ dependencies {
     implementation("com.google.guava:guava:33.5.0-jre")
     implementation("org.apache.commons:commons-dbcp2:2.13.0")
 
+    // JDBC drivers used by the native bulk ingest engines; resolved at runtime only when present.
+    compileOnly("org.postgresql:postgresql:42.7.8")
+    compileOnly("com.microsoft.sqlserver:mssql-jdbc:13.2.1.jre11")
+
     // Runtime only dependencies are not added to the compile classpath of projects that depend on this project.
     runtimeOnly("com.mysql:mysql-connector-j:9.5.0")
 
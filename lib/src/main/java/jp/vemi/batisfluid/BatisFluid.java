@@ -3,11 +3,22 @@
  */
 package jp.vemi.batisfluid;
 
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 
 import jp.vemi.batisfluid.core.JdbcFlow;
 import jp.vemi.batisfluid.core.SqlRunner;
 import jp.vemi.batisfluid.config.OptimisticLockConfig;
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+import jp.vemi.batisfluid.routing.ReplicaSelectionStrategy;
+import jp.vemi.batisfluid.routing.RoutingDataSource;
+import jp.vemi.batisfluid.transaction.ThreadLocalDataSource;
+import jp.vemi.seasarbatis.core.transaction.SBThreadLocalDataSource;
 
 /**
  * BatisFluidのエントリーポイントクラス。
@@ -68,6 +79,38 @@ public class BatisFluid {
         return new BatisFluid(sqlSessionFactory, optimisticLockConfig);
     }
     
+    /**
+     * 読み取り専用の処理をレプリカへ振り分けるように設定します。
+     * <p>
+     * {@link SqlSessionFactory} の {@link Environment} のDataSourceをプライマリとし、
+     * {@link RoutingDataSource} に差し替えます。トランザクション外の検索
+     * （{@code SelectBuilder}、{@code SqlRunner#select} など）と
+     * {@link JdbcFlow#readOnlyTransaction(java.util.concurrent.Callable)} はレプリカで実行し、
+     * 書き込みとトランザクション内の処理はプライマリで実行します。
+     * DataSourceを差し替えるため、{@link #jdbcFlow()}、{@link #sqlRunner()} の前に呼び出してください。
+     * </p>
+     *
+     * @param strategy レプリカの選び方
+     * @param replicas レプリカのDataSource
+     * @return このインスタンス
+     * @throws FluidIllegalStateException Environmentが設定されていない場合、
+     *         またはトランザクション用のDataSourceが既に設定されている場合
+     */
+    public BatisFluid withReadReplicas(ReplicaSelectionStrategy strategy, DataSource... replicas) {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        Environment environment = configuration.getEnvironment();
+        if (environment == null) {
+            throw new FluidIllegalStateException("Environmentが設定されていません");
+        }
+        DataSource primary = environment.getDataSource();
+        if (primary instanceof ThreadLocalDataSource || primary instanceof SBThreadLocalDataSource) {
+            throw new FluidIllegalStateException("レプリカは jdbcFlow()、sqlRunner() より前に設定してください");
+        }
+        configuration.setEnvironment(new Environment(environment.getId(), environment.getTransactionFactory(),
+                new RoutingDataSource(primary, Arrays.asList(replicas), strategy)));
+        return this;
+    }
+    
     /**
      * fluent APIを提供するJdbcFlowインスタンスを取得します。
      *
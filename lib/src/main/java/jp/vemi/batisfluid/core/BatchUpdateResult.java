@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 一括更新の結果を保持するクラス。
+ * <p>
+ * エンティティごとの更新件数と、楽観的排他制御の競合により更新されなかったエンティティを保持します。
+ * ドライバが件数を返さない行（{@link Statement#SUCCESS_NO_INFO}）は更新されたものとして扱います。
+ * </p>
+ *
+ * @param <T> エンティティの型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class BatchUpdateResult<T> {
+
+    private final List<T> entities;
+    private final int[] counts;
+
+    /**
+     * 一括更新の結果を構築します。
+     *
+     * @param entities 更新したエンティティ
+     * @param counts エンティティと同じ順序の更新件数
+     */
+    public BatchUpdateResult(List<T> entities, int[] counts) {
+        this.entities = entities;
+        this.counts = counts.clone();
+    }
+
+    /**
+     * エンティティと同じ順序の更新件数を取得します。
+     *
+     * @return 更新件数
+     */
+    public int[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * 指定した位置のエンティティが競合により更新されなかったかを判定します。
+     *
+     * @param index エンティティの位置
+     * @return 競合した場合は {@code true}
+     */
+    public boolean isConflict(int index) {
+        return counts[index] == 0;
+    }
+
+    /**
+     * 競合により更新されなかったエンティティを取得します。
+     *
+     * @return 競合したエンティティのリスト（元の順序）
+     */
+    public List<T> getConflicts() {
+        List<T> conflicts = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (isConflict(i)) {
+                conflicts.add(entities.get(i));
+            }
+        }
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * 競合したエンティティがあるかを判定します。
+     *
+     * @return 競合した場合は {@code true}
+     */
+    public boolean hasConflicts() {
+        for (int count : counts) {
+            if (count == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 更新されたエンティティの件数を取得します。
+     *
+     * @return 更新件数
+     */
+    public int getUpdatedCount() {
+        int updated = 0;
+        for (int count : counts) {
+            if (count != 0) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
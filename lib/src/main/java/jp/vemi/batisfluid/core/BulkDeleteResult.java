@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+/**
+ * 主キーの集合による一括削除の結果を保持するクラス。
+ * <p>
+ * 実行したDELETE文ごとの削除件数と、その合計を保持します。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class BulkDeleteResult {
+
+    private final int[] chunkCounts;
+
+    /**
+     * 一括削除の結果を構築します。
+     *
+     * @param chunkCounts DELETE文ごとの削除件数
+     */
+    public BulkDeleteResult(int[] chunkCounts) {
+        this.chunkCounts = chunkCounts.clone();
+    }
+
+    /**
+     * 削除件数の合計を取得します。
+     *
+     * @return 削除件数の合計
+     */
+    public int getTotal() {
+        int total = 0;
+        for (int count : chunkCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * DELETE文ごとの削除件数を取得します。
+     *
+     * @return 実行順の削除件数
+     */
+    public int[] getChunkCounts() {
+        return chunkCounts.clone();
+    }
+
+    /**
+     * 実行したDELETE文の数を取得します。
+     *
+     * @return DELETE文の数
+     */
+    public int getStatementCount() {
+        return chunkCounts.length;
+    }
+}
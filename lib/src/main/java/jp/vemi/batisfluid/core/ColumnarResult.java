@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+
+/**
+ * 検索結果を列単位で保持する結果クラス。
+ * <p>
+ * 行ごとに Map を生成する代わりに、列ごとのプリミティブ配列へ ResultSet から直接値を格納します。
+ * 数値は {@code long[]}/{@code double[]}、日時はエポックミリ秒の {@code long[]}、
+ * 文字列は重複を排除した辞書とコード配列で保持し、NULL は列ごとのビットマップで表現します。
+ * 少数列・大量行の集計処理で、メモリ使用量を抑えつつキャッシュ効率のよいループを書けます。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * ColumnarResult result = sqlRunner.selectColumnar("SELECT amount, region FROM sales", params);
+ * double[] amounts = result.getDoubles("amount");
+ * for (int i = 0; i &lt; result.getRowCount(); i++) {
+ *     total += amounts[i];
+ * }
+ * </pre>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public final class ColumnarResult {
+
+    /** 列配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * 列の格納形式。
+     */
+    public enum ColumnType {
+        /** 整数（{@code long[]}） */
+        LONG,
+        /** 浮動小数点数（{@code double[]}） */
+        DOUBLE,
+        /** 真偽値（ビットマップ） */
+        BOOLEAN,
+        /** 文字列（辞書 + コード配列） */
+        STRING,
+        /** 日付・日時（エポックミリ秒の {@code long[]}） */
+        TIMESTAMP,
+        /** 上記以外（{@code Object[]}） */
+        OBJECT
+    }
+
+    private final List<String> columnNames;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private ColumnarResult(List<String> columnNames, Column[] columns, int rowCount) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * ResultSet の全行を読み取り、列形式の結果を生成します。
+     * <p>
+     * 列の格納形式は {@link ResultSetMetaData#getColumnType(int)} から決定します。
+     * 小数部を持つ DECIMAL/NUMERIC は {@link ColumnType#DOUBLE} として格納するため、
+     * 厳密な精度が必要な場合は個別に {@link SqlRunner#query(String, Map, ResultSetCallback)} を使用してください。
+     * </p>
+     *
+     * @param resultSet 読み取る ResultSet
+     * @return 列形式の結果
+     * @throws SQLException 読み取りに失敗した場合
+     */
+    public static ColumnarResult from(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> names = new ArrayList<>(columnCount);
+        Column[] columns = new Column[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names.add(metaData.getColumnLabel(i + 1));
+            columns[i] = new Column(resolveType(metaData, i + 1));
+        }
+
+        int row = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                columns[i].read(resultSet, i + 1, row);
+            }
+            row++;
+        }
+        for (Column column : columns) {
+            column.trim(row);
+        }
+        return new ColumnarResult(Collections.unmodifiableList(names), columns, row);
+    }
+
+    private static ColumnType resolveType(ResultSetMetaData metaData, int index) throws SQLException {
+        switch (metaData.getColumnType(index)) {
+        case Types.BIGINT:
+        case Types.INTEGER:
+        case Types.SMALLINT:
+        case Types.TINYINT:
+            return ColumnType.LONG;
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+            // 整数に収まる桁数であれば long として扱う
+            return metaData.getScale(index) == 0 && metaData.getPrecision(index) > 0
+                    && metaData.getPrecision(index) <= 18 ? ColumnType.LONG : ColumnType.DOUBLE;
+        case Types.DOUBLE:
+        case Types.FLOAT:
+        case Types.REAL:
+            return ColumnType.DOUBLE;
+        case Types.BOOLEAN:
+        case Types.BIT:
+            return ColumnType.BOOLEAN;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+            return ColumnType.STRING;
+        case Types.DATE:
+        case Types.TIMESTAMP:
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+            return ColumnType.TIMESTAMP;
+        default:
+            return ColumnType.OBJECT;
+        }
+    }
+
+    /**
+     * 行数を返します。
+     *
+     * @return 行数
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 列数を返します。
+     *
+     * @return 列数
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * 列名（ラベル）の一覧を返します。
+     *
+     * @return 列名のリスト
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * 列名に対応する列番号（0始まり）を返します。大文字小文字は区別しません。
+     *
+     * @param columnName 列名
+     * @return 列番号
+     * @throws FluidIllegalStateException 列が存在しない場合
+     */
+    public int indexOf(String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new FluidIllegalStateException("列が見つかりません: " + columnName);
+    }
+
+    /**
+     * 列の格納形式を返します。
+     *
+     * @param columnName 列名
+     * @return 格納形式
+     */
+    public ColumnType getColumnType(String columnName) {
+        return columns[indexOf(columnName)].type;
+    }
+
+    /**
+     * 指定した行の値が NULL かどうかを返します。
+     *
+     * @param columnName 列名
+     * @param row 行番号（0始まり）
+     * @return NULL の場合はtrue
+     */
+    public boolean isNull(String columnName, int row) {
+        return columns[indexOf(columnName)].nulls.get(row);
+    }
+
+    /**
+     * 列の NULL ビットマップを返します。
+     *
+     * @param columnName 列名
+     * @return NULL の行に対応するビットが立ったビットマップ（コピー）
+     */
+    public BitSet getNulls(String columnName) {
+        return (BitSet) columns[indexOf(columnName)].nulls.clone();
+    }
+
+    /**
+     * {@link ColumnType#LONG} 列の値を返します。NULL の行は 0 です。
+     * <p>
+     * 返却される配列は内部配列そのものです。変更しないでください。
+     * </p>
+     *
+     * @param columnName 列名
+     * @return 値の配列
+     */
+    public long[] getLongs(String columnName) {
+        return column(columnName, ColumnType.LONG).longs;
+    }
+
+    /**
+     * {@link ColumnType#DOUBLE} 列の値を返します。NULL の行は 0.0 です。
+     * <p>
+     * {@link ColumnType#LONG} 列を指定した場合は、double に変換した新しい配列を返します。
+     * </p>
+     *
+     * @param columnName 列名
+     * @return 値の配列
+     */
+    public double[] getDoubles(String columnName) {
+        Column column = columns[indexOf(columnName)];
+        if (column.type == ColumnType.LONG) {
+            double[] values = new double[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                values[i] = column.longs[i];
+            }
+            return values;
+        }
+        return column(columnName, ColumnType.DOUBLE).doubles;
+    }
+
+    /**
+     * {@link ColumnType#BOOLEAN} 列の値をビットマップで返します。NULL の行は false です。
+     *
+     * @param columnName 列名
+     * @return true の行に対応するビットが立ったビットマップ（コピー）
+     */
+    public BitSet getBooleans(String columnName) {
+        return (BitSet) column(columnName, ColumnType.BOOLEAN).booleans.clone();
+    }
+
+    /**
+     * {@link ColumnType#TIMESTAMP} 列の値をエポックミリ秒で返します。NULL の行は 0 です。
+     *
+     * @param columnName 列名
+     * @return エポックミリ秒の配列
+     */
+    public long[] getTimestamps(String columnName) {
+        return column(columnName, ColumnType.TIMESTAMP).longs;
+    }
+
+    /**
+     * 指定した行の文字列値を返します。
+     *
+     * @param columnName 列名
+     * @param row 行番号（0始まり）
+     * @return 値。NULL の場合はnull
+     */
+    public String getString(String columnName, int row) {
+        Column column = column(columnName, ColumnType.STRING);
+        return column.nulls.get(row) ? null : column.dictionary.get(column.codes[row]);
+    }
+
+    /**
+     * {@link ColumnType#STRING} 列の値を配列で返します。
+     * <p>
+     * 同じ値の要素は同一の String インスタンスを参照します。
+     * </p>
+     *
+     * @param columnName 列名
+     * @return 値の配列。NULL の要素はnull
+     */
+    public String[] getStrings(String columnName) {
+        Column column = column(columnName, ColumnType.STRING);
+        String[] values = new String[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = column.nulls.get(i) ? null : column.dictionary.get(column.codes[i]);
+        }
+        return values;
+    }
+
+    /**
+     * {@link ColumnType#STRING} 列の重複排除済みの値一覧を返します。
+     *
+     * @param columnName 列名
+     * @return 出現順の値一覧
+     */
+    public List<String> getDistinctStrings(String columnName) {
+        return Collections.unmodifiableList(column(columnName, ColumnType.STRING).dictionary);
+    }
+
+    /**
+     * {@link ColumnType#OBJECT} 列の値を返します。
+     *
+     * @param columnName 列名
+     * @return 値の配列
+     */
+    public Object[] getObjects(String columnName) {
+        return column(columnName, ColumnType.OBJECT).objects;
+    }
+
+    private Column column(String columnName, ColumnType expected) {
+        Column column = columns[indexOf(columnName)];
+        if (column.type != expected) {
+            throw new FluidIllegalStateException(
+                    "列 " + columnName + " の格納形式は " + column.type + " です（要求: " + expected + "）");
+        }
+        return column;
+    }
+
+    /**
+     * 1列分の値を保持する内部クラス。
+     */
+    private static final class Column {
+
+        private final ColumnType type;
+        private final BitSet nulls = new BitSet();
+        private long[] longs;
+        private double[] doubles;
+        private BitSet booleans;
+        private int[] codes;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryIndex;
+        private Object[] objects;
+
+        Column(ColumnType type) {
+            this.type = type;
+            switch (type) {
+            case LONG:
+            case TIMESTAMP:
+                longs = new long[INITIAL_CAPACITY];
+                break;
+            case DOUBLE:
+                doubles = new double[INITIAL_CAPACITY];
+                break;
+            case BOOLEAN:
+                booleans = new BitSet();
+                break;
+            case STRING:
+                codes = new int[INITIAL_CAPACITY];
+                dictionary = new ArrayList<>();
+                dictionaryIndex = new HashMap<>();
+                break;
+            default:
+                objects = new Object[INITIAL_CAPACITY];
+                break;
+            }
+        }
+
+        void read(ResultSet resultSet, int index, int row) throws SQLException {
+            ensureCapacity(row);
+            switch (type) {
+            case LONG:
+                longs[row] = resultSet.getLong(index);
+                break;
+            case DOUBLE:
+                doubles[row] = resultSet.getDouble(index);
+                break;
+            case BOOLEAN:
+                booleans.set(row, resultSet.getBoolean(index));
+                break;
+            case TIMESTAMP:
+                Timestamp timestamp = resultSet.getTimestamp(index);
+                longs[row] = timestamp != null ? timestamp.getTime() : 0L;
+                break;
+            case STRING:
+                String value = resultSet.getString(index);
+                if (value != null) {
+                    codes[row] = dictionaryIndex.computeIfAbsent(value, v -> {
+                        dictionary.add(v);
+                        return dictionary.size() - 1;
+                    });
+                }
+                break;
+            default:
+                objects[row] = resultSet.getObject(index);
+                break;
+            }
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        private void ensureCapacity(int row) {
+            if (longs != null && row == longs.length) {
+                longs = Arrays.copyOf(longs, row << 1);
+            } else if (doubles != null && row == doubles.length) {
+                doubles = Arrays.copyOf(doubles, row << 1);
+            } else if (codes != null && row == codes.length) {
+                codes = Arrays.copyOf(codes, row << 1);
+            } else if (objects != null && row == objects.length) {
+                objects = Arrays.copyOf(objects, row << 1);
+            }
+        }
+
+        void trim(int rowCount) {
+            if (longs != null) {
+                longs = Arrays.copyOf(longs, rowCount);
+            } else if (doubles != null) {
+                doubles = Arrays.copyOf(doubles, rowCount);
+            } else if (codes != null) {
+                codes = Arrays.copyOf(codes, rowCount);
+                dictionaryIndex = null;
+            } else if (objects != null) {
+                objects = Arrays.copyOf(objects, rowCount);
+            }
+        }
+    }
+}
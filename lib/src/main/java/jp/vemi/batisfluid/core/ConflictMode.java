@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+/**
+ * 一括更新で楽観的排他制御の競合が発生した場合の扱いを表す列挙型。
+ * <p>
+ * {@link JdbcFlow#batchUpdate(java.util.List, int, ConflictMode)} で指定します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum ConflictMode {
+    /**
+     * 競合した行が1件でもあれば、競合したすべてのエンティティを保持する
+     * {@link jp.vemi.batisfluid.exception.BatchOptimisticLockException} をスローする。
+     * トランザクションはロールバックされ、エンティティのバージョン等の値は更新前に戻る。
+     */
+    THROW,
+
+    /**
+     * 競合した行を {@link BatchUpdateResult#getConflicts()} で返し、その他の行の更新は確定する。
+     * 競合したエンティティのバージョン等の値は更新前に戻る。
+     */
+    REPORT
+}
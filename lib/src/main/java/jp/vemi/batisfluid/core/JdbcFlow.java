@@ -3,13 +3,24 @@
  */
 package jp.vemi.batisfluid.core;
 
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.session.SqlSessionFactory;
 
 import jp.vemi.batisfluid.config.OptimisticLockConfig;
+import jp.vemi.batisfluid.ingest.BulkIngestEngine;
+import jp.vemi.batisfluid.ingest.EntityRowMapper;
+import jp.vemi.batisfluid.keygen.KeyGenerator;
+import jp.vemi.batisfluid.query.SelectBuilder;
 import jp.vemi.batisfluid.query.SimpleWhere;
+import jp.vemi.batisfluid.query.UpdateBuilder;
+import jp.vemi.batisfluid.routing.RoutingDataSource;
 import jp.vemi.batisfluid.transaction.PropagationType;
+import jp.vemi.batisfluid.transaction.RetryPolicy;
 import jp.vemi.batisfluid.transaction.TransactionManager;
 import jp.vemi.seasarbatis.core.builder.SBSelectBuilder;
 import jp.vemi.seasarbatis.core.query.SBSelect;
@@ -94,6 +105,53 @@ public class JdbcFlow {
         return delegate;
     }
     
+    /**
+     * 変更追跡の有効・無効を設定します。
+     * <p>
+     * 有効にすると、このJdbcFlowで検索したエンティティのカラム値を記録し、
+     * {@link #update(Object)} では変更されたカラムのみを更新します。
+     * 変更されたカラムがない場合はUPDATE文を実行しません。
+     * </p>
+     *
+     * @param enabled 有効にする場合は {@code true}
+     * @return このインスタンス
+     */
+    public JdbcFlow setDirtyTrackingEnabled(boolean enabled) {
+        delegate.setDirtyTrackingEnabled(enabled);
+        return this;
+    }
+    
+    /**
+     * 変更追跡が有効かどうかを返します。
+     *
+     * @return 有効な場合は {@code true}
+     */
+    public boolean isDirtyTrackingEnabled() {
+        return delegate.isDirtyTrackingEnabled();
+    }
+    
+    /**
+     * 主キーの値を生成するキー生成器を登録します。
+     * <p>
+     * {@link jp.vemi.batisfluid.meta.FluidColumn#keyGenerator()} にこの名前を指定した主キーは、
+     * {@link #insert(Object)}、{@link #batchInsert(List)}、{@link #bulkInsert(List)} で値が {@code null} の場合に
+     * キー生成器の値が設定されます。
+     * </p>
+     *
+     * <pre>
+     * jdbcFlow.registerKeyGenerator("orders",
+     *     new HiLoKeyGenerator(new SequenceHiValueSource(jdbcFlow, "orders_hi_seq"), 100));
+     * </pre>
+     *
+     * @param name キー生成器の名前
+     * @param generator キー生成器
+     * @return このインスタンス
+     */
+    public JdbcFlow registerKeyGenerator(String name, KeyGenerator generator) {
+        delegate.registerKeyGenerator(name, generator);
+        return this;
+    }
+    
     // 以下、主要なメソッドをデリゲート
     // TODO: 将来的には直接実装に置き換える
     
@@ -110,9 +168,43 @@ public class JdbcFlow {
     public <T> SBSelectBuilder<T> from(Class<T> entityClass) {
         return delegate.from(entityClass);
     }
+
+    /**
+     * BatisFluid のSELECTビルダーを生成します。
+     * <p>
+     * 主キー順のキーセットページング（{@link SelectBuilder#iterateChunks(int)}）など、
+     * BatisFluid 独自の検索機能を利用できます。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entityClass エンティティクラス
+     * @return SELECTビルダー
+     */
+    public <T> SelectBuilder<T> select(Class<T> entityClass) {
+        return new SelectBuilder<>(delegate, entityClass);
+    }
+
+    /**
+     * BatisFluid のUPDATEビルダーを生成します。
+     * <p>
+     * {@link UpdateBuilder#increment(String, Number)} などのSQL式による更新を利用できます。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entityClass エンティティクラス
+     * @return UPDATEビルダー
+     */
+    public <T> UpdateBuilder<T> update(Class<T> entityClass) {
+        return new UpdateBuilder<>(delegate, entityClass);
+    }
     
     /**
      * エンティティをINSERTします。
+     * <p>
+     * {@link ReturningMode#GENERATED_KEYS} で登録し、自動採番された主キーを設定した引数のエンティティを
+     * そのまま返します。デフォルト値やトリガーで設定された列も反映する場合は
+     * {@link ReturningMode#RETURNING} または {@link ReturningMode#RELOAD} を指定します。
+     * </p>
      *
      * @param <T> エンティティの型
      * @param entity 挿入するエンティティ
@@ -134,8 +226,28 @@ public class JdbcFlow {
         return delegate.insert(entity, isIndependentTransaction);
     }
     
+    /**
+     * エンティティをINSERTします。
+     * <p>
+     * 登録後の行を再検索したい場合は {@link ReturningMode#RELOAD} を指定します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entity 挿入するエンティティ
+     * @param returningMode 登録後のエンティティの返し方
+     * @return 挿入後のエンティティ
+     */
+    public <T> T insert(T entity, ReturningMode returningMode) {
+        return delegate.insert(entity, returningMode);
+    }
+    
     /**
      * エンティティをUPDATEします。
+     * <p>
+     * {@link ReturningMode#RETURNING} で更新し、データベース上の更新後の行を新しいインスタンスとして返します。
+     * 楽観的排他制御のバージョンなど更新で変わる値は引数のエンティティには反映されないため、
+     * 続けて更新する場合は戻り値を使用してください。
+     * </p>
      *
      * @param <T> エンティティの型
      * @param entity 更新するエンティティ
@@ -157,6 +269,23 @@ public class JdbcFlow {
         return delegate.update(entity, isIndependentTransaction);
     }
     
+    /**
+     * エンティティをUPDATEします。
+     * <p>
+     * 更新後の行が不要な場合は {@link ReturningMode#NONE} を指定すると、追加の取得を行いません。
+     * {@link ReturningMode#GENERATED_KEYS} は登録専用のため指定できません。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entity 更新するエンティティ
+     * @param returningMode 更新後のエンティティの返し方
+     * @return 更新後のエンティティ
+     * @throws IllegalArgumentException {@link ReturningMode#GENERATED_KEYS} を指定した場合
+     */
+    public <T> T update(T entity, ReturningMode returningMode) {
+        return delegate.update(entity, returningMode);
+    }
+    
     /**
      * エンティティをDELETEします。
      *
@@ -195,6 +324,7 @@ public class JdbcFlow {
      * エンティティをINSERT or UPDATEします。
      * <p>
      * 主キーが存在する場合はUPDATE、存在しない場合はINSERTを実行します。
+     * Dialect が UPSERT に対応している場合は1文で実行します。
      * </p>
      *
      * @param <T> エンティティの型
@@ -209,6 +339,7 @@ public class JdbcFlow {
      * エンティティをINSERT or UPDATEします。
      * <p>
      * 主キーが存在する場合はUPDATE、存在しない場合はINSERTを実行します。
+     * Dialect が UPSERT に対応している場合は1文で実行します。
      * </p>
      *
      * @param <T> エンティティの型
@@ -220,6 +351,251 @@ public class JdbcFlow {
         return delegate.insertOrUpdate(entity, isIndependentTransaction);
     }
     
+    // ========================================
+    // バッチ操作メソッド
+    // ========================================
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括登録します。
+     * <p>
+     * {@link SBJdbcManager#DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 登録するエンティティのリスト
+     * @return エンティティと同じ順序の登録件数
+     */
+    public <T> int[] batchInsert(List<T> entities) {
+        return batchInsert(entities, SBJdbcManager.DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括登録します。
+     *
+     * @param <T> エンティティの型
+     * @param entities 登録するエンティティのリスト
+     * @param batchSize 1回の送信にまとめる件数
+     * @return エンティティと同じ順序の登録件数
+     */
+    public <T> int[] batchInsert(List<T> entities, int batchSize) {
+        return delegate.executeBatchInsert(entities, false, batchSize);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括更新します。
+     * <p>
+     * {@link SBJdbcManager#DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 更新するエンティティのリスト
+     * @return エンティティと同じ順序の更新件数
+     */
+    public <T> int[] batchUpdate(List<T> entities) {
+        return batchUpdate(entities, SBJdbcManager.DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括更新します。
+     *
+     * @param <T> エンティティの型
+     * @param entities 更新するエンティティのリスト
+     * @param batchSize 1回の送信にまとめる件数
+     * @return エンティティと同じ順序の更新件数
+     */
+    public <T> int[] batchUpdate(List<T> entities, int batchSize) {
+        return delegate.executeBatchUpdate(entities, false, batchSize);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括更新し、楽観的排他制御で競合したエンティティを判定します。
+     * <p>
+     * 更新されたエンティティのバージョン等の値は更新後の値になり、競合したエンティティの値は更新前に戻ります。
+     * {@link ConflictMode#THROW} の場合は競合があればロールバックして例外をスローし、
+     * {@link ConflictMode#REPORT} の場合は競合しなかった行の更新を確定して競合したエンティティを返します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 更新するエンティティのリスト
+     * @param batchSize 1回の送信にまとめる件数
+     * @param conflictMode 競合した場合の扱い
+     * @return エンティティごとの更新件数と競合したエンティティ
+     */
+    public <T> BatchUpdateResult<T> batchUpdate(List<T> entities, int batchSize, ConflictMode conflictMode) {
+        return delegate.executeBatchUpdate(entities, false, batchSize, conflictMode);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括削除します。
+     * <p>
+     * {@link SBJdbcManager#DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 削除するエンティティのリスト
+     * @return エンティティと同じ順序の削除件数
+     */
+    public <T> int[] batchDelete(List<T> entities) {
+        return batchDelete(entities, SBJdbcManager.DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * 複数のエンティティをJDBCバッチで一括削除します。
+     *
+     * @param <T> エンティティの型
+     * @param entities 削除するエンティティのリスト
+     * @param batchSize 1回の送信にまとめる件数
+     * @return エンティティと同じ順序の削除件数
+     */
+    public <T> int[] batchDelete(List<T> entities, int batchSize) {
+        return delegate.executeBatchDelete(entities, false, batchSize);
+    }
+    
+    /**
+     * 複数のエンティティを、主キーの集合を条件とするDELETE文で一括削除します。
+     * <p>
+     * 1行ごとにDELETE文を送信せず、{@code WHERE pk IN (...)} の形式で複数の主キーをまとめて削除します。
+     * 1文あたりの件数はデータベースのバインド変数の上限などから自動で決定されます。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 削除するエンティティのリスト
+     * @return DELETE文ごとの削除件数と合計
+     */
+    public <T> BulkDeleteResult bulkDelete(List<T> entities) {
+        return delegate.executeBulkDelete(entities, false);
+    }
+    
+    /**
+     * 複数のエンティティを、複数行の {@code VALUES} を持つINSERT文で一括登録します。
+     * <p>
+     * JDBCバッチが遅いドライバ向けに、{@code INSERT INTO t (...) VALUES (...), (...), ...} の形式で
+     * 送信します。1文あたりの行数はデータベースのバインド変数の上限などから自動で決定されます。
+     * 自動採番されたキーはエンティティに設定されません。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 登録するエンティティのリスト
+     * @return 登録件数の合計
+     */
+    public <T> int bulkInsert(List<T> entities) {
+        return delegate.executeBulkInsert(entities, false);
+    }
+    
+    /**
+     * エンティティのイテレータを、データベース固有の高速な手段でテーブルへ一括投入します。
+     * <p>
+     * PostgreSQL では {@code COPY FROM STDIN}、SQL Server ではバルクコピーを使用し、
+     * それ以外のデータベースではJDBCバッチのINSERTで投入します。
+     * エンティティは投入する時点で1件ずつ取り出すため、データ全体をメモリに保持しません。
+     * 先頭のエンティティで値が {@code null} の主キーは自動採番とみなし、投入対象から除外します。
+     * 自動採番されたキーはエンティティに設定されません。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entityClass エンティティクラス
+     * @param entities 投入するエンティティのイテレータ
+     * @return 投入した行数
+     */
+    public <T> long ingest(Class<T> entityClass, Iterator<? extends T> entities) {
+        return ingest(entityClass, entities, null);
+    }
+    
+    /**
+     * エンティティのストリームを、データベース固有の高速な手段でテーブルへ一括投入します。
+     * <p>
+     * ストリームは投入完了後にクローズします。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entityClass エンティティクラス
+     * @param entities 投入するエンティティのストリーム
+     * @return 投入した行数
+     * @see #ingest(Class, Iterator)
+     */
+    public <T> long ingest(Class<T> entityClass, Stream<? extends T> entities) {
+        try (Stream<? extends T> stream = entities) {
+            return ingest(entityClass, stream.iterator(), null);
+        }
+    }
+    
+    /**
+     * 使用する {@link BulkIngestEngine} を指定して、エンティティのイテレータをテーブルへ一括投入します。
+     *
+     * @param <T> エンティティの型
+     * @param entityClass エンティティクラス
+     * @param entities 投入するエンティティのイテレータ
+     * @param engine 使用する一括投入エンジン。{@code null} の場合はデータベースに応じて自動選択
+     * @return 投入した行数
+     */
+    public <T> long ingest(Class<T> entityClass, Iterator<? extends T> entities, BulkIngestEngine engine) {
+        if (!entities.hasNext()) {
+            return 0L;
+        }
+        T first = entities.next();
+        EntityRowMapper<T> mapper = new EntityRowMapper<>(entityClass, first);
+        return delegate.executeIngest(mapper.getTableName(), mapper.getColumns(), mapper.rows(first, entities),
+                engine, false);
+    }
+    
+    /**
+     * カラム値の配列のイテレータを、データベース固有の高速な手段でテーブルへ一括投入します。
+     *
+     * @param tableName 投入先のテーブル名
+     * @param columns 投入するカラム名
+     * @param rows {@code columns} の順のカラム値の配列のイテレータ
+     * @return 投入した行数
+     */
+    public long ingestRows(String tableName, List<String> columns, Iterator<Object[]> rows) {
+        return delegate.executeIngest(tableName, columns, rows, null, false);
+    }
+    
+    /**
+     * 登録されたエンティティをまとめてINSERTする {@link WriteBehindBuffer} を生成します。
+     * <p>
+     * 多数のスレッドから高頻度に登録する場合に、1件ごとのトランザクションを避けるために使用します。
+     * 使用後は {@link WriteBehindBuffer#close()} でクローズしてください。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param capacity 書き込み待ちにできるエンティティの最大数
+     * @param batchSize 1回の書き込みにまとめる件数
+     * @param flushInterval 件数が {@code batchSize} に満たない場合に書き込むまでの最大の待ち時間
+     * @return 書き込みバッファ
+     */
+    public <T> WriteBehindBuffer<T> writeBehind(int capacity, int batchSize, Duration flushInterval) {
+        return WriteBehindBuffer.open(this, capacity, batchSize, flushInterval);
+    }
+    
+    /**
+     * エンティティをパーティションに分割し、複数のコネクションで並列にINSERTする {@link ParallelBatchWriter} を生成します。
+     *
+     * @param <T> エンティティの型
+     * @param parallelism パーティションの数（同時に使用するコネクションの最大数）
+     * @param batchSize 1回のJDBCバッチにまとめる件数
+     * @param partitionStrategy パーティションへの振り分け方法
+     * @param writeMode 失敗した場合の扱い
+     * @return 並列書き込み
+     */
+    public <T> ParallelBatchWriter<T> parallelWriter(int parallelism, int batchSize,
+            PartitionStrategy partitionStrategy, ParallelWriteMode writeMode) {
+        return new ParallelBatchWriter<>(this, parallelism, batchSize, partitionStrategy, writeMode);
+    }
+    
+    /**
+     * 複数のエンティティを一括でINSERT or UPDATEします。
+     * <p>
+     * Dialect が UPSERT に対応している場合は、JDBCバッチでまとめて送信します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param entities 挿入または更新するエンティティのリスト
+     * @return 挿入または更新後のエンティティのリスト
+     */
+    public <T> List<T> batchInsertOrUpdate(List<T> entities) {
+        return delegate.batchInsertOrUpdate(entities);
+    }
+    
     // ========================================
     // トランザクション制御メソッド
     // ========================================
@@ -239,6 +615,23 @@ public class JdbcFlow {
         return transactionManager.execute(PropagationType.REQUIRED, action);
     }
     
+    /**
+     * 読み取り専用のトランザクション内で処理を実行します。
+     * <p>
+     * 新規にトランザクションを開始する場合、コネクションは
+     * {@link RoutingDataSource} のレプリカから取得します。
+     * 既に書き込みのトランザクションがある場合は、そのトランザクション（プライマリ）を使用します。
+     * 処理の中で書き込みを行わないでください。
+     * </p>
+     *
+     * @param <T> 戻り値の型
+     * @param action 実行する処理
+     * @return 処理の結果
+     */
+    public <T> T readOnlyTransaction(Callable<T> action) {
+        return RoutingDataSource.readOnly(() -> transactionManager.execute(PropagationType.REQUIRED, action));
+    }
+    
     /**
      * 指定された伝播タイプでトランザクションを実行します。
      *
@@ -251,6 +644,33 @@ public class JdbcFlow {
         return transactionManager.execute(propagationType, action);
     }
     
+    /**
+     * 指定された伝播タイプでトランザクションを実行し、デッドロックなどで失敗した場合は再実行します。
+     * <p>
+     * 処理は複数回呼び出される可能性があるため、トランザクション外への副作用を持たせないでください。
+     * </p>
+     *
+     * @param <T> 戻り値の型
+     * @param propagationType トランザクション伝播タイプ
+     * @param retryPolicy リトライポリシー
+     * @param action 実行する処理
+     * @return 処理の結果
+     * @see TransactionManager#execute(PropagationType, RetryPolicy, Callable)
+     */
+    public <T> T transaction(PropagationType propagationType, RetryPolicy retryPolicy, Callable<T> action) {
+        return transactionManager.execute(propagationType, retryPolicy, action);
+    }
+    
+    /**
+     * データベースのダイアレクトでデッドロックやシリアライゼーション失敗を分類するリトライポリシーを生成します。
+     * 最大試行回数は3回、待機時間は10ミリ秒から1秒です。
+     *
+     * @return リトライポリシー
+     */
+    public RetryPolicy retryPolicy() {
+        return RetryPolicy.forDialect(delegate.getDialect());
+    }
+    
     /**
      * トランザクションマネージャを取得します。
      *
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.vemi.batisfluid.entity.EntityOperations;
+import jp.vemi.batisfluid.exception.FluidException;
+import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
+
+/**
+ * エンティティをパーティションに分割し、複数のコネクションで並列にJDBCバッチINSERTするクラス。
+ * <p>
+ * パーティションごとに仮想スレッドを1つ割り当て、
+ * {@link jp.vemi.seasarbatis.core.transaction.SBTransactionManager#executeWithTransaction(boolean, java.util.concurrent.Callable)}
+ * の独立したトランザクションで書き込むため、パーティションごとに別のコネクションを使用します。
+ * 同時に使用するコネクションは最大で {@code parallelism} 本です。
+ * </p>
+ * <p>
+ * 入力は呼び出し元のスレッドで先頭から読み込み、{@code batchSize} 件ごとに各パーティションへ渡します。
+ * パーティションごとの待ち行列は有限のため、ストリームを入力した場合もデータ全体を保持しません。
+ * ただし {@link ParallelWriteMode#ALL_OR_NOTHING_PER_PARTITION} では、失敗を報告するために
+ * 書き込み中のパーティションのエンティティを保持します。
+ * </p>
+ *
+ * @param <T> エンティティの型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class ParallelBatchWriter<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelBatchWriter.class);
+
+    /** パーティションごとに先読みするバッチの数 */
+    private static final int QUEUED_BATCHES = 2;
+
+    /** 待ち行列が空くのを待つ間に、パーティションの終了を確認する間隔（ミリ秒） */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final SBJdbcManager jdbcManager;
+    private final int parallelism;
+    private final int batchSize;
+    private final PartitionStrategy partitionStrategy;
+    private final ParallelWriteMode writeMode;
+
+    /**
+     * 並列書き込みを構築します。
+     *
+     * @param jdbcFlow 書き込みに使用する {@link JdbcFlow}
+     * @param parallelism パーティションの数（同時に使用するコネクションの最大数）
+     * @param batchSize 1回のJDBCバッチにまとめる件数
+     * @param partitionStrategy パーティションへの振り分け方法
+     * @param writeMode 失敗した場合の扱い
+     * @throws IllegalArgumentException 件数が1未満の場合
+     */
+    public ParallelBatchWriter(JdbcFlow jdbcFlow, int parallelism, int batchSize,
+            PartitionStrategy partitionStrategy, ParallelWriteMode writeMode) {
+        if (parallelism < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("parallelism と batchSize は1以上を指定してください");
+        }
+        this.jdbcManager = jdbcFlow.getDelegate();
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.partitionStrategy = partitionStrategy;
+        this.writeMode = writeMode;
+    }
+
+    /**
+     * エンティティのリストを並列に書き込みます。
+     *
+     * @param entities 書き込むエンティティ
+     * @return 書き込みの結果
+     */
+    public ParallelWriteResult<T> write(List<? extends T> entities) {
+        return write(entities.iterator());
+    }
+
+    /**
+     * エンティティのストリームを並列に書き込みます。ストリームは書き込み完了後にクローズします。
+     *
+     * @param entities 書き込むエンティティ
+     * @return 書き込みの結果
+     */
+    public ParallelWriteResult<T> write(Stream<? extends T> entities) {
+        try (Stream<? extends T> stream = entities) {
+            return write(stream.iterator());
+        }
+    }
+
+    /**
+     * エンティティのイテレータを並列に書き込みます。
+     *
+     * @param entities 書き込むエンティティ
+     * @return 書き込みの結果
+     * @throws FluidException 書き込みが中断された場合
+     */
+    public ParallelWriteResult<T> write(Iterator<? extends T> entities) {
+        AtomicLong written = new AtomicLong();
+        ConcurrentLinkedQueue<ParallelWriteResult.Failure<T>> failures = new ConcurrentLinkedQueue<>();
+        List<BlockingQueue<List<T>>> queues = new ArrayList<>(parallelism);
+        List<Future<?>> futures = new ArrayList<>(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < parallelism; i++) {
+                BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+                int partition = i;
+                queues.add(queue);
+                futures.add(executor.submit(() -> {
+                    if (writeMode == ParallelWriteMode.ALL_OR_NOTHING_PER_PARTITION) {
+                        writeAllOrNothing(partition, queue, written, failures);
+                    } else {
+                        writeBestEffort(partition, queue, written, failures);
+                    }
+                    return null;
+                }));
+            }
+            distribute(entities, queues, futures);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FluidException("並列書き込みが中断されました", e);
+        } catch (ExecutionException e) {
+            throw new FluidException("並列書き込みに失敗しました", e.getCause());
+        }
+
+        logger.info("並列書き込み完了: {} 件（失敗 {} 件）", written.get(), failures.size());
+        return new ParallelWriteResult<>(written.get(), new ArrayList<>(failures));
+    }
+
+    /**
+     * 入力をバッチに分割して各パーティションの待ち行列へ渡し、最後に終端を渡します。
+     * <p>
+     * パーティションが途中で終了した場合は待ち行列が空かないため、その時点で入力の読み込みを中止します。
+     * </p>
+     */
+    private void distribute(Iterator<? extends T> entities, List<BlockingQueue<List<T>>> queues,
+            List<Future<?>> futures) throws InterruptedException, ExecutionException {
+        List<List<T>> buffers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            buffers.add(new ArrayList<>(batchSize));
+        }
+        try {
+            long index = 0;
+            while (entities.hasNext()) {
+                T entity = entities.next();
+                int partition = partitionOf(entity, index++);
+                List<T> buffer = buffers.get(partition);
+                buffer.add(entity);
+                if (buffer.size() >= batchSize) {
+                    transfer(queues.get(partition), futures.get(partition), buffer);
+                    buffers.set(partition, new ArrayList<>(batchSize));
+                }
+            }
+            for (int i = 0; i < parallelism; i++) {
+                if (!buffers.get(i).isEmpty()) {
+                    transfer(queues.get(i), futures.get(i), buffers.get(i));
+                }
+            }
+        } finally {
+            // 入力の読み込みに失敗した場合も、実行中の各パーティションを終了させる
+            for (int i = 0; i < parallelism; i++) {
+                offer(queues.get(i), futures.get(i), List.of());
+            }
+        }
+    }
+
+    /**
+     * バッチをパーティションへ渡します。
+     *
+     * @throws ExecutionException パーティションが失敗により終了していた場合
+     * @throws FluidException パーティションがバッチを受け取らずに終了していた場合
+     */
+    private void transfer(BlockingQueue<List<T>> queue, Future<?> worker, List<T> batch)
+            throws InterruptedException, ExecutionException {
+        if (!offer(queue, worker, batch)) {
+            worker.get();
+            throw new FluidException("パーティションの書き込みが途中で終了しました");
+        }
+    }
+
+    /**
+     * 待ち行列が空くまでバッチを渡し続けます。パーティションが終了した場合は渡さずに戻ります。
+     *
+     * @return 渡した場合は {@code true}、パーティションが終了していた場合は {@code false}
+     */
+    private boolean offer(BlockingQueue<List<T>> queue, Future<?> worker, List<T> batch)
+            throws InterruptedException {
+        while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (worker.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int partitionOf(T entity, long index) {
+        if (partitionStrategy == PartitionStrategy.PRIMARY_KEY_HASH) {
+            return Math.floorMod(EntityOperations.getPrimaryKeyValues(entity).hashCode(), parallelism);
+        }
+        return (int) (index % parallelism);
+    }
+
+    /**
+     * パーティションのすべてのバッチを1つの独立したトランザクションで書き込みます。
+     */
+    private void writeAllOrNothing(int partition, BlockingQueue<List<T>> queue, AtomicLong written,
+            ConcurrentLinkedQueue<ParallelWriteResult.Failure<T>> failures) throws InterruptedException {
+        List<T> consumed = new ArrayList<>();
+        boolean[] finished = { false };
+        try {
+            jdbcManager.getTransactionManager().executeWithTransaction(true, () -> {
+                List<T> batch;
+                while (!(batch = queue.take()).isEmpty()) {
+                    consumed.addAll(batch);
+                    jdbcManager.executeBatchInsert(batch, false, batchSize);
+                }
+                finished[0] = true;
+                return null;
+            });
+            written.addAndGet(consumed.size());
+        } catch (RuntimeException e) {
+            logger.warn("パーティション {} の書き込みに失敗したため、ロールバックしました: {} 件", partition, consumed.size(), e);
+            // 残りのバッチも受け取り、書き込まずに失敗として扱う
+            if (!finished[0]) {
+                List<T> batch;
+                while (!(batch = queue.take()).isEmpty()) {
+                    consumed.addAll(batch);
+                }
+            }
+            for (T entity : consumed) {
+                failures.add(new ParallelWriteResult.Failure<>(entity, partition, e));
+            }
+        }
+    }
+
+    /**
+     * バッチごとに独立したトランザクションで書き込み、失敗したバッチは1件ずつ書き込み直します。
+     */
+    private void writeBestEffort(int partition, BlockingQueue<List<T>> queue, AtomicLong written,
+            ConcurrentLinkedQueue<ParallelWriteResult.Failure<T>> failures) throws InterruptedException {
+        List<T> batch;
+        while (!(batch = queue.take()).isEmpty()) {
+            try {
+                jdbcManager.executeBatchInsert(batch, true, batchSize);
+                written.addAndGet(batch.size());
+            } catch (RuntimeException e) {
+                logger.warn("パーティション {} のバッチの書き込みに失敗したため、1件ずつ書き込みます: {} 件",
+                        partition, batch.size(), e);
+                for (T entity : batch) {
+                    try {
+                        jdbcManager.insert(entity, true);
+                        written.incrementAndGet();
+                    } catch (RuntimeException rowError) {
+                        failures.add(new ParallelWriteResult.Failure<>(entity, partition, rowError));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+/**
+ * 並列書き込みで失敗した場合の扱いを表す列挙型。
+ * <p>
+ * {@link ParallelBatchWriter} で指定し、失敗したエンティティは {@link ParallelWriteResult#getFailures()} で返します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum ParallelWriteMode {
+    /**
+     * パーティションごとに1つのトランザクションで書き込む。
+     * パーティション内で1件でも失敗すると、そのパーティションのすべてのエンティティをロールバックし、
+     * 失敗として返す。他のパーティションの書き込みは確定する。
+     */
+    ALL_OR_NOTHING_PER_PARTITION,
+
+    /**
+     * バッチごとに独立したトランザクションで書き込む。
+     * 失敗したバッチは1件ずつ書き込み直し、書き込めなかったエンティティのみを失敗として返す。
+     */
+    BEST_EFFORT
+}
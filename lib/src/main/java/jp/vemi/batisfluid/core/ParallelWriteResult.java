@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 並列書き込みの結果を保持するクラス。
+ * <p>
+ * 書き込みに成功した件数と、失敗したエンティティおよびその原因を保持します。
+ * </p>
+ *
+ * @param <T> エンティティの型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class ParallelWriteResult<T> {
+
+    private final long writtenCount;
+    private final List<Failure<T>> failures;
+
+    /**
+     * 並列書き込みの結果を構築します。
+     *
+     * @param writtenCount 書き込みに成功した件数
+     * @param failures 書き込みに失敗したエンティティ
+     */
+    public ParallelWriteResult(long writtenCount, List<Failure<T>> failures) {
+        this.writtenCount = writtenCount;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * 書き込みに成功した件数を取得します。
+     *
+     * @return 書き込みに成功した件数
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * 書き込みに失敗したエンティティを取得します。
+     *
+     * @return 書き込みに失敗したエンティティと原因
+     */
+    public List<Failure<T>> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 書き込みに失敗したエンティティが存在するかを判定します。
+     *
+     * @return 失敗したエンティティが存在する場合は {@code true}
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * 書き込みに失敗したエンティティを含むパーティションの番号を取得します。
+     *
+     * @return パーティションの番号（昇順）
+     */
+    public Set<Integer> getFailedPartitions() {
+        Set<Integer> partitions = new TreeSet<>();
+        for (Failure<T> failure : failures) {
+            partitions.add(failure.getPartition());
+        }
+        return partitions;
+    }
+
+    /**
+     * 書き込みに失敗したエンティティと原因です。
+     *
+     * @param <T> エンティティの型
+     */
+    public static class Failure<T> {
+        private final T entity;
+        private final int partition;
+        private final Throwable cause;
+
+        /**
+         * 書き込みに失敗したエンティティと原因を構築します。
+         *
+         * @param entity 失敗したエンティティ
+         * @param partition エンティティを書き込んだパーティションの番号
+         * @param cause 失敗の原因
+         */
+        public Failure(T entity, int partition, Throwable cause) {
+            this.entity = entity;
+            this.partition = partition;
+            this.cause = cause;
+        }
+
+        /**
+         * 失敗したエンティティを取得します。
+         *
+         * @return エンティティ
+         */
+        public T getEntity() {
+            return entity;
+        }
+
+        /**
+         * エンティティを書き込んだパーティションの番号を取得します。
+         *
+         * @return パーティションの番号
+         */
+        public int getPartition() {
+            return partition;
+        }
+
+        /**
+         * 失敗の原因を取得します。
+         *
+         * @return 失敗の原因
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+/**
+ * 並列書き込みでエンティティをパーティションへ振り分ける方法を表す列挙型。
+ * <p>
+ * {@link ParallelBatchWriter} で指定します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum PartitionStrategy {
+    /**
+     * エンティティを先頭から順に各パーティションへ均等に振り分ける。
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 主キーの値のハッシュで振り分ける。同じ主キーのエンティティは常に同じパーティションで書き込まれるため、
+     * パーティション間で同じ行を奪い合うことがない。
+     */
+    PRIMARY_KEY_HASH
+}
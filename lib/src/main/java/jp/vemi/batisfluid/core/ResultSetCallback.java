@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link ResultSet} を直接読み取るコールバックインターフェース。
+ * <p>
+ * 行ごとの Map 生成やエンティティ変換を経由せずに結果を読み取りたい場合に使用します。
+ * ResultSet のオープン・クローズはフレームワーク側で行うため、実装側で閉じる必要はありません。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * long total = sqlRunner.query("SELECT amount FROM orders", params, rs -&gt; {
+ *     long sum = 0;
+ *     while (rs.next()) {
+ *         sum += rs.getLong(1);
+ *     }
+ *     return sum;
+ * });
+ * </pre>
+ *
+ * @param <R> 読み取り結果の型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+@FunctionalInterface
+public interface ResultSetCallback<R> {
+
+    /**
+     * ResultSet を読み取り、結果を返します。
+     *
+     * @param resultSet 検索結果
+     * @return 読み取り結果
+     * @throws SQLException ResultSet の読み取りに失敗した場合
+     */
+    R handle(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+/**
+ * 登録・更新後のエンティティの返し方を表す列挙型。
+ * <p>
+ * {@link JdbcFlow#insert(Object, ReturningMode)} などで指定し、
+ * 書き込み後にデータベースの値をエンティティへ反映する方法を選択します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum ReturningMode {
+    /**
+     * データベースから値を取得せず、引数のエンティティをそのまま返す。
+     */
+    NONE,
+
+    /**
+     * {@link java.sql.Statement#getGeneratedKeys()} で自動採番された主キーを取得し、
+     * 引数のエンティティに設定して返す。追加の問い合わせは発生しない。
+     * 登録専用のため、更新で指定すると {@link IllegalArgumentException} をスローする。
+     */
+    GENERATED_KEYS,
+
+    /**
+     * 書き込みと同じ文でデータベース上の行を取得して返す。
+     * PostgreSQL の {@code RETURNING}、SQL Server の {@code OUTPUT}、H2 の {@code FINAL TABLE} を使用し、
+     * Dialect が対応しない場合は {@link #RELOAD} と同様に再検索する。
+     */
+    RETURNING,
+
+    /**
+     * 書き込み後に主キーで再検索し、データベース上の行を返す。
+     * デフォルト値やトリガーで設定された列も反映されるが、問い合わせが1回増える。
+     */
+    RELOAD
+}
@@ -3,13 +3,24 @@
  */
 package jp.vemi.batisfluid.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
 import org.apache.ibatis.session.SqlSessionFactory;
 
+import jp.vemi.batisfluid.exception.NoResultException;
+import jp.vemi.batisfluid.exception.NonUniqueResultException;
+import jp.vemi.batisfluid.routing.RoutingDataSource;
 import jp.vemi.batisfluid.transaction.PropagationType;
+import jp.vemi.batisfluid.transaction.RetryPolicy;
 import jp.vemi.batisfluid.transaction.TransactionManager;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
 
@@ -26,6 +37,9 @@ import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
  */
 public class SqlRunner {
     
+    /** プリミティブ配列の初期容量 */
+    private static final int INITIAL_CAPACITY = 64;
+    
     private final SBJdbcManager delegate;
     private final TransactionManager transactionManager;
     
@@ -67,6 +81,10 @@ public class SqlRunner {
     
     /**
      * INSERT文を実行します。
+     * <p>
+     * {@link InputStream}、{@link Reader}、{@link java.nio.file.Path}、{@code byte[]} のパラメータは
+     * SQLリテラルとして埋め込まず、ストリームのままバインドして送信します。
+     * </p>
      *
      * @param sql SQL文
      * @param params パラメータ
@@ -89,6 +107,9 @@ public class SqlRunner {
     
     /**
      * UPDATE文を実行します。
+     * <p>
+     * ストリーム型のパラメータの扱いは {@link #insert(String, Map)} と同様です。
+     * </p>
      *
      * @param sql SQL文
      * @param params パラメータ
@@ -131,6 +152,223 @@ public class SqlRunner {
         return delegate.deleteBySqlFile(sqlFile, params);
     }
     
+    // ========================================
+    // ResultSet直接読み取りメソッド
+    // ========================================
+    
+    /**
+     * SELECT文を実行し、ResultSet をコールバックで直接読み取ります。
+     * <p>
+     * 行ごとの Map 生成やエンティティ変換を行わないため、
+     * 大量行を独自の形式で集計・変換したい場合に使用します。
+     * BLOB/CLOB 列はコールバック内で {@code getBinaryStream}/{@code getCharacterStream} により
+     * ストリームとして読み取れます。
+     * </p>
+     *
+     * @param <R> 読み取り結果の型
+     * @param sql SQL文
+     * @param params パラメータ
+     * @param callback ResultSet を読み取るコールバック
+     * @return コールバックの戻り値
+     */
+    public <R> R query(String sql, Map<String, Object> params, ResultSetCallback<R> callback) {
+        return delegate.selectWithCallback(sql, params, callback);
+    }
+    
+    /**
+     * 1列目の値を long 配列として取得します。
+     * <p>
+     * ResultSet から直接プリミティブ値を読み取るため、行ごとの Map 生成やボクシングが発生しません。
+     * NULL は JDBC の規約どおり 0 として読み取られます。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 1列目の値の配列
+     */
+    public long[] selectLongs(String sql, Map<String, Object> params) {
+        return query(sql, params, rs -> {
+            long[] values = new long[INITIAL_CAPACITY];
+            int size = 0;
+            while (rs.next()) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = rs.getLong(1);
+            }
+            return Arrays.copyOf(values, size);
+        });
+    }
+    
+    /**
+     * 1列目の値を int 配列として取得します。
+     * <p>
+     * NULL は JDBC の規約どおり 0 として読み取られます。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 1列目の値の配列
+     * @see #selectLongs(String, Map)
+     */
+    public int[] selectInts(String sql, Map<String, Object> params) {
+        return query(sql, params, rs -> {
+            int[] values = new int[INITIAL_CAPACITY];
+            int size = 0;
+            while (rs.next()) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = rs.getInt(1);
+            }
+            return Arrays.copyOf(values, size);
+        });
+    }
+    
+    /**
+     * 1列目の値を double 配列として取得します。
+     * <p>
+     * NULL は JDBC の規約どおり 0.0 として読み取られます。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 1列目の値の配列
+     * @see #selectLongs(String, Map)
+     */
+    public double[] selectDoubles(String sql, Map<String, Object> params) {
+        return query(sql, params, rs -> {
+            double[] values = new double[INITIAL_CAPACITY];
+            int size = 0;
+            while (rs.next()) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = rs.getDouble(1);
+            }
+            return Arrays.copyOf(values, size);
+        });
+    }
+    
+    /**
+     * SELECT文を実行し、結果を列形式で取得します。
+     * <p>
+     * 行ごとの Map を生成せず、列ごとのプリミティブ配列へ直接格納します。
+     * 少数列・大量行を読み込んで列単位に集計する処理に適しています。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 列形式の検索結果
+     */
+    public ColumnarResult selectColumnar(String sql, Map<String, Object> params) {
+        return query(sql, params, ColumnarResult::from);
+    }
+    
+    /**
+     * 1行目・1列目のバイナリ（BLOB 等）をストリームとして読み取り、出力先へ転送します。
+     * <p>
+     * 値をヒープ上の {@code byte[]} に展開せず、{@link java.sql.ResultSet#getBinaryStream(int)} から
+     * 出力先へ直接コピーします。数十MB規模の添付ファイルなどの読み出しに使用します。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @param out 出力先（クローズはしません）
+     * @return 転送したバイト数。行が存在しない場合、または値がNULLの場合は -1
+     */
+    public long readBinaryStream(String sql, Map<String, Object> params, OutputStream out) {
+        return query(sql, params, rs -> {
+            if (!rs.next()) {
+                return -1L;
+            }
+            try (InputStream in = rs.getBinaryStream(1)) {
+                return in != null ? in.transferTo(out) : -1L;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    /**
+     * 1行目・1列目の文字列（CLOB 等）をストリームとして読み取り、出力先へ転送します。
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @param out 出力先（クローズはしません）
+     * @return 転送した文字数。行が存在しない場合、または値がNULLの場合は -1
+     * @see #readBinaryStream(String, Map, OutputStream)
+     */
+    public long readCharacterStream(String sql, Map<String, Object> params, Writer out) {
+        return query(sql, params, rs -> {
+            if (!rs.next()) {
+                return -1L;
+            }
+            try (Reader in = rs.getCharacterStream(1)) {
+                return in != null ? in.transferTo(out) : -1L;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    /**
+     * 1行1列の結果を long 値として取得します。
+     * <p>
+     * NULL は JDBC の規約どおり 0 として読み取られます。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 取得した値
+     * @throws NoResultException 結果が0件の場合
+     * @throws NonUniqueResultException 結果が複数件の場合
+     */
+    public long selectOneLong(String sql, Map<String, Object> params) {
+        long[] values = query(sql, params, rs -> {
+            // 2件目が存在するかのみ確認できればよいため、3件目以降は読まない
+            long[] read = new long[2];
+            int size = 0;
+            while (size < read.length && rs.next()) {
+                read[size++] = rs.getLong(1);
+            }
+            return Arrays.copyOf(read, size);
+        });
+        requireSingleResult(values.length);
+        return values[0];
+    }
+    
+    /**
+     * 1行1列の結果を文字列として取得します。
+     *
+     * @param sql SQL文
+     * @param params パラメータ
+     * @return 取得した値。値がNULLの場合はnull
+     * @throws NoResultException 結果が0件の場合
+     * @throws NonUniqueResultException 結果が複数件の場合
+     */
+    public String selectOneString(String sql, Map<String, Object> params) {
+        String[] values = query(sql, params, rs -> {
+            String[] read = new String[2];
+            int size = 0;
+            while (size < read.length && rs.next()) {
+                read[size++] = rs.getString(1);
+            }
+            return Arrays.copyOf(read, size);
+        });
+        requireSingleResult(values.length);
+        return values[0];
+    }
+    
+    private static void requireSingleResult(int size) {
+        if (size == 0) {
+            throw new NoResultException();
+        }
+        if (size > 1) {
+            throw new NonUniqueResultException("複数の結果が見つかりました");
+        }
+    }
+    
     // ========================================
     // トランザクション制御メソッド
     // ========================================
@@ -150,6 +388,23 @@ public class SqlRunner {
         return transactionManager.execute(PropagationType.REQUIRED, action);
     }
     
+    /**
+     * 読み取り専用のトランザクション内で処理を実行します。
+     * <p>
+     * 新規にトランザクションを開始する場合、コネクションは
+     * {@link RoutingDataSource} のレプリカから取得します。
+     * 既に書き込みのトランザクションがある場合は、そのトランザクション（プライマリ）を使用します。
+     * 処理の中で書き込みを行わないでください。
+     * </p>
+     *
+     * @param <T> 戻り値の型
+     * @param action 実行する処理
+     * @return 処理の結果
+     */
+    public <T> T readOnlyTransaction(Callable<T> action) {
+        return RoutingDataSource.readOnly(() -> transactionManager.execute(PropagationType.REQUIRED, action));
+    }
+    
     /**
      * 指定された伝播タイプでトランザクションを実行します。
      *
@@ -162,6 +417,33 @@ public class SqlRunner {
         return transactionManager.execute(propagationType, action);
     }
     
+    /**
+     * 指定された伝播タイプでトランザクションを実行し、デッドロックなどで失敗した場合は再実行します。
+     * <p>
+     * 処理は複数回呼び出される可能性があるため、トランザクション外への副作用を持たせないでください。
+     * </p>
+     *
+     * @param <T> 戻り値の型
+     * @param propagationType トランザクション伝播タイプ
+     * @param retryPolicy リトライポリシー
+     * @param action 実行する処理
+     * @return 処理の結果
+     * @see TransactionManager#execute(PropagationType, RetryPolicy, Callable)
+     */
+    public <T> T transaction(PropagationType propagationType, RetryPolicy retryPolicy, Callable<T> action) {
+        return transactionManager.execute(propagationType, retryPolicy, action);
+    }
+    
+    /**
+     * データベースのダイアレクトでデッドロックやシリアライゼーション失敗を分類するリトライポリシーを生成します。
+     * 最大試行回数は3回、待機時間は10ミリ秒から1秒です。
+     *
+     * @return リトライポリシー
+     */
+    public RetryPolicy retryPolicy() {
+        return RetryPolicy.forDialect(delegate.getDialect());
+    }
+    
     /**
      * トランザクションマネージャを取得します。
      *
@@ -0,0 +1,297 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+
+/**
+ * 任意のスレッドから登録されたエンティティを溜め、JDBCバッチでまとめてINSERTするバッファです。
+ * <p>
+ * 登録されたエンティティはロックフリーのキューに格納し、件数が {@code batchSize} に達したとき、
+ * または前回の書き込みから {@code flushInterval} が経過したときに、専用のスレッドが
+ * {@link JdbcFlow#batchInsert(List, int)} で1つのトランザクションにまとめて書き込みます。
+ * キューの件数（書き込み中を含む）が {@code capacity} に達すると、登録は空きができるまで待機します。
+ * </p>
+ * <p>
+ * 登録ごとに {@link CompletableFuture} を返し、書き込みが完了すると登録したエンティティで完了します。
+ * バッチの書き込みに失敗した場合は、そのバッチのエンティティを1件ずつ登録し直し、
+ * 失敗したエンティティの {@link CompletableFuture} のみを例外で完了します。
+ * {@link #close()} は新たな登録を拒否し、キューに残ったエンティティをすべて書き込んでから終了します。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * try (WriteBehindBuffer&lt;Event&gt; buffer = jdbcFlow.writeBehind(10_000, 500, Duration.ofMillis(50))) {
+ *     buffer.submit(event).whenComplete((saved, error) -&gt; { ... });
+ * }
+ * </pre>
+ *
+ * @param <T> エンティティの型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class WriteBehindBuffer<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final JdbcFlow jdbcFlow;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final ConcurrentLinkedQueue<Entry<T>> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    /** 書き込み用のスレッド。{@link #open(JdbcFlow, int, int, Duration)} で設定する */
+    private volatile Thread flusher;
+    private volatile boolean closed;
+
+    /**
+     * バッファを構築します。書き込み用のスレッドは {@link #open(JdbcFlow, int, int, Duration)} で開始します。
+     */
+    private WriteBehindBuffer(JdbcFlow jdbcFlow, int capacity, int batchSize, Duration flushInterval) {
+        this.jdbcFlow = jdbcFlow;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.permits = new Semaphore(capacity);
+    }
+
+    /**
+     * バッファを構築し、書き込み用のスレッドを開始します。
+     * <p>
+     * 構築が完了したバッファのみをスレッドから参照させるため、スレッドの開始はコンストラクタの外で行います。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param jdbcFlow 書き込みに使用する {@link JdbcFlow}
+     * @param capacity 書き込み待ちにできるエンティティの最大数
+     * @param batchSize 1回の書き込みにまとめる件数
+     * @param flushInterval 件数が {@code batchSize} に満たない場合に書き込むまでの最大の待ち時間
+     * @return 書き込みを開始したバッファ
+     * @throws IllegalArgumentException 件数が1未満、または待ち時間が正でない場合
+     */
+    public static <T> WriteBehindBuffer<T> open(JdbcFlow jdbcFlow, int capacity, int batchSize,
+            Duration flushInterval) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("capacity と batchSize は1以上を指定してください");
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushInterval は正の値を指定してください");
+        }
+        WriteBehindBuffer<T> buffer = new WriteBehindBuffer<>(jdbcFlow, capacity, batchSize, flushInterval);
+        buffer.flusher = Thread.ofPlatform().name("batisfluid-write-behind").daemon().start(buffer::runFlusher);
+        return buffer;
+    }
+
+    /**
+     * エンティティを書き込み待ちに追加します。キューに空きがない場合は空きができるまで待機します。
+     *
+     * @param entity 登録するエンティティ
+     * @return 書き込みの完了を表す {@link CompletableFuture}
+     * @throws InterruptedException 待機中に割り込まれた場合
+     * @throws FluidIllegalStateException バッファがクローズされている場合
+     */
+    public CompletableFuture<T> submit(T entity) throws InterruptedException {
+        ensureOpen();
+        permits.acquire();
+        return enqueue(entity);
+    }
+
+    /**
+     * エンティティを書き込み待ちに追加します。キューに空きがない場合は指定した時間まで待機します。
+     *
+     * @param entity 登録するエンティティ
+     * @param timeout 最大の待ち時間
+     * @param unit {@code timeout} の単位
+     * @return 書き込みの完了を表す {@link CompletableFuture}。時間内に空きができなかった場合は {@code null}
+     * @throws InterruptedException 待機中に割り込まれた場合
+     * @throws FluidIllegalStateException バッファがクローズされている場合
+     */
+    public CompletableFuture<T> trySubmit(T entity, long timeout, TimeUnit unit) throws InterruptedException {
+        ensureOpen();
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return enqueue(entity);
+    }
+
+    /**
+     * 呼び出し時点でキューにあるエンティティをすべて書き込みます。
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Entry<T>> batch;
+            while (!(batch = poll()).isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 書き込み待ちのエンティティの件数（書き込み中を除く）を返します。
+     *
+     * @return 書き込み待ちの件数
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 書き込みに成功したエンティティの件数を返します。
+     *
+     * @return 書き込みに成功した件数
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * 書き込みに失敗したエンティティの件数を返します。
+     *
+     * @return 書き込みに失敗した件数
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 新たな登録を拒否し、キューに残ったエンティティをすべて書き込んでから書き込み用のスレッドを終了します。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusher);
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        flush();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new FluidIllegalStateException("WriteBehindBuffer はクローズされています");
+        }
+    }
+
+    private CompletableFuture<T> enqueue(T entity) {
+        Entry<T> entry = new Entry<>(entity);
+        queue.offer(entry);
+        if (pending.incrementAndGet() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        if (closed) {
+            // クローズ後に追加された場合も取り残さないよう、登録したスレッドで書き込む
+            flush();
+        }
+        return entry.future;
+    }
+
+    private void runFlusher() {
+        long lastFlush = System.nanoTime();
+        while (true) {
+            long waitNanos = lastFlush + flushIntervalNanos - System.nanoTime();
+            while (!closed && pending.get() < batchSize && waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                waitNanos = lastFlush + flushIntervalNanos - System.nanoTime();
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("書き込み待ちのエンティティの書き込みに失敗しました", e);
+            }
+            lastFlush = System.nanoTime();
+            if (closed && queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private List<Entry<T>> poll() {
+        List<Entry<T>> batch = new ArrayList<>(Math.min(batchSize, Math.max(pending.get(), 1)));
+        Entry<T> entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        pending.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void write(List<Entry<T>> batch) {
+        try {
+            List<T> entities = new ArrayList<>(batch.size());
+            for (Entry<T> entry : batch) {
+                entities.add(entry.entity);
+            }
+            try {
+                jdbcFlow.batchInsert(entities, batchSize);
+                writtenCount.addAndGet(batch.size());
+                for (Entry<T> entry : batch) {
+                    entry.future.complete(entry.entity);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("バッチの書き込みに失敗したため、1件ずつ書き込みます: {} 件", batch.size(), e);
+                for (Entry<T> entry : batch) {
+                    writeOne(entry);
+                }
+            }
+        } finally {
+            permits.release(batch.size());
+        }
+    }
+
+    private void writeOne(Entry<T> entry) {
+        try {
+            jdbcFlow.insert(entry.entity);
+            writtenCount.incrementAndGet();
+            entry.future.complete(entry.entity);
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            logger.warn("エンティティの書き込みに失敗しました: {}", entry.entity, e);
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 書き込み待ちのエンティティと、その完了を通知する {@link CompletableFuture} です。
+     */
+    private static final class Entry<T> {
+        private final T entity;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Entry(T entity) {
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.entity;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 検索したエンティティのカラム値のスナップショットを保持し、変更されたカラムを判定するクラスです。
+ * <p>
+ * エンティティはインスタンスの同一性で識別するため、{@code equals}/{@code hashCode} が
+ * フィールド値に依存するエンティティでも、値を変更した後に同じスナップショットを参照できます。
+ * エンティティへの参照は弱参照で保持し、使用されなくなったエンティティのスナップショットは
+ * 自動的に破棄されます。スレッドセーフです。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class DirtyTracker {
+
+    private final Map<IdentityKey, Map<String, Object>> snapshots = new HashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * エンティティの現在のカラム値をスナップショットとして記録します。
+     * 既に記録されている場合は上書きします。
+     *
+     * @param entity エンティティ
+     * @param values カラム名と値のマップ
+     */
+    public synchronized void snapshot(Object entity, Map<String, Object> values) {
+        expungeStaleEntries();
+        snapshots.put(new IdentityKey(entity, queue), new HashMap<>(values));
+    }
+
+    /**
+     * スナップショットと比較して、値が変更されたカラムを返します。
+     *
+     * @param entity エンティティ
+     * @param values 現在のカラム名と値のマップ
+     * @return 変更されたカラム名。スナップショットが記録されていない場合は {@code null}
+     */
+    public synchronized Set<String> getChangedColumns(Object entity, Map<String, Object> values) {
+        expungeStaleEntries();
+        Map<String, Object> snapshot = snapshots.get(new IdentityKey(entity, null));
+        if (snapshot == null) {
+            return null;
+        }
+        Set<String> changed = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String column = entry.getKey();
+            // byte[] などの配列も内容で比較する
+            if (!snapshot.containsKey(column) || !Objects.deepEquals(snapshot.get(column), entry.getValue())) {
+                changed.add(column);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * エンティティのスナップショットが記録されているかを判定します。
+     *
+     * @param entity エンティティ
+     * @return 記録されている場合は {@code true}
+     */
+    public synchronized boolean isTracked(Object entity) {
+        return snapshots.containsKey(new IdentityKey(entity, null));
+    }
+
+    /**
+     * エンティティのスナップショットを破棄します。
+     *
+     * @param entity エンティティ
+     */
+    public synchronized void forget(Object entity) {
+        snapshots.remove(new IdentityKey(entity, null));
+    }
+
+    /**
+     * 記録されているスナップショットの件数を返します。
+     *
+     * @return スナップショットの件数
+     */
+    public synchronized int size() {
+        expungeStaleEntries();
+        return snapshots.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    /**
+     * エンティティを同一性で識別する弱参照のキーです。
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityKey(Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) obj).get();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 一括更新で楽観的排他制御に失敗した行があった場合にスローされる例外です。
+ * <p>
+ * 競合したすべてのエンティティを保持します。{@link #getEntity()} は最初に競合したエンティティを返します。
+ * </p>
+ * 
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class BatchOptimisticLockException extends OptimisticLockException {
+
+    private final List<?> conflicts;
+
+    /**
+     * 一括更新の楽観的排他制御の例外を生成します。
+     * 
+     * @param message エラーメッセージ
+     * @param conflicts 競合したエンティティのリスト（1件以上）
+     * @param properties 更新対象のプロパティ名
+     */
+    public BatchOptimisticLockException(String message, List<?> conflicts, String... properties) {
+        super(message, conflicts.get(0), properties);
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * 競合したエンティティを取得します。
+     * 
+     * @return 競合したエンティティのリスト（元の順序）
+     */
+    public List<?> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import jp.vemi.batisfluid.sql.ParameterBinder;
+
+/**
+ * JDBCバッチのINSERT文で行を投入する、データベースに依存しない {@link BulkIngestEngine} の実装です。
+ * <p>
+ * ネイティブの一括投入APIを使用できない場合の代替として使用します。
+ * 行は {@code batchSize} 件ごとに {@code executeBatch} で送信するため、
+ * メモリ上に保持する行はバッチ1回分に限られます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class BatchInsertIngestEngine implements BulkIngestEngine {
+
+    /**
+     * 1回の送信にまとめるデフォルトの件数です。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final int batchSize;
+
+    /**
+     * デフォルトのバッチサイズでエンジンを構築します。
+     */
+    public BatchInsertIngestEngine() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * バッチサイズを指定してエンジンを構築します。
+     *
+     * @param batchSize 1回の送信にまとめる件数
+     * @throws IllegalArgumentException batchSize が1未満の場合
+     */
+    public BatchInsertIngestEngine(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("バッチサイズには1以上を指定してください: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public long ingest(Connection connection, String tableName, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException {
+        String sql = "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        long total = 0;
+        int pending = 0;
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            while (rows.hasNext()) {
+                binder.bindAll(statement, Arrays.asList(rows.next()));
+                statement.addBatch();
+                if (++pending >= batchSize) {
+                    statement.executeBatch();
+                    total += pending;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                total += pending;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 大量の行をテーブルへ一括投入するエンジンのインタフェースです。
+ * <p>
+ * 実装クラスはデータベース固有の高速な経路（PostgreSQL の {@code COPY}、SQL Server の
+ * {@code SQLServerBulkCopy} など）で行を送信します。行は {@link Iterator} から1行ずつ読み取り、
+ * すべての行をメモリ上に展開せずに送信してください。
+ * 標準の実装は {@link BulkIngestEngineResolver} でコネクションから選択できます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public interface BulkIngestEngine {
+
+    /**
+     * 行をテーブルへ一括投入します。
+     * <p>
+     * コネクションは呼び出し側のトランザクションが管理するため、クローズやコミットを行わないでください。
+     * </p>
+     *
+     * @param connection 使用するコネクション
+     * @param tableName 投入先のテーブル名
+     * @param columns 投入するカラム名
+     * @param rows 投入する行（各要素は {@code columns} と同じ順序の値）
+     * @return 投入した行数
+     * @throws SQLException 投入に失敗した場合
+     */
+    long ingest(Connection connection, String tableName, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException;
+}
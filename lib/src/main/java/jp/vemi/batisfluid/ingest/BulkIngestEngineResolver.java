@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * コネクションのデータベース製品とドライバから、最も高速な {@link BulkIngestEngine} を選択するユーティリティです。
+ * <p>
+ * PostgreSQL では {@link PostgresCopyIngestEngine}、SQL Server では {@link SqlServerBulkCopyIngestEngine} を
+ * 選択します。ドライバのクラスが見つからない場合や、その他のデータベースでは
+ * {@link BatchInsertIngestEngine} を返します。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public final class BulkIngestEngineResolver {
+
+    private BulkIngestEngineResolver() {
+    }
+
+    /**
+     * コネクションに適した {@link BulkIngestEngine} を選択します。
+     *
+     * @param connection 使用するコネクション
+     * @return 一括投入エンジン
+     * @throws SQLException データベースのメタデータを取得できなかった場合
+     */
+    public static BulkIngestEngine resolve(Connection connection) throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        String normalized = productName != null ? productName.toLowerCase() : "";
+        if (normalized.contains("postgres") && isPresent("org.postgresql.copy.CopyManager")
+                && connection.isWrapperFor(org.postgresql.PGConnection.class)) {
+            return new PostgresCopyIngestEngine();
+        }
+        if (normalized.contains("sql server") && isPresent("com.microsoft.sqlserver.jdbc.SQLServerBulkCopy")
+                && connection.isWrapperFor(com.microsoft.sqlserver.jdbc.SQLServerConnection.class)) {
+            return new SqlServerBulkCopyIngestEngine();
+        }
+        return new BatchInsertIngestEngine();
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, BulkIngestEngineResolver.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import jp.vemi.batisfluid.entity.EntityOperations;
+import jp.vemi.batisfluid.exception.FluidException;
+import jp.vemi.batisfluid.meta.FluidColumn;
+
+/**
+ * エンティティを {@link BulkIngestEngine} に渡す行（カラム値の配列）へ変換するクラスです。
+ * <p>
+ * {@link FluidColumn} アノテーションを優先し、存在しない場合は旧
+ * {@link jp.vemi.seasarbatis.core.meta.SBColumnMeta} からカラム名を解決します。
+ * 先頭のエンティティで値が {@code null} の主キーカラムは自動採番とみなし、投入対象から除外します。
+ * フィールドの解決はインスタンス生成時に1回だけ行い、各行はイテレータから取り出す時点で変換するため、
+ * データ全体をメモリに保持することはありません。
+ * </p>
+ *
+ * @param <T> エンティティの型
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class EntityRowMapper<T> {
+
+    private final String tableName;
+    private final List<String> columns;
+    private final List<Field> fields;
+
+    /**
+     * エンティティクラスと先頭のエンティティから変換対象のカラムを解決します。
+     *
+     * @param entityClass エンティティクラス
+     * @param first 先頭のエンティティ。{@code null} の場合は主キーも含めた全カラムを対象とします
+     */
+    public EntityRowMapper(Class<T> entityClass, T first) {
+        this.tableName = EntityOperations.getTableName(entityClass);
+        List<String> columnNames = new ArrayList<>();
+        List<Field> columnFields = new ArrayList<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            String columnName;
+            boolean primaryKey;
+            FluidColumn fluidColumn = field.getAnnotation(FluidColumn.class);
+            if (fluidColumn != null) {
+                columnName = fluidColumn.name();
+                primaryKey = fluidColumn.primaryKey();
+            } else {
+                jp.vemi.seasarbatis.core.meta.SBColumnMeta columnMeta =
+                        field.getAnnotation(jp.vemi.seasarbatis.core.meta.SBColumnMeta.class);
+                if (columnMeta == null) {
+                    continue;
+                }
+                columnName = columnMeta.name();
+                primaryKey = columnMeta.primaryKey();
+            }
+            field.setAccessible(true);
+            if (primaryKey && first != null && read(field, first) == null) {
+                continue;
+            }
+            columnNames.add(columnName);
+            columnFields.add(field);
+        }
+        if (columnNames.isEmpty()) {
+            throw new FluidException("カラムメタ情報が見つかりません: " + entityClass.getName());
+        }
+        this.columns = Collections.unmodifiableList(columnNames);
+        this.fields = columnFields;
+    }
+
+    /**
+     * 投入先のテーブル名を返します。
+     *
+     * @return テーブル名
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 投入対象のカラム名を返します。
+     *
+     * @return カラム名のリスト
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * エンティティを {@link #getColumns()} の順のカラム値の配列へ変換します。
+     *
+     * @param entity エンティティ
+     * @return カラム値の配列
+     */
+    public Object[] toRow(T entity) {
+        Object[] row = new Object[fields.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = read(fields.get(i), entity);
+        }
+        return row;
+    }
+
+    /**
+     * エンティティのイテレータを、取り出す時点で行へ変換するイテレータに包みます。
+     *
+     * @param first 先頭のエンティティ（{@code entities} から既に取り出したもの）
+     * @param entities 残りのエンティティのイテレータ
+     * @return 行のイテレータ
+     */
+    public Iterator<Object[]> rows(T first, Iterator<? extends T> entities) {
+        return new Iterator<>() {
+            private boolean firstPending = true;
+
+            @Override
+            public boolean hasNext() {
+                return firstPending || entities.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                if (firstPending) {
+                    firstPending = false;
+                    return toRow(first);
+                }
+                if (!entities.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return toRow(entities.next());
+            }
+        };
+    }
+
+    private static Object read(Field field, Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new FluidException("パラメータの取得に失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * PostgreSQL の {@code COPY ... FROM STDIN} で行を投入する {@link BulkIngestEngine} の実装です。
+ * <p>
+ * 行をCSV形式に変換し、{@link org.postgresql.copy.CopyManager} へ一定サイズごとに書き込みます。
+ * NULL は引用符なしの空文字列、文字列は常に二重引用符で囲むため、空文字列とNULLを区別できます。
+ * {@code byte[]} は bytea の16進数形式（{@code \x...}）で送信します。
+ * PostgreSQL JDBC ドライバがクラスパスに存在する場合のみ使用できます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class PostgresCopyIngestEngine implements BulkIngestEngine {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public long ingest(Connection connection, String tableName, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException {
+        String sql = "COPY " + tableName + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+            while (rows.hasNext()) {
+                appendRow(buffer, rows.next());
+                if (buffer.length() >= BUFFER_SIZE) {
+                    write(copyIn, buffer);
+                }
+            }
+            if (buffer.length() > 0) {
+                write(copyIn, buffer);
+            }
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * 1行分の値をCSV形式で追加します。
+     *
+     * @param buffer 追加先
+     * @param row 行の値
+     */
+    static void appendRow(StringBuilder buffer, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = row[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                buffer.append(value);
+            } else if (value instanceof byte[]) {
+                buffer.append("\\x");
+                for (byte b : (byte[]) value) {
+                    buffer.append(HEX[(b >> 4) & 0x0f]).append(HEX[b & 0x0f]);
+                }
+            } else {
+                String text = value instanceof Date && !(value instanceof java.sql.Date)
+                        && !(value instanceof java.sql.Time) && !(value instanceof Timestamp)
+                                ? new Timestamp(((Date) value).getTime()).toString()
+                                : value.toString();
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            }
+        }
+        buffer.append('\n');
+    }
+}
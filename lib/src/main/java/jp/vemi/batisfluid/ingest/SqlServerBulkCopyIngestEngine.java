@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+/**
+ * SQL Server の {@link SQLServerBulkCopy} で行を投入する {@link BulkIngestEngine} の実装です。
+ * <p>
+ * 行は {@link ISQLServerBulkData} を通じて1行ずつドライバへ渡します。
+ * カラムの型・精度・スケールは投入先テーブルのメタデータから取得します。
+ * 呼び出し側のトランザクション内で実行し、IDENTITY 列に値を指定した場合はその値を使用します。
+ * Microsoft JDBC Driver for SQL Server がクラスパスに存在する場合のみ使用できます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class SqlServerBulkCopyIngestEngine implements BulkIngestEngine {
+
+    private final int batchSize;
+
+    /**
+     * デフォルトのバッチサイズ（{@link BatchInsertIngestEngine#DEFAULT_BATCH_SIZE}）でエンジンを構築します。
+     */
+    public SqlServerBulkCopyIngestEngine() {
+        this(BatchInsertIngestEngine.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * サーバーへ1回に送信する行数を指定してエンジンを構築します。
+     *
+     * @param batchSize 1回に送信する行数
+     */
+    public SqlServerBulkCopyIngestEngine(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public long ingest(Connection connection, String tableName, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException {
+        int[] types = new int[columns.size()];
+        int[] precisions = new int[columns.size()];
+        int[] scales = new int[columns.size()];
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT " + String.join(", ", columns) + " FROM " + tableName + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            for (int i = 0; i < columns.size(); i++) {
+                types[i] = metaData.getColumnType(i + 1);
+                precisions[i] = metaData.getPrecision(i + 1);
+                scales[i] = metaData.getScale(i + 1);
+            }
+        }
+
+        StreamingBulkData data = new StreamingBulkData(columns, types, precisions, scales, rows);
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+            options.setBatchSize(batchSize);
+            options.setKeepIdentity(true);
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(tableName);
+            for (int i = 0; i < columns.size(); i++) {
+                bulkCopy.addColumnMapping(i + 1, columns.get(i));
+            }
+            bulkCopy.writeToServer(data);
+        }
+        return data.count;
+    }
+
+    /**
+     * {@link Iterator} の行を1行ずつドライバへ渡す {@link ISQLServerBulkData} の実装です。
+     */
+    private static final class StreamingBulkData implements ISQLServerBulkData {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> columns;
+        private final int[] types;
+        private final int[] precisions;
+        private final int[] scales;
+        private final transient Iterator<Object[]> rows;
+        private transient Object[] current;
+        private long count;
+
+        StreamingBulkData(List<String> columns, int[] types, int[] precisions, int[] scales,
+                Iterator<Object[]> rows) {
+            this.columns = columns;
+            this.types = types;
+            this.precisions = precisions;
+            this.scales = scales;
+            this.rows = rows;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int i = 1; i <= columns.size(); i++) {
+                ordinals.add(i);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.get(column - 1);
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return types[column - 1];
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return precisions[column - 1];
+        }
+
+        @Override
+        public int getScale(int column) {
+            return scales[column - 1];
+        }
+
+        @Override
+        public Object[] getRowData() {
+            return current;
+        }
+
+        @Override
+        public boolean next() {
+            if (!rows.hasNext()) {
+                current = null;
+                return false;
+            }
+            current = rows.next();
+            count++;
+            return true;
+        }
+    }
+}
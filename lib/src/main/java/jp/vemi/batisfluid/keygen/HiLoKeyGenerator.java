@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * hi/lo 方式でキーをブロック単位に割り当てる {@link KeyGenerator} の実装です。
+ * <p>
+ * {@link HiValueSource} から上位値 {@code hi} を1回取得するたびに、
+ * {@code hi * blockSize} から {@code hi * blockSize + blockSize - 1} までの {@code blockSize} 件のキーを確保し、
+ * データベースへ問い合わせずに順に払い出します。払い出しはロックを使用せず、
+ * ブロックを使い切ったときのみ1つのスレッドが次のブロックを取得します。
+ * 使われずに終了したブロックの残りのキーは欠番になります。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class HiLoKeyGenerator implements KeyGenerator {
+
+    private final HiValueSource source;
+    private final int blockSize;
+    private volatile Block current = new Block(0, 0);
+
+    /**
+     * キー生成器を構築します。
+     *
+     * @param source 上位値の払い出し元
+     * @param blockSize 1回の問い合わせで確保するキーの件数
+     * @throws IllegalArgumentException {@code blockSize} が1未満の場合
+     */
+    public HiLoKeyGenerator(HiValueSource source, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize は1以上を指定してください");
+        }
+        this.source = source;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long nextKey() {
+        while (true) {
+            Block block = current;
+            long key = block.next.getAndIncrement();
+            if (key < block.end) {
+                return key;
+            }
+            allocate(block);
+        }
+    }
+
+    /**
+     * 1ブロックで確保するキーの件数を返します。
+     *
+     * @return ブロックの件数
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private synchronized void allocate(Block exhausted) {
+        // 他のスレッドが既に次のブロックを取得していれば何もしない
+        if (current != exhausted) {
+            return;
+        }
+        long start = Math.multiplyExact(source.nextHi(), (long) blockSize);
+        current = new Block(start, start + blockSize);
+    }
+
+    /**
+     * 払い出し中のキーの範囲です。
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
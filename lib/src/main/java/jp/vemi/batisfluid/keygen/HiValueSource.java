@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+/**
+ * {@link HiLoKeyGenerator} がキーのブロックを割り当てるための上位値（hi）を払い出すインターフェースです。
+ * <p>
+ * 払い出す値は、呼び出しのたびに単調に増加し、複数のプロセスの間でも重複してはなりません。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ * @see SequenceHiValueSource
+ * @see TableHiValueSource
+ */
+@FunctionalInterface
+public interface HiValueSource {
+
+    /**
+     * 次の上位値を払い出します。
+     *
+     * @return 上位値（0以上）
+     */
+    long nextHi();
+}
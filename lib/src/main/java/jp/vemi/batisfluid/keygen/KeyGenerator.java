@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+/**
+ * 登録前のエンティティに設定する主キーの値を生成するインターフェースです。
+ * <p>
+ * {@link jp.vemi.batisfluid.core.JdbcFlow#registerKeyGenerator(String, KeyGenerator)} で名前を付けて登録し、
+ * {@link jp.vemi.batisfluid.meta.FluidColumn#keyGenerator()} でその名前を指定した主キーに使用します。
+ * 実装は複数のスレッドから同時に呼び出されるため、スレッドセーフである必要があります。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+@FunctionalInterface
+public interface KeyGenerator {
+
+    /**
+     * 次のキーを生成します。
+     *
+     * @return 生成したキー
+     */
+    long nextKey();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+import jp.vemi.batisfluid.core.JdbcFlow;
+
+/**
+ * データベースのシーケンスから上位値を払い出す {@link HiValueSource} の実装です。
+ * <p>
+ * シーケンスの次の値を取得するSQLは Dialect から取得します。
+ * シーケンスは {@code INCREMENT BY 1} で作成してください。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class SequenceHiValueSource implements HiValueSource {
+
+    private final JdbcFlow jdbcFlow;
+    private final String sequenceName;
+
+    /**
+     * シーケンスを使用する払い出し元を構築します。
+     *
+     * @param jdbcFlow 問い合わせに使用する {@link JdbcFlow}
+     * @param sequenceName シーケンス名
+     */
+    public SequenceHiValueSource(JdbcFlow jdbcFlow, String sequenceName) {
+        this.jdbcFlow = jdbcFlow;
+        this.sequenceName = sequenceName;
+    }
+
+    @Override
+    public long nextHi() {
+        return jdbcFlow.getDelegate().nextSequenceValue(sequenceName);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.vemi.batisfluid.core.JdbcFlow;
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
+
+/**
+ * キー管理テーブルの行から上位値を払い出す {@link HiValueSource} の実装です。
+ * <p>
+ * シーケンスを持たないデータベース向けに、キーの名前と次の上位値を保持するテーブルを使用します。
+ * 払い出しは独立したトランザクションで行を更新してから読み取るため、
+ * 行ロックにより複数のプロセスの間でも値は重複しません。呼び出し元のトランザクションには影響しません。
+ * 行はあらかじめ登録しておく必要があります。
+ * </p>
+ *
+ * <pre>
+ * CREATE TABLE key_blocks (key_name VARCHAR(100) PRIMARY KEY, next_hi BIGINT NOT NULL);
+ * INSERT INTO key_blocks VALUES ('orders', 0);
+ * </pre>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class TableHiValueSource implements HiValueSource {
+
+    /** キーの名前を保持するカラムの既定名 */
+    public static final String DEFAULT_KEY_COLUMN = "key_name";
+
+    /** 上位値を保持するカラムの既定名 */
+    public static final String DEFAULT_VALUE_COLUMN = "next_hi";
+
+    private final SBJdbcManager jdbcManager;
+    private final String keyName;
+    private final String updateSql;
+    private final String selectSql;
+
+    /**
+     * 既定のカラム名（{@value #DEFAULT_KEY_COLUMN}、{@value #DEFAULT_VALUE_COLUMN}）のテーブルを使用する払い出し元を構築します。
+     *
+     * @param jdbcFlow 問い合わせに使用する {@link JdbcFlow}
+     * @param tableName キー管理テーブル名
+     * @param keyName キーの名前
+     */
+    public TableHiValueSource(JdbcFlow jdbcFlow, String tableName, String keyName) {
+        this(jdbcFlow, tableName, DEFAULT_KEY_COLUMN, DEFAULT_VALUE_COLUMN, keyName);
+    }
+
+    /**
+     * カラム名を指定して払い出し元を構築します。
+     *
+     * @param jdbcFlow 問い合わせに使用する {@link JdbcFlow}
+     * @param tableName キー管理テーブル名
+     * @param keyColumn キーの名前を保持するカラム名
+     * @param valueColumn 上位値を保持するカラム名
+     * @param keyName キーの名前
+     */
+    public TableHiValueSource(JdbcFlow jdbcFlow, String tableName, String keyColumn, String valueColumn,
+            String keyName) {
+        this.jdbcManager = jdbcFlow.getDelegate();
+        this.keyName = keyName;
+        this.updateSql = "UPDATE " + tableName + " SET " + valueColumn + " = " + valueColumn + " + 1 WHERE "
+                + keyColumn + " = /*keyName*/'x'";
+        this.selectSql = "SELECT " + valueColumn + " FROM " + tableName + " WHERE " + keyColumn
+                + " = /*keyName*/'x'";
+    }
+
+    @Override
+    public long nextHi() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("keyName", keyName);
+        return jdbcManager.getTransactionManager().executeWithTransaction(true, () -> {
+            if (jdbcManager.update(updateSql, params) == 0) {
+                throw new FluidIllegalStateException("キー管理テーブルに行がありません: " + keyName);
+            }
+            return jdbcManager.selectWithCallback(selectSql, params, resultSet -> {
+                resultSet.next();
+                return resultSet.getLong(1);
+            });
+        });
+    }
+}
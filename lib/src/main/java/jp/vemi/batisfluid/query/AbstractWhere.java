@@ -179,8 +179,26 @@ public class AbstractWhere<T extends AbstractWhere<T>> implements Where {
     @Override
     public String getWhereSql() {
         StringBuilder sql = new StringBuilder();
-        if (!conditions.isEmpty()) {
-            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        if (conditions.isEmpty()) {
+            return "";
+        }
+        sql.append(" WHERE ");
+        boolean connected = true;
+        for (String condition : conditions) {
+            if ("OR".equals(condition)) {
+                sql.append(" OR ");
+                connected = true;
+            } else if (condition.startsWith("AND ") || condition.startsWith("OR ")) {
+                // and(column, value)/or(column, value) は結合子を含めて登録している
+                sql.append(" ").append(condition);
+                connected = false;
+            } else {
+                if (!connected) {
+                    sql.append(" AND ");
+                }
+                sql.append(condition);
+                connected = false;
+            }
         }
         return sql.toString();
     }
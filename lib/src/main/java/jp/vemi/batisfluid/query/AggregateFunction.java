@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.query;
+
+/**
+ * 集約関数を表す列挙型。
+ * <p>
+ * {@link SelectBuilder#aggregate(AggregateFunction, String, Class)} などで使用し、
+ * データベース側で集計した結果のみを取得します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum AggregateFunction {
+    /** 件数 */
+    COUNT("COUNT"),
+    /** 合計 */
+    SUM("SUM"),
+    /** 最小値 */
+    MIN("MIN"),
+    /** 最大値 */
+    MAX("MAX"),
+    /** 平均値 */
+    AVG("AVG");
+
+    private final String sql;
+
+    AggregateFunction(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * 指定したカラムに対する集約式を返します。
+     *
+     * @param column カラム名。COUNT の場合は "*" も指定可能
+     * @return 集約式（例: "SUM(amount)"）
+     */
+    public String toSql(String column) {
+        return sql + "(" + column + ")";
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
 
 /**
@@ -51,8 +52,14 @@ public class DeleteBuilder<E> implements WhereCapable<DeleteBuilder<E>> {
         StringBuilder sql = new StringBuilder();
         sql.append("DELETE FROM ").append(getTableName(entityClass));
 
+        // Where#build() は " WHERE " を含む
         if (where != null) {
-            sql.append(" WHERE ").append(where.build());
+            // 条件の指定漏れで全件が対象になることを防ぐ
+            if (!where.hasConditions()) {
+                throw new FluidIllegalStateException(
+                        "WHERE条件が指定されていません。全件を対象とする場合は where() を呼び出さないでください");
+            }
+            sql.append(where.build());
             parameters.putAll(where.getParameters());
         }
 
@@ -81,6 +88,7 @@ public class DeleteBuilder<E> implements WhereCapable<DeleteBuilder<E>> {
      * DELETE文を実行します。
      *
      * @return 削除された行数
+     * @throws FluidIllegalStateException {@code where()} で条件を1つも指定しなかった場合
      */
     public int execute() {
         return jdbcManager.delete(build(), getParameters());
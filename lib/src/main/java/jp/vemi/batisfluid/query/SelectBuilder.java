@@ -3,16 +3,31 @@
  */
 package jp.vemi.batisfluid.query;
 
+import static jp.vemi.batisfluid.entity.EntityOperations.getPrimaryKeyInfo;
 import static jp.vemi.batisfluid.entity.EntityOperations.getTableName;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import jp.vemi.batisfluid.entity.PrimaryKeyInfo;
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.batisfluid.exception.NonUniqueResultException;
 import jp.vemi.batisfluid.sql.SqlFormatter;
+import jp.vemi.seasarbatis.core.sql.dialect.PostgresDialect;
+import jp.vemi.seasarbatis.core.sql.dialect.SBDialect;
+import jp.vemi.seasarbatis.core.util.SBTypeConverterUtils;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
 
 /**
@@ -27,6 +42,17 @@ import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
  *     .where(w -&gt; w.eq("status", "ACTIVE"))
  *     .orderBy("created_at", OrderDirection.DESC)
  *     .getResultList();
+ *
+ * // 必要なカラムのみを取得してDTO（レコード可）へマッピング
+ * List&lt;UserSummary&gt; summaries = selectBuilder
+ *     .select("id", "name")
+ *     .getResultList(UserSummary.class);
+ *
+ * // 件数・存在確認・集計はデータベース側で実行
+ * long active = selectBuilder.where(w -&gt; w.eq("status", "ACTIVE")).count();
+ *
+ * // 主キー順のキーセットページングで全件を走査
+ * selectBuilder.iterateChunks(1000).forEachRemaining(chunk -&gt; process(chunk));
  * </pre>
  *
  * @param <E> エンティティの型
@@ -35,9 +61,16 @@ import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
  */
 public class SelectBuilder<E> implements WhereCapable<SelectBuilder<E>>, OrderByCapable<SelectBuilder<E>> {
 
+    /** 集約結果の列別名 */
+    private static final String AGGREGATE_ALIAS = "agg_value";
+
+    /** グループ化カラムの列別名 */
+    private static final String GROUP_ALIAS = "group_key";
+
     private final SBJdbcManager jdbcManager;
     private final Class<E> entityClass;
     private Where where;
+    private final List<String> selectColumns = new ArrayList<>();
     private final List<String> orderByList = new ArrayList<>();
     private final Map<String, Object> parameters = new HashMap<>();
 
@@ -52,10 +85,27 @@ public class SelectBuilder<E> implements WhereCapable<SelectBuilder<E>>, OrderBy
         this.entityClass = entityClass;
     }
 
+    /**
+     * 取得するカラムを指定します。
+     * <p>
+     * 指定しない場合は {@code SELECT *} となります。
+     * 幅の広いテーブルで必要なカラムのみを転送・マッピングしたい場合に使用します。
+     * 再度呼び出した場合は、指定内容を置き換えます。
+     * </p>
+     *
+     * @param columns カラム名（{@code "name AS user_name"} のような別名指定も可）
+     * @return このインスタンス
+     */
+    public SelectBuilder<E> select(String... columns) {
+        selectColumns.clear();
+        selectColumns.addAll(Arrays.asList(columns));
+        return this;
+    }
+
     @Override
     public String build() {
         StringBuilder sql = new StringBuilder();
-        sql.append("SELECT * FROM ").append(getTableName(entityClass));
+        sql.append("SELECT ").append(buildSelectList(false)).append(" FROM ").append(getTableName(entityClass));
 
         if (where != null && !where.build().isEmpty()) {
             sql.append(where.build());
@@ -104,7 +154,22 @@ public class SelectBuilder<E> implements WhereCapable<SelectBuilder<E>>, OrderBy
      * @return エンティティのリスト
      */
     public List<E> getResultList() {
-        return jdbcManager.selectBySql(build(), getParameters(), entityClass).getResultList();
+        return getResultList(entityClass);
+    }
+
+    /**
+     * クエリを実行し、結果を指定したクラスにマッピングしたリストを返します。
+     * <p>
+     * {@link #select(String...)} と組み合わせることで、必要なカラムのみを
+     * DTO やレコードクラスに射影できます。
+     * </p>
+     *
+     * @param <R> 結果の型
+     * @param resultType 結果のマッピング先クラス（DTO、レコード、Map など）
+     * @return 結果のリスト
+     */
+    public <R> List<R> getResultList(Class<R> resultType) {
+        return jdbcManager.selectBySql(build(), getParameters(), resultType).getResultList();
     }
 
     /**
@@ -114,7 +179,19 @@ public class SelectBuilder<E> implements WhereCapable<SelectBuilder<E>>, OrderBy
      * @throws NonUniqueResultException 複数の結果が存在する場合
      */
     public E getSingleResult() {
-        List<E> results = getResultList();
+        return getSingleResult(entityClass);
+    }
+
+    /**
+     * クエリを実行し、単一の結果を指定したクラスにマッピングして返します。
+     *
+     * @param <R> 結果の型
+     * @param resultType 結果のマッピング先クラス
+     * @return 結果。存在しない場合はnull
+     * @throws NonUniqueResultException 複数の結果が存在する場合
+     */
+    public <R> R getSingleResult(Class<R> resultType) {
+        List<R> results = getResultList(resultType);
         if (results.isEmpty()) {
             return null;
         }
@@ -123,4 +200,350 @@ public class SelectBuilder<E> implements WhereCapable<SelectBuilder<E>>, OrderBy
         }
         return results.get(0);
     }
+
+    /**
+     * 条件に一致する件数を返します。
+     * <p>
+     * {@code SELECT COUNT(*)} をデータベースで実行し、行データは転送しません。
+     * </p>
+     *
+     * @return 件数
+     */
+    public long count() {
+        Number count = aggregate(AggregateFunction.COUNT, "*", Long.class);
+        return count != null ? count.longValue() : 0L;
+    }
+
+    /**
+     * 条件に一致する行が存在するかを返します。
+     * <p>
+     * 最初の1行が見つかった時点で検索を打ち切れるよう、件数上限1の {@code SELECT 1} を発行します。
+     * </p>
+     *
+     * @return 存在する場合はtrue
+     */
+    public boolean exists() {
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        String sql = "SELECT 1 FROM " + getTableName(entityClass) + buildWhereSql(queryParams);
+        return !selectRows(resolveDialect().limit(SqlFormatter.simplify(sql), 1), queryParams).isEmpty();
+    }
+
+    /**
+     * 条件に一致する行に対して集約関数を実行し、結果を返します。
+     *
+     * @param <R>        結果の型
+     * @param function   集約関数
+     * @param column     集約対象のカラム名
+     * @param resultType 結果の型（Long、BigDecimal など）
+     * @return 集約結果。対象行が存在しない場合はnullとなることがあります
+     */
+    public <R> R aggregate(AggregateFunction function, String column, Class<R> resultType) {
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        String sql = "SELECT " + function.toSql(column) + " AS " + AGGREGATE_ALIAS + " FROM "
+                + getTableName(entityClass) + buildWhereSql(queryParams);
+        List<Map<String, Object>> rows = selectRows(SqlFormatter.simplify(sql), queryParams);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return toResultType(getIgnoreCase(rows.get(0), AGGREGATE_ALIAS), resultType);
+    }
+
+    /**
+     * 指定したカラムの合計値を返します。
+     *
+     * @param <R>        結果の型
+     * @param column     カラム名
+     * @param resultType 結果の型
+     * @return 合計値。対象行が存在しない場合はnull
+     */
+    public <R> R sum(String column, Class<R> resultType) {
+        return aggregate(AggregateFunction.SUM, column, resultType);
+    }
+
+    /**
+     * 指定したカラムの最小値を返します。
+     *
+     * @param <R>        結果の型
+     * @param column     カラム名
+     * @param resultType 結果の型
+     * @return 最小値。対象行が存在しない場合はnull
+     */
+    public <R> R min(String column, Class<R> resultType) {
+        return aggregate(AggregateFunction.MIN, column, resultType);
+    }
+
+    /**
+     * 指定したカラムの最大値を返します。
+     *
+     * @param <R>        結果の型
+     * @param column     カラム名
+     * @param resultType 結果の型
+     * @return 最大値。対象行が存在しない場合はnull
+     */
+    public <R> R max(String column, Class<R> resultType) {
+        return aggregate(AggregateFunction.MAX, column, resultType);
+    }
+
+    /**
+     * グループ化カラムごとに集約関数を実行し、グループ値と集約結果のマップを返します。
+     * <p>
+     * マップはグループ化カラムの昇順で並びます。
+     * </p>
+     *
+     * @param <R>         集約結果の型
+     * @param groupColumn グループ化カラム名
+     * @param function    集約関数
+     * @param column      集約対象のカラム名
+     * @param resultType  集約結果の型
+     * @return グループ値と集約結果のマップ
+     */
+    public <R> Map<Object, R> aggregateBy(String groupColumn, AggregateFunction function, String column,
+            Class<R> resultType) {
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        String sql = "SELECT " + groupColumn + " AS " + GROUP_ALIAS + ", " + function.toSql(column) + " AS "
+                + AGGREGATE_ALIAS + " FROM " + getTableName(entityClass) + buildWhereSql(queryParams)
+                + " GROUP BY " + groupColumn + " ORDER BY " + groupColumn;
+        Map<Object, R> result = new LinkedHashMap<>();
+        for (Map<String, Object> row : selectRows(SqlFormatter.simplify(sql), queryParams)) {
+            result.put(getIgnoreCase(row, GROUP_ALIAS), toResultType(getIgnoreCase(row, AGGREGATE_ALIAS), resultType));
+        }
+        return result;
+    }
+
+    /**
+     * グループ化カラムごとの件数を返します。
+     *
+     * @param groupColumn グループ化カラム名
+     * @return グループ値と件数のマップ
+     */
+    public Map<Object, Long> countBy(String groupColumn) {
+        return aggregateBy(groupColumn, AggregateFunction.COUNT, "*", Long.class);
+    }
+
+    /**
+     * 主キー順のキーセット（シーク）方式で、指定したキーより後ろの1ページ分を取得します。
+     * <p>
+     * OFFSET を用いず {@code WHERE (pk) > (last)} 相当の条件で読み進めるため、
+     * 何ページ目であっても取得コストが一定になります。
+     * 複合主キーの場合は {@code a > ? OR (a = ? AND b > ?)} の展開形で比較するため、
+     * 行値比較をサポートしないデータベースでも動作します。
+     * {@link #select(String...)} でカラムを指定している場合も、主キーカラムは自動的に取得対象へ追加されます。
+     * </p>
+     *
+     * @param lastKey 前ページ末尾の主キー値（カラム名, 値）。先頭ページの場合はnull
+     * @param limit   1ページあたりの取得件数
+     * @return エンティティのリスト
+     * @throws FluidIllegalStateException ORDER BY が指定されている場合、または件数が不正な場合
+     */
+    public List<E> getResultListAfter(Map<String, Object> lastKey, int limit) {
+        if (limit <= 0) {
+            throw new FluidIllegalStateException("ページサイズは1以上を指定してください: " + limit);
+        }
+        if (!orderByList.isEmpty()) {
+            throw new FluidIllegalStateException("キーセットページングでは主キー順で並び替えるため、ORDER BY は指定できません");
+        }
+        Map<String, Object> keysetParams = new LinkedHashMap<>();
+        String sql = buildKeysetSql(lastKey, limit, keysetParams);
+        return jdbcManager.selectBySql(sql, keysetParams, entityClass).getResultList();
+    }
+
+    /**
+     * 主キー順のキーセット方式で、結果をチャンク単位に読み進めるイテレータを返します。
+     * <p>
+     * 各チャンクの取得は {@link Iterator#hasNext()} の呼び出し時に遅延実行されます。
+     * 取得件数が {@code chunkSize} 未満のチャンクで走査を終了します。
+     * </p>
+     *
+     * @param chunkSize 1チャンクあたりの取得件数
+     * @return チャンクのイテレータ
+     */
+    public Iterator<List<E>> iterateChunks(int chunkSize) {
+        return new KeysetIterator(chunkSize);
+    }
+
+    /**
+     * 主キー順のキーセット方式で、結果をチャンク単位に読み進めるストリームを返します。
+     *
+     * @param chunkSize 1チャンクあたりの取得件数
+     * @return チャンクのストリーム
+     * @see #iterateChunks(int)
+     */
+    public Stream<List<E>> streamChunks(int chunkSize) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterateChunks(chunkSize), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * キーセットページング用のSELECT文を組み立てます。
+     *
+     * @param lastKey      前ページ末尾の主キー値。先頭ページの場合はnull
+     * @param limit        取得件数
+     * @param keysetParams 組み立てたSQLのパラメータ格納先
+     * @return SELECT文
+     */
+    private String buildKeysetSql(Map<String, Object> lastKey, int limit, Map<String, Object> keysetParams) {
+        List<String> pkColumns = getPrimaryKeyInfo(entityClass).getColumnNames();
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT ").append(buildSelectList(true)).append(" FROM ").append(getTableName(entityClass));
+
+        String whereSql = buildWhereSql(keysetParams);
+        if (lastKey != null) {
+            String keysetCondition = buildKeysetCondition(pkColumns, lastKey, keysetParams);
+            if (whereSql.isEmpty()) {
+                sql.append(" WHERE ").append(keysetCondition);
+            } else {
+                // 利用者の条件に OR が含まれても、キーセットの条件がすべての行に掛かるよう括弧で囲む
+                sql.append(" WHERE (").append(whereSql.replaceFirst("^\\s*WHERE\\s+", "")).append(") AND (")
+                        .append(keysetCondition).append(")");
+            }
+        } else {
+            sql.append(whereSql);
+        }
+
+        sql.append(" ORDER BY ").append(String.join(", ", pkColumns.stream().map(c -> c + " ASC").toList()));
+
+        return resolveDialect().limit(SqlFormatter.simplify(sql.toString()), limit);
+    }
+
+    /**
+     * 主キーの辞書式比較条件を組み立てます。
+     *
+     * @param pkColumns    主キーカラム名のリスト
+     * @param lastKey      前ページ末尾の主キー値
+     * @param keysetParams パラメータ格納先
+     * @return 比較条件
+     */
+    private String buildKeysetCondition(List<String> pkColumns, Map<String, Object> lastKey,
+            Map<String, Object> keysetParams) {
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < pkColumns.size(); i++) {
+            StringBuilder term = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                term.append(pkColumns.get(j)).append(" = /*keyset").append(j).append("*/0 AND ");
+            }
+            term.append(pkColumns.get(i)).append(" > /*keyset").append(i).append("*/0");
+            terms.add(pkColumns.size() > 1 ? "(" + term + ")" : term.toString());
+        }
+        for (int i = 0; i < pkColumns.size(); i++) {
+            String column = pkColumns.get(i);
+            if (!lastKey.containsKey(column)) {
+                throw new FluidIllegalStateException("キーセットに主キーの値が含まれていません: " + column);
+            }
+            keysetParams.put("keyset" + i, lastKey.get(column));
+        }
+        return String.join(" OR ", terms);
+    }
+
+    /**
+     * SELECT句のカラムリストを組み立てます。
+     *
+     * @param includePrimaryKey 主キーカラムを必ず含める場合はtrue
+     * @return カラムリスト
+     */
+    private String buildSelectList(boolean includePrimaryKey) {
+        if (selectColumns.isEmpty()) {
+            return "*";
+        }
+        List<String> columns = new ArrayList<>(selectColumns);
+        if (includePrimaryKey) {
+            for (String pkColumn : getPrimaryKeyInfo(entityClass).getColumnNames()) {
+                if (columns.stream().noneMatch(c -> c.trim().equalsIgnoreCase(pkColumn))) {
+                    columns.add(pkColumn);
+                }
+            }
+        }
+        return String.join(", ", columns);
+    }
+
+    /**
+     * WHERE句を組み立て、パラメータを格納します。
+     *
+     * @param queryParams パラメータ格納先
+     * @return WHERE句。条件がない場合は空文字列
+     */
+    private String buildWhereSql(Map<String, Object> queryParams) {
+        if (where == null) {
+            return "";
+        }
+        queryParams.putAll(where.getParameters());
+        return where.build();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<Map<String, Object>> selectRows(String sql, Map<String, Object> queryParams) {
+        List<Map> rows = jdbcManager.selectBySql(sql, queryParams, Map.class).getResultList();
+        return (List) rows;
+    }
+
+    private static Object getIgnoreCase(Map<String, Object> row, String key) {
+        if (row.containsKey(key)) {
+            return row.get(key);
+        }
+        return row.entrySet().stream()
+                .filter(e -> e.getKey().equalsIgnoreCase(key))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R toResultType(Object value, Class<R> resultType) {
+        if (value == null || resultType.isInstance(value)) {
+            return (R) value;
+        }
+        if (resultType == BigDecimal.class && value instanceof Number) {
+            return (R) new BigDecimal(value.toString());
+        }
+        return (R) SBTypeConverterUtils.convertValue(value, resultType);
+    }
+
+    private SBDialect resolveDialect() {
+        SBDialect dialect = jdbcManager.getDialect();
+        return dialect != null ? dialect : new PostgresDialect();
+    }
+
+    /**
+     * キーセット方式でチャンクを遅延取得するイテレータ。
+     */
+    private class KeysetIterator implements Iterator<List<E>> {
+
+        private final int chunkSize;
+        private final PrimaryKeyInfo pkInfo;
+        private Map<String, Object> lastKey;
+        private List<E> next;
+        private boolean finished;
+
+        KeysetIterator(int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.pkInfo = getPrimaryKeyInfo(entityClass);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                List<E> chunk = getResultListAfter(lastKey, chunkSize);
+                if (chunk.isEmpty()) {
+                    finished = true;
+                } else {
+                    next = chunk;
+                    lastKey = pkInfo.getPrimaryKeyValues(chunk.get(chunk.size() - 1));
+                    // 上限未満であれば最終チャンク
+                    finished = chunk.size() < chunkSize;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<E> chunk = next;
+            next = null;
+            return chunk;
+        }
+    }
 }
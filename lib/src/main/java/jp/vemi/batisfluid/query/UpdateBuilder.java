@@ -10,6 +10,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
 
 /**
@@ -26,6 +27,20 @@ import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
  *     .where(w -&gt; w.eq("id", userId))
  *     .execute();
  * </pre>
+ * <p>
+ * {@link #increment(String, Number)}、{@link #setExpression(String, String, Object...)}、
+ * {@link #setNow(String)} を使用すると、現在値を読み込まずにデータベース上の式で更新できます。
+ * カウンタの加算などを1文で原子的に実行できるため、検索・更新・楽観的排他制御の再試行が不要になります。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * jdbcFlow.update(Account.class)
+ *     .increment("balance", amount)
+ *     .setNow("updated_at")
+ *     .where(w -&gt; w.eq("id", accountId))
+ *     .execute();
+ * </pre>
  *
  * @param <E> エンティティの型
  * @version 0.0.2
@@ -35,7 +50,7 @@ public class UpdateBuilder<E> implements WhereCapable<UpdateBuilder<E>> {
 
     private final SBJdbcManager jdbcManager;
     private final Class<E> entityClass;
-    private final Map<String, Object> setValues = new LinkedHashMap<>();
+    private final Map<String, Assignment> assignments = new LinkedHashMap<>();
     private final Map<String, Object> parameters = new HashMap<>();
     private Where where;
 
@@ -58,10 +73,86 @@ public class UpdateBuilder<E> implements WhereCapable<UpdateBuilder<E>> {
      * @return このビルダーインスタンス
      */
     public UpdateBuilder<E> set(String column, Object value) {
-        setValues.put(column, value);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(column, value);
+        assignments.put(column, new Assignment("/*" + column + "*/?", values));
+        return this;
+    }
+
+    /**
+     * カラムの現在値に加算する式を設定します。
+     * <p>
+     * {@code column = column + ?} として、データベース上で加算します。
+     * 減算する場合は負の値を指定します。
+     * </p>
+     *
+     * @param column カラム名
+     * @param delta  加算する値
+     * @return このビルダーインスタンス
+     */
+    public UpdateBuilder<E> increment(String column, Number delta) {
+        if (delta == null) {
+            throw new FluidIllegalStateException("加算する値が指定されていません: " + column);
+        }
+        return setExpression(column, column + " + ?", delta);
+    }
+
+    /**
+     * カラムに設定するSQL式を設定します。
+     * <p>
+     * 式中の {@code ?} は、引数の値を順にバインドするプレースホルダとして扱います。
+     * 引用符で囲まれた文字列リテラル内の {@code ?} は置換しません。
+     * 式はそのままSQLに埋め込まれるため、利用者の入力を式に連結しないでください。
+     * </p>
+     *
+     * <pre>
+     * updateBuilder.setExpression("price", "price * ?", rate);
+     * </pre>
+     *
+     * @param column     カラム名
+     * @param expression 設定するSQL式
+     * @param args       式中の {@code ?} にバインドする値
+     * @return このビルダーインスタンス
+     * @throws FluidIllegalStateException 式中の {@code ?} の数と引数の数が一致しない場合
+     */
+    public UpdateBuilder<E> setExpression(String column, String expression, Object... args) {
+        Object[] values = args != null ? args : new Object[0];
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder rendered = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c != '?' || quoted) {
+                rendered.append(c);
+                continue;
+            }
+            if (bindings.size() >= values.length) {
+                throw new FluidIllegalStateException("式のプレースホルダの数が引数の数と一致しません: " + expression);
+            }
+            String name = column + "_expr" + bindings.size();
+            rendered.append("/*").append(name).append("*/?");
+            bindings.put(name, values[bindings.size()]);
+        }
+        if (bindings.size() != values.length) {
+            throw new FluidIllegalStateException("式のプレースホルダの数が引数の数と一致しません: " + expression);
+        }
+        assignments.put(column, new Assignment(rendered.toString(), bindings));
         return this;
     }
 
+    /**
+     * カラムにデータベースの現在日時（{@code CURRENT_TIMESTAMP}）を設定します。
+     *
+     * @param column カラム名
+     * @return このビルダーインスタンス
+     */
+    public UpdateBuilder<E> setNow(String column) {
+        return setExpression(column, "CURRENT_TIMESTAMP");
+    }
+
     @Override
     public String build() {
         StringBuilder sql = new StringBuilder();
@@ -70,20 +161,25 @@ public class UpdateBuilder<E> implements WhereCapable<UpdateBuilder<E>> {
                 .append(" SET ");
 
         // SET句の構築
-        setValues.forEach((column, value) -> {
+        assignments.forEach((column, assignment) -> {
             sql.append(column)
-                    .append(" = /*")
-                    .append(column)
-                    .append("*/?, ");
-            parameters.put(column, value);
+                    .append(" = ")
+                    .append(assignment.expression)
+                    .append(", ");
+            parameters.putAll(assignment.parameters);
         });
 
         // 最後のカンマを削除
         sql.setLength(sql.length() - 2);
 
-        // WHERE句の追加
+        // WHERE句の追加（Where#build() は " WHERE " を含む）
         if (where != null) {
-            sql.append(" WHERE ").append(where.build());
+            // 条件の指定漏れで全件が対象になることを防ぐ
+            if (!where.hasConditions()) {
+                throw new FluidIllegalStateException(
+                        "WHERE条件が指定されていません。全件を対象とする場合は where() を呼び出さないでください");
+            }
+            sql.append(where.build());
             parameters.putAll(where.getParameters());
         }
 
@@ -112,8 +208,22 @@ public class UpdateBuilder<E> implements WhereCapable<UpdateBuilder<E>> {
      * UPDATE文を実行します。
      *
      * @return 更新された行数
+     * @throws FluidIllegalStateException {@code where()} で条件を1つも指定しなかった場合
      */
     public int execute() {
         return jdbcManager.update(build(), getParameters());
     }
+
+    /**
+     * SET句の1カラム分の式とバインドする値です。
+     */
+    private static final class Assignment {
+        private final String expression;
+        private final Map<String, Object> parameters;
+
+        private Assignment(String expression, Map<String, Object> parameters) {
+            this.expression = expression;
+            this.parameters = parameters;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.routing;
+
+/**
+ * 読み取り専用の処理を振り分けるレプリカの選び方を表す列挙型。
+ * <p>
+ * {@link RoutingDataSource} で指定します。
+ * </p>
+ *
+ * @version 0.0.2
+ * @author BatisFluid
+ */
+public enum ReplicaSelectionStrategy {
+    /**
+     * レプリカを順番に使用する。
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 使用中のコネクションが最も少ないレプリカを使用する。
+     */
+    LEAST_LOADED
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.routing;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.vemi.batisfluid.exception.FluidException;
+import jp.vemi.batisfluid.transaction.DelegatingConnection;
+
+/**
+ * 読み取り専用の処理をレプリカへ、それ以外をプライマリへ振り分けるDataSource。
+ * <p>
+ * {@link #readOnly(Callable)} の中で取得されたコネクションのみをレプリカから取得し、
+ * それ以外はすべてプライマリから取得します。
+ * {@link jp.vemi.batisfluid.transaction.ThreadLocalDataSource} の内側に配置するため、
+ * トランザクション中はバインドされたコネクションが優先され、振り分けは行われません。
+ * これにより、トランザクション内で書き込んだデータは同じトランザクション内の検索から常に参照できます。
+ * </p>
+ * <p>
+ * レプリカからコネクションを取得できない場合は他のレプリカを順に試し、
+ * すべて失敗した場合はプライマリから取得します。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class RoutingDataSource implements DataSource {
+    private static final Logger logger = LoggerFactory.getLogger(RoutingDataSource.class);
+
+    private static final ThreadLocal<Integer> READ_ONLY_LEVEL = ThreadLocal.withInitial(() -> 0);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelectionStrategy strategy;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * プライマリとレプリカを指定して構築します。
+     *
+     * @param primary プライマリのDataSource
+     * @param replicas レプリカのDataSource
+     * @param strategy レプリカの選び方
+     * @throws IllegalArgumentException レプリカが指定されていない場合
+     */
+    public RoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+            ReplicaSelectionStrategy strategy) {
+        if (replicas == null || replicas.isEmpty()) {
+            throw new IllegalArgumentException("レプリカを1つ以上指定してください");
+        }
+        this.primary = Objects.requireNonNull(primary);
+        this.strategy = Objects.requireNonNull(strategy);
+        List<Replica> list = new ArrayList<>(replicas.size());
+        for (DataSource replica : replicas) {
+            list.add(new Replica(Objects.requireNonNull(replica)));
+        }
+        this.replicas = List.copyOf(list);
+    }
+
+    /**
+     * 読み取り専用として処理を実行します。処理の中で新たに取得されるコネクションはレプリカから取得します（ネスト可）。
+     *
+     * @param <T> 戻り値の型
+     * @param action 実行する処理
+     * @return 処理の結果
+     * @throws FluidException 処理が検査例外をスローした場合
+     */
+    public static <T> T readOnly(Callable<T> action) {
+        READ_ONLY_LEVEL.set(READ_ONLY_LEVEL.get() + 1);
+        try {
+            return action.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FluidException("読み取り専用の処理に失敗しました", e);
+        } finally {
+            int level = READ_ONLY_LEVEL.get() - 1;
+            if (level <= 0) {
+                READ_ONLY_LEVEL.remove();
+            } else {
+                READ_ONLY_LEVEL.set(level);
+            }
+        }
+    }
+
+    /**
+     * 現在のスレッドが読み取り専用の処理の中かどうかを返します。
+     *
+     * @return {@link #readOnly(Callable)} の中の場合は true
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY_LEVEL.get() > 0;
+    }
+
+    /**
+     * プライマリのDataSourceを返します。
+     *
+     * @return プライマリのDataSource
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * レプリカごとの使用中のコネクション数を返します。
+     *
+     * @return レプリカの指定順の使用中のコネクション数
+     */
+    public int[] getActiveConnectionCounts() {
+        int[] counts = new int[replicas.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = replicas.get(i).active.get();
+        }
+        return counts;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null, false);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(username, password, true);
+    }
+
+    private Connection getConnection(String username, String password, boolean withCredentials)
+            throws SQLException {
+        if (isReadOnly()) {
+            int first = selectReplica();
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((first + i) % replicas.size());
+                try {
+                    Connection connection = withCredentials
+                            ? replica.dataSource.getConnection(username, password)
+                            : replica.dataSource.getConnection();
+                    logger.debug("Returning REPLICA connection: {}", (first + i) % replicas.size());
+                    return new ReplicaConnection(connection, replica);
+                } catch (SQLException e) {
+                    logger.warn("レプリカからコネクションを取得できませんでした: {}", e.getMessage());
+                }
+            }
+            logger.warn("すべてのレプリカが使用できないため、プライマリを使用します");
+        }
+        logger.debug("Returning PRIMARY connection");
+        return withCredentials ? primary.getConnection(username, password) : primary.getConnection();
+    }
+
+    private int selectReplica() {
+        int start = Math.floorMod(counter.getAndIncrement(), replicas.size());
+        if (strategy == ReplicaSelectionStrategy.ROUND_ROBIN) {
+            return start;
+        }
+        // 同数の場合に同じレプリカへ偏らないよう、ラウンドロビンの位置から探す
+        int selected = start;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            int active = replicas.get(index).active.get();
+            if (active < min) {
+                min = active;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return java.util.logging.Logger.getLogger("RoutingDataSource");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    /**
+     * レプリカのDataSourceと使用中のコネクション数です。
+     */
+    private static final class Replica {
+        private final DataSource dataSource;
+        private final AtomicInteger active = new AtomicInteger();
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * クローズ時にレプリカの使用中のコネクション数を減らすコネクションです。
+     */
+    private static final class ReplicaConnection extends DelegatingConnection {
+        private final Replica replica;
+        private boolean closed;
+
+        private ReplicaConnection(Connection delegate, Replica replica) {
+            super(delegate);
+            this.replica = replica;
+            replica.active.incrementAndGet();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!closed) {
+                closed = true;
+                replica.active.decrementAndGet();
+            }
+            super.close();
+        }
+    }
+}
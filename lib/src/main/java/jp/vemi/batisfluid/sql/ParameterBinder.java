@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.sql;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.vemi.batisfluid.exception.FluidSqlException;
+
+/**
+ * {@link PreparedStatement} へパラメータ値を設定するクラスです。
+ * <p>
+ * ストリーム型の値は {@code setBinaryStream}/{@code setCharacterStream} で設定するため、
+ * 大きなバイナリや文字列をヒープ上に展開せずに送信できます。
+ * {@link Path} を指定した場合はファイルを開いてストリームとして設定し、
+ * {@link #close()} で開いたストリームを閉じます。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * try (ParameterBinder binder = new ParameterBinder();
+ *      PreparedStatement ps = connection.prepareStatement(sql)) {
+ *     binder.bindAll(ps, values);
+ *     ps.executeUpdate();
+ * }
+ * </pre>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class ParameterBinder implements AutoCloseable {
+
+    private final List<Closeable> openedResources = new ArrayList<>();
+
+    /**
+     * 値のリストを先頭のバインド変数から順に設定します。
+     *
+     * @param statement 設定先の PreparedStatement
+     * @param values 設定する値
+     * @throws SQLException 値の設定に失敗した場合
+     */
+    public void bindAll(PreparedStatement statement, List<?> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            bind(statement, i + 1, values.get(i));
+        }
+    }
+
+    /**
+     * 指定した位置のバインド変数に値を設定します。
+     *
+     * @param statement 設定先の PreparedStatement
+     * @param index バインド変数の位置（1始まり）
+     * @param value 設定する値
+     * @throws SQLException 値の設定に失敗した場合
+     */
+    public void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.NULL);
+        } else if (value instanceof InputStream) {
+            statement.setBinaryStream(index, (InputStream) value);
+        } else if (value instanceof Reader) {
+            statement.setCharacterStream(index, (Reader) value);
+        } else if (value instanceof Path) {
+            Path path = (Path) value;
+            try {
+                InputStream in = Files.newInputStream(path);
+                openedResources.add(in);
+                statement.setBinaryStream(index, in, Files.size(path));
+            } catch (IOException e) {
+                throw new FluidSqlException("ファイルを開けませんでした: " + path, e);
+            }
+        } else if (value instanceof byte[]) {
+            statement.setBytes(index, (byte[]) value);
+        } else if (value instanceof Blob) {
+            statement.setBlob(index, (Blob) value);
+        } else if (value instanceof Clob) {
+            statement.setClob(index, (Clob) value);
+        } else if (value instanceof LocalDateTime) {
+            statement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+        } else if (value instanceof LocalDate) {
+            statement.setDate(index, Date.valueOf((LocalDate) value));
+        } else if (value instanceof java.util.Date && !(value instanceof java.sql.Date)
+                && !(value instanceof Timestamp) && !(value instanceof java.sql.Time)) {
+            statement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * {@link Path} の設定時に開いたストリームを閉じます。
+     */
+    @Override
+    public void close() {
+        for (Closeable resource : openedResources) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                // クローズ失敗は実行結果に影響しないため無視
+            }
+        }
+        openedResources.clear();
+    }
+}
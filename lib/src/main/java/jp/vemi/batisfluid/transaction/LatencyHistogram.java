@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 所要時間の分布を記録するヒストグラムです。
+ * <p>
+ * 1マイクロ秒から2倍ずつ広がる区間ごとに {@link LongAdder} で件数を数えるため、
+ * 複数のスレッドから記録してもロックの競合が発生しません。
+ * パーセンタイルは該当する区間の上限値で近似します。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public final class LatencyHistogram {
+
+    /** 区間の数。最後の区間は約18分以上をまとめる */
+    private static final int BUCKETS = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 空のヒストグラムを構築します。
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 所要時間を記録します。
+     *
+     * @param nanos 所要時間（ナノ秒）
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * 記録した値をすべて破棄します。
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * 現在の記録のスナップショットを返します。
+     *
+     * @return スナップショット
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, count.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = (nanos + 999) / 1000;
+        if (micros <= 1) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(micros - 1), BUCKETS - 1);
+    }
+
+    private static long upperBoundNanos(int bucket) {
+        return (1L << bucket) * 1000;
+    }
+
+    /**
+     * {@link LatencyHistogram} のある時点の記録です。
+     */
+    public static final class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] buckets, long count, long totalNanos, long maxNanos) {
+            this.buckets = buckets;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * 記録した件数を返します。
+         *
+         * @return 件数
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 所要時間の合計を返します。
+         *
+         * @return 合計
+         */
+        public Duration getTotal() {
+            return Duration.ofNanos(totalNanos);
+        }
+
+        /**
+         * 所要時間の平均を返します。
+         *
+         * @return 平均。記録がない場合は {@link Duration#ZERO}
+         */
+        public Duration getMean() {
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+        }
+
+        /**
+         * 所要時間の最大値を返します。
+         *
+         * @return 最大値
+         */
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        /**
+         * 所要時間のパーセンタイルを、該当する区間の上限値で返します。
+         *
+         * @param percentile パーセンタイル（0 より大きく 100 以下）
+         * @return パーセンタイルの近似値。記録がない場合は {@link Duration#ZERO}
+         * @throws IllegalArgumentException パーセンタイルが範囲外の場合
+         */
+        public Duration getPercentile(double percentile) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile は 0 より大きく 100 以下を指定してください: " + percentile);
+            }
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            if (total == 0) {
+                return Duration.ZERO;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    // 区間の上限値が実測の最大値を超える場合は最大値を返す
+                    return Duration.ofNanos(Math.min(upperBoundNanos(i), maxNanos));
+                }
+            }
+            return Duration.ofNanos(maxNanos);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import jp.vemi.seasarbatis.core.sql.dialect.SBDialect;
+
+/**
+ * デッドロックやシリアライゼーション失敗で失敗したトランザクションを再実行する方針です。
+ * <p>
+ * 失敗の原因となった例外の連鎖に含まれる {@link SQLException} を分類し、
+ * 再実行の対象である場合は待機してから処理全体を新しいトランザクションで実行し直します。
+ * 待機時間は試行ごとに2倍に延ばし（上限は {@code maxBackoff}）、
+ * 同時に失敗したトランザクションが同じ時刻に再実行しないよう、0 からその値までの範囲でランダムに決めます。
+ * </p>
+ * <p>
+ * インスタンスは不変のため、複数のスレッドで共有できます。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * RetryPolicy policy = jdbcFlow.retryPolicy()
+ *         .withMaxAttempts(5)
+ *         .withBackoff(Duration.ofMillis(20), Duration.ofSeconds(1));
+ * jdbcFlow.transaction(PropagationType.REQUIRED, policy, () -&gt; { ... });
+ * </pre>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public final class RetryPolicy {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private final Predicate<SQLException> classifier;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private RetryPolicy(Predicate<SQLException> classifier, int maxAttempts, long initialBackoffNanos,
+            long maxBackoffNanos) {
+        this.classifier = classifier;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+    }
+
+    /**
+     * ダイアレクトの {@link SBDialect#isRetryable(SQLException)} で分類するポリシーを生成します。
+     * 最大試行回数は3回、待機時間は10ミリ秒から1秒です。
+     *
+     * @param dialect データベースダイアレクト
+     * @return リトライポリシー
+     */
+    public static RetryPolicy forDialect(SBDialect dialect) {
+        return of(dialect::isRetryable);
+    }
+
+    /**
+     * 指定した条件で分類するポリシーを生成します。
+     * 最大試行回数は3回、待機時間は10ミリ秒から1秒です。
+     *
+     * @param classifier 再実行の対象である場合に {@code true} を返す条件
+     * @return リトライポリシー
+     * @throws IllegalArgumentException 条件が {@code null} の場合
+     */
+    public static RetryPolicy of(Predicate<SQLException> classifier) {
+        if (classifier == null) {
+            throw new IllegalArgumentException("classifier を指定してください");
+        }
+        return new RetryPolicy(classifier, DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF.toNanos(),
+                DEFAULT_MAX_BACKOFF.toNanos());
+    }
+
+    /**
+     * 最大試行回数（最初の実行を含む）を変更したポリシーを返します。
+     *
+     * @param maxAttempts 最大試行回数
+     * @return リトライポリシー
+     * @throws IllegalArgumentException 最大試行回数が1未満の場合
+     */
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts は1以上を指定してください");
+        }
+        return new RetryPolicy(classifier, maxAttempts, initialBackoffNanos, maxBackoffNanos);
+    }
+
+    /**
+     * 待機時間を変更したポリシーを返します。
+     *
+     * @param initialBackoff 最初の再実行の前に待機する時間の上限
+     * @param maxBackoff 待機する時間の上限
+     * @return リトライポリシー
+     * @throws IllegalArgumentException 待機時間が負、または {@code initialBackoff} が {@code maxBackoff} を超える場合
+     */
+    public RetryPolicy withBackoff(Duration initialBackoff, Duration maxBackoff) {
+        if (initialBackoff == null || maxBackoff == null || initialBackoff.isNegative()
+                || initialBackoff.compareTo(maxBackoff) > 0) {
+            throw new IllegalArgumentException("initialBackoff は0以上 maxBackoff 以下を指定してください");
+        }
+        return new RetryPolicy(classifier, maxAttempts, initialBackoff.toNanos(), maxBackoff.toNanos());
+    }
+
+    /**
+     * 最大試行回数（最初の実行を含む）を返します。
+     *
+     * @return 最大試行回数
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 例外の連鎖に、再実行の対象となる {@link SQLException} が含まれるかを判定します。
+     *
+     * @param e 判定する例外
+     * @return 再実行の対象である場合は {@code true}
+     */
+    public boolean isRetryable(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof SQLException && classifier.test((SQLException) current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 指定した回数の試行が失敗した後、再実行の前に待機する時間を返します。
+     *
+     * @param attempt 失敗した試行の回数（1から）
+     * @return 待機する時間（ナノ秒）
+     */
+    long backoffNanos(int attempt) {
+        // 2倍ずつ延ばし、オーバーフローする前に上限で打ち切る
+        long ceiling = initialBackoffNanos;
+        for (int i = 1; i < attempt && ceiling < maxBackoffNanos; i++) {
+            ceiling *= 2;
+        }
+        ceiling = Math.min(ceiling, maxBackoffNanos);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * トランザクションにバインドされたコネクションを子セッションへ渡すためのラッパーです。
+ * <p>
+ * {@code commit}、{@code rollback}、{@code close}、{@code setAutoCommit} を何もしない操作とし、
+ * それ以外の呼び出しは実際のコネクションへそのまま委譲します。
+ * トランザクションの確定と終了は、コネクションをバインドしたトランザクション管理側でのみ行います。
+ * セーブポイントへのロールバック（{@link #rollback(Savepoint)}）は抑制しません。
+ * </p>
+ * <p>
+ * コネクションのバインド時に1つだけ生成し、トランザクションの間は同じインスタンスを使い回します。
+ * {@link #unwrap(Class)} で {@link Connection} を要求された場合もこのインスタンスを返し、
+ * 実際のコネクションを取得してトランザクションを確定されることを防ぎます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public final class SuppressedConnection extends DelegatingConnection {
+
+    /**
+     * 実際のコネクションを指定して構築します。
+     *
+     * @param delegate 実際のコネクション
+     */
+    public SuppressedConnection(Connection delegate) {
+        super(delegate);
+    }
+
+    /**
+     * コネクションを抑制用のラッパーで包みます。既に包まれている場合はそのまま返します。
+     *
+     * @param connection コネクション
+     * @return 抑制用のラッパー
+     */
+    public static SuppressedConnection wrap(Connection connection) {
+        if (connection instanceof SuppressedConnection) {
+            return (SuppressedConnection) connection;
+        }
+        return new SuppressedConnection(connection);
+    }
+
+    // ---------- 抑制する操作 ----------
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) {
+        // 抑制（NO-OP）
+    }
+
+    @Override
+    public void commit() {
+        // 抑制（NO-OP）
+    }
+
+    @Override
+    public void rollback() {
+        // 抑制（NO-OP）
+    }
+
+    @Override
+    public void close() {
+        // 抑制（NO-OP）
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        // 実コネクションへ到達されないように、Connection を要求された場合は自身を返す
+        if (iface.isAssignableFrom(Connection.class)) {
+            return iface.cast(this);
+        }
+        return getDelegate().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface.isAssignableFrom(Connection.class)) {
+            return false;
+        }
+        return getDelegate().isWrapperFor(iface);
+    }
+}
@@ -4,9 +4,6 @@
 package jp.vemi.batisfluid.transaction;
 
 import java.io.PrintWriter;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -23,6 +20,8 @@ import org.slf4j.LoggerFactory;
  * トランザクション境界内で新たに開かれる {@code SqlSessionFactory.openSession()} が
  * 常に同一の物理コネクションを共有するようにし、子セッションからの commit/rollback/close を抑制します。
  * これにより、トランザクション管理側の rollback で一括して取り消せます。
+ * 子セッションに渡す {@link SuppressedConnection} はバインド時に1つだけ生成し、
+ * トランザクションの間は同じインスタンスを返します。
  * </p>
  *
  * @version 0.0.2
@@ -32,7 +31,7 @@ public class ThreadLocalDataSource implements DataSource {
     private static final Logger logger = LoggerFactory.getLogger(ThreadLocalDataSource.class);
 
     private final DataSource delegate;
-    private static final ThreadLocal<Connection> BOUND = new ThreadLocal<>();
+    private static final ThreadLocal<SuppressedConnection> BOUND = new ThreadLocal<>();
     private static final ThreadLocal<Integer> SUSPEND_LEVEL = ThreadLocal.withInitial(() -> 0);
 
     /**
@@ -46,11 +45,16 @@ public class ThreadLocalDataSource implements DataSource {
 
     /**
      * 現在のスレッドにコネクションをバインドします。
+     * {@code null} を指定した場合は {@link #unbind()} と同じくバインドを解除します。
      * 
      * @param connection バインドするコネクション
      */
     public static void bind(Connection connection) {
-        BOUND.set(connection);
+        if (connection == null) {
+            BOUND.remove();
+            return;
+        }
+        BOUND.set(SuppressedConnection.wrap(connection));
     }
 
     /**
@@ -60,6 +64,31 @@ public class ThreadLocalDataSource implements DataSource {
         BOUND.remove();
     }
 
+    /**
+     * 現在のスレッドにバインドされているコネクションを返します。
+     *
+     * @return バインドされているコネクション。バインドされていない場合は null
+     */
+    static SuppressedConnection currentBinding() {
+        return BOUND.get();
+    }
+
+    /**
+     * 現在のスレッドのバインドを差し替えます。
+     *
+     * @param connection バインドするコネクション。null の場合はバインドを解除します
+     * @return 差し替える前にバインドされていたコネクション
+     */
+    static SuppressedConnection rebind(SuppressedConnection connection) {
+        SuppressedConnection previous = BOUND.get();
+        if (connection == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(connection);
+        }
+        return previous;
+    }
+
     /**
      * 一時的にスレッドローカルのバインディングを無効化します（ネスト可）。
      * REQUIRES_NEW のコネクション確保時に使用します。
@@ -86,10 +115,10 @@ public class ThreadLocalDataSource implements DataSource {
     @Override
     public Connection getConnection() throws SQLException {
         if (!isBindingSuspended()) {
-            Connection bound = BOUND.get();
+            SuppressedConnection bound = BOUND.get();
             if (bound != null) {
                 logger.debug("Returning BOUND suppressed connection");
-                return createSuppressedConnection(bound);
+                return bound;
             }
         }
         logger.debug("Returning DELEGATE connection");
@@ -99,47 +128,16 @@ public class ThreadLocalDataSource implements DataSource {
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
         if (!isBindingSuspended()) {
-            Connection bound = BOUND.get();
+            SuppressedConnection bound = BOUND.get();
             if (bound != null) {
                 logger.debug("Returning BOUND suppressed connection (with creds)");
-                return createSuppressedConnection(bound);
+                return bound;
             }
         }
         logger.debug("Returning DELEGATE connection (with creds)");
         return delegate.getConnection(username, password);
     }
 
-    private Connection createSuppressedConnection(Connection target) {
-        InvocationHandler handler = (proxy, method, args) -> {
-            String name = method.getName();
-            // commit/rollback/close は抑制（NO-OP）
-            if ("commit".equals(name) || "rollback".equals(name) || "close".equals(name)
-                    || "setAutoCommit".equals(name)) {
-                return null;
-            }
-            // unwrap/isWrapperFor で実コネクションへ到達されないように防御
-            if ("unwrap".equals(name) && args != null && args.length == 1 && args[0] instanceof Class) {
-                Class<?> iface = (Class<?>) args[0];
-                if (iface.isAssignableFrom(Connection.class)) {
-                    return proxy;
-                }
-                return method.invoke(target, args);
-            }
-            if ("isWrapperFor".equals(name) && args != null && args.length == 1 && args[0] instanceof Class) {
-                Class<?> iface = (Class<?>) args[0];
-                if (iface.isAssignableFrom(Connection.class)) {
-                    return Boolean.FALSE;
-                }
-                return method.invoke(target, args);
-            }
-            return method.invoke(target, args);
-        };
-        return (Connection) Proxy.newProxyInstance(
-                target.getClass().getClassLoader(),
-                new Class<?>[] { Connection.class },
-                handler);
-    }
-
     @Override
     public PrintWriter getLogWriter() throws SQLException {
         return delegate.getLogWriter();
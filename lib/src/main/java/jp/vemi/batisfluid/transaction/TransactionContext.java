@@ -3,6 +3,9 @@
  */
 package jp.vemi.batisfluid.transaction;
 
+import java.util.concurrent.Callable;
+
+import jp.vemi.batisfluid.exception.TransactionException;
 import jp.vemi.batisfluid.i18n.Messages;
 
 /**
@@ -12,6 +15,23 @@ import jp.vemi.batisfluid.i18n.Messages;
  * 独立トランザクションが実行される際に、一時的に異なるトランザクション操作を
  * 使用できるようにします。
  * </p>
+ * <p>
+ * ThreadLocal は他のスレッドへ引き継がれないため、トランザクション内の処理を別のスレッドで
+ * 実行する場合は {@link #capture()} で現在のトランザクションを取り込み、
+ * {@link Snapshot#call(Callable)} で実行先のスレッドに束縛します。
+ * </p>
+ *
+ * <pre>
+ * 使用例:
+ * jdbcFlow.transaction(() -&gt; {
+ *     TransactionContext.Snapshot context = TransactionContext.capture();
+ *     try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+ *         Future&lt;List&lt;Order&gt;&gt; orders = executor.submit(context.wrap(() -&gt; jdbcFlow.from(Order.class).getResultList()));
+ *         Future&lt;List&lt;Item&gt;&gt; items = executor.submit(context.wrap(() -&gt; jdbcFlow.from(Item.class).getResultList()));
+ *         return merge(orders.get(), items.get());
+ *     }
+ * });
+ * </pre>
  *
  * @version 0.0.2
  * @author BatisFluid
@@ -60,7 +80,7 @@ public class TransactionContext {
      * @param action 実行する処理
      * @return 処理の結果
      */
-    public static <T> T withOperation(TransactionOperation operation, java.util.concurrent.Callable<T> action) {
+    public static <T> T withOperation(TransactionOperation operation, Callable<T> action) {
         TransactionOperation previousOperation = getCurrentOperation();
         try {
             setCurrentOperation(operation);
@@ -78,4 +98,110 @@ public class TransactionContext {
             }
         }
     }
+
+    /**
+     * 現在のスレッドのトランザクションを、他のスレッドで使用するために取り込みます。
+     * <p>
+     * 取り込んだコンテキストで実行した処理は、取り込んだトランザクションと同じコネクションを使用し、
+     * そのトランザクションのコミットまたはロールバックに含まれます。
+     * 処理はトランザクションが終了する前に完了させてください。
+     * 多くのJDBCドライバは1つのコネクションへの同時の呼び出しを直列化するため、
+     * 並列化の効果は主にデータベース以外の処理で得られます。
+     * </p>
+     *
+     * @return 取り込んだコンテキスト。トランザクション外で呼び出した場合は、トランザクションを持たないコンテキスト
+     */
+    public static Snapshot capture() {
+        TransactionOperation operation = getCurrentOperation();
+        if (operation == null || operation.currentState() == null) {
+            return new Snapshot(null, null, null);
+        }
+        return new Snapshot(operation, operation.currentState(), ThreadLocalDataSource.currentBinding());
+    }
+
+    /**
+     * {@link TransactionContext#capture()} で取り込んだトランザクションのコンテキストです。
+     * <p>
+     * 不変であり、複数のスレッドから同時に使用できます。
+     * </p>
+     */
+    public static final class Snapshot {
+        private final TransactionOperation operation;
+        private final TransactionOperation.State state;
+        private final SuppressedConnection connection;
+
+        private Snapshot(TransactionOperation operation, TransactionOperation.State state,
+                SuppressedConnection connection) {
+            this.operation = operation;
+            this.state = state;
+            this.connection = connection;
+        }
+
+        /**
+         * トランザクションを取り込んだかどうかを返します。
+         *
+         * @return トランザクション内で取り込んだ場合は true
+         */
+        public boolean isActive() {
+            return state != null && !state.isEnded();
+        }
+
+        /**
+         * 現在のスレッドにこのコンテキストを束縛して処理を実行し、終了後に元のコンテキストへ戻します。
+         *
+         * @param <T> 戻り値の型
+         * @param action 実行する処理
+         * @return 処理の結果
+         * @throws TransactionException 取り込んだトランザクションが既に終了している場合
+         */
+        public <T> T call(Callable<T> action) {
+            if (state != null && state.isEnded()) {
+                throw new TransactionException("取り込んだトランザクションは既に終了しています");
+            }
+            TransactionOperation.State previousState = operation != null ? operation.replaceState(state) : null;
+            SuppressedConnection previousConnection = ThreadLocalDataSource.rebind(connection);
+            try {
+                return withOperation(operation, action);
+            } finally {
+                ThreadLocalDataSource.rebind(previousConnection);
+                if (operation != null) {
+                    operation.replaceState(previousState);
+                }
+            }
+        }
+
+        /**
+         * 現在のスレッドにこのコンテキストを束縛して処理を実行します。
+         *
+         * @param action 実行する処理
+         * @throws TransactionException 取り込んだトランザクションが既に終了している場合
+         */
+        public void run(Runnable action) {
+            call(() -> {
+                action.run();
+                return null;
+            });
+        }
+
+        /**
+         * 実行時にこのコンテキストを束縛する処理を返します。{@code ExecutorService} への投入に使用します。
+         *
+         * @param <T> 戻り値の型
+         * @param action 実行する処理
+         * @return このコンテキストを束縛して {@code action} を実行する処理
+         */
+        public <T> Callable<T> wrap(Callable<T> action) {
+            return () -> call(action);
+        }
+
+        /**
+         * 実行時にこのコンテキストを束縛する処理を返します。{@code ExecutorService} への投入に使用します。
+         *
+         * @param action 実行する処理
+         * @return このコンテキストを束縛して {@code action} を実行する処理
+         */
+        public Runnable wrap(Runnable action) {
+            return () -> run(action);
+        }
+    }
 }
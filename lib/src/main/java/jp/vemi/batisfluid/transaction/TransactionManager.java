@@ -9,6 +9,8 @@ import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jp.vemi.batisfluid.exception.TransactionException;
 
@@ -19,6 +21,13 @@ import jp.vemi.batisfluid.exception.TransactionException;
  * より使いやすいトランザクション管理機能を提供します。
  * TransactionOperationを内部で使用し、より高度な制御を実現します。
  * </p>
+ * <p>
+ * トランザクションの状態はスレッドごとに管理されるため、1つのインスタンスを
+ * 複数のスレッドで共有できます。各スレッドのトランザクションは互いに独立しています。
+ * </p>
+ * <p>
+ * 実行したトランザクションの所要時間やロールバックの件数は {@link #getMetrics()} で参照できます。
+ * </p>
  *
  * <pre>
  * 使用例:
@@ -33,8 +42,13 @@ import jp.vemi.batisfluid.exception.TransactionException;
  * @author BatisFluid
  */
 public class TransactionManager {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionManager.class);
+
     private final SqlSessionFactory sqlSessionFactory;
     private final TransactionOperation txOperation;
+    private final TransactionMetrics metrics = new TransactionMetrics();
+    /** スレッドごとのトランザクションのネストの深さ */
+    private final ThreadLocal<int[]> depth = new ThreadLocal<>();
 
     /**
      * TransactionManagerを構築します。
@@ -79,6 +93,63 @@ public class TransactionManager {
         }
     }
 
+    /**
+     * 指定された伝播タイプでトランザクションを実行し、デッドロックなどで失敗した場合は再実行します。
+     * <p>
+     * 新たにトランザクションを開始する場合、失敗の原因が {@link RetryPolicy} で再実行の対象と
+     * 分類されたときは、待機してから処理全体を新しいトランザクションで実行し直します。
+     * 処理は複数回呼び出される可能性があるため、トランザクション外への副作用を持たせないでください。
+     * 既存のトランザクションに参加する場合（{@link PropagationType#REQUIRED}、{@link PropagationType#NESTED}）は
+     * 再実行せず、外側のトランザクションに失敗を伝えます。
+     * </p>
+     *
+     * @param <T>             戻り値の型
+     * @param propagationType トランザクション伝播タイプ
+     * @param retryPolicy     リトライポリシー
+     * @param operation       実行する操作
+     * @return 操作の実行結果
+     * @throws TransactionException 再実行の前の待機中に割り込まれた場合
+     */
+    public <T> T execute(PropagationType propagationType, RetryPolicy retryPolicy, Callable<T> operation) {
+        if (propagationType != PropagationType.REQUIRES_NEW && isActive()) {
+            // 途中からの再実行はできないため、外側のトランザクションの再実行に委ねる
+            return execute(propagationType, operation);
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                return execute(propagationType, operation);
+            } catch (RuntimeException e) {
+                if (!retryPolicy.isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= retryPolicy.getMaxAttempts()) {
+                    metrics.recordRetriesExhausted();
+                    throw e;
+                }
+                metrics.recordRetry();
+                long backoffNanos = retryPolicy.backoffNanos(attempt);
+                logger.debug("トランザクションが競合により失敗したため再実行します: {}/{} 回目（待機 {} ms）",
+                        attempt + 1, retryPolicy.getMaxAttempts(), backoffNanos / 1_000_000);
+                try {
+                    Thread.sleep(backoffNanos / 1_000_000, (int) (backoffNanos % 1_000_000));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw new TransactionException("transaction.error.retry.interrupted", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * トランザクションの実行状況を記録したメトリクスを取得します。
+     *
+     * @return トランザクションのメトリクス
+     */
+    public TransactionMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * トランザクション内で処理を実行します。
      *
@@ -88,41 +159,71 @@ public class TransactionManager {
      * @return 操作の実行結果
      */
     public <T> T executeWithTransaction(boolean isIndependentTransaction, Callable<T> operation) {
-        if (isIndependentTransaction) {
-            TransactionOperation independentTxOperation = new TransactionOperation(sqlSessionFactory);
-            SqlSession session = sqlSessionFactory.openSession(false);
-            independentTxOperation.beginIndependent(session);
-            try {
-                T result = TransactionContext.withOperation(independentTxOperation, operation);
-                independentTxOperation.commit();
-                return result;
-            } catch (Exception e) {
-                independentTxOperation.rollback();
-                throw new TransactionException("transaction.error.execution", e);
-            } finally {
-                independentTxOperation.end();
+        int currentDepth = enter();
+        try {
+            if (isIndependentTransaction) {
+                return executeIndependent(operation);
             }
+            return executeJoinable(operation);
+        } finally {
+            exit(currentDepth);
+        }
+    }
+
+    /**
+     * 独立したトランザクションを開始して処理を実行します。
+     */
+    private <T> T executeIndependent(Callable<T> operation) {
+        TransactionOperation independentTxOperation = new TransactionOperation(sqlSessionFactory);
+        long start = System.nanoTime();
+        independentTxOperation.beginIndependent(sqlSessionFactory.openSession(false));
+        long begun = System.nanoTime();
+        metrics.recordConnectionAcquisition(begun - start);
+        try {
+            T result = TransactionContext.withOperation(independentTxOperation, operation);
+            independentTxOperation.commit();
+            metrics.recordCommit(PropagationType.REQUIRES_NEW, System.nanoTime() - begun);
+            return result;
+        } catch (Exception e) {
+            independentTxOperation.rollback();
+            metrics.recordRollback(PropagationType.REQUIRES_NEW, System.nanoTime() - begun, e);
+            throw new TransactionException("transaction.error.execution", e);
+        } finally {
+            independentTxOperation.end();
         }
+    }
 
+    /**
+     * 現在のトランザクションに参加し、存在しない場合は新たに開始して処理を実行します。
+     */
+    private <T> T executeJoinable(Callable<T> operation) {
         TransactionOperation op = TransactionContext.getCurrentOperation();
         if (op == null) {
             op = txOperation;
         }
 
         boolean isNewTransaction = !op.isActive();
+        long begun = 0;
         if (isNewTransaction) {
+            long start = System.nanoTime();
             op.begin(sqlSessionFactory.openSession(false));
+            begun = System.nanoTime();
+            metrics.recordConnectionAcquisition(begun - start);
+        } else {
+            metrics.recordJoined();
         }
 
         try {
             T result = TransactionContext.withOperation(op, operation);
             if (isNewTransaction) {
                 op.commit();
+                metrics.recordCommit(PropagationType.REQUIRED, System.nanoTime() - begun);
             }
             return result;
         } catch (Exception e) {
             if (isNewTransaction) {
                 op.rollback();
+                metrics.recordRollback(PropagationType.REQUIRED, System.nanoTime() - begun, e);
             }
             throw new TransactionException("transaction.error.execution", e);
         } finally {
@@ -165,18 +266,55 @@ public class TransactionManager {
      * @return 操作の実行結果
      */
     private <T> T executeNested(Callable<T> operation) {
-        if (!txOperation.isActive()) {
+        TransactionOperation op = getTransactionOperation();
+        if (!op.isActive()) {
             return executeRequired(operation);
         }
 
-        String savepoint = txOperation.createSavepoint();
+        int currentDepth = enter();
         try {
-            T result = operation.call();
-            txOperation.releaseSavepoint(savepoint);
-            return result;
-        } catch (Exception e) {
-            txOperation.rollbackToSavepoint(savepoint);
-            throw new TransactionException("transaction.error.nested.execution", e);
+            String savepoint = op.createSavepoint();
+            metrics.recordSavepointCreated();
+            long begun = System.nanoTime();
+            try {
+                T result = operation.call();
+                op.releaseSavepoint(savepoint);
+                metrics.recordSavepointReleased();
+                metrics.recordCommit(PropagationType.NESTED, System.nanoTime() - begun);
+                return result;
+            } catch (Exception e) {
+                op.rollbackToSavepoint(savepoint);
+                metrics.recordSavepointRolledBack();
+                metrics.recordRollback(PropagationType.NESTED, System.nanoTime() - begun, e);
+                throw new TransactionException("transaction.error.nested.execution", e);
+            }
+        } finally {
+            exit(currentDepth);
+        }
+    }
+
+    /**
+     * 現在のスレッドのネストの深さを1つ増やして記録し、増やす前の深さを返します。
+     */
+    private int enter() {
+        int[] current = depth.get();
+        if (current == null) {
+            current = new int[1];
+            depth.set(current);
+        }
+        int previous = current[0]++;
+        metrics.recordDepth(current[0]);
+        return previous;
+    }
+
+    /**
+     * 現在のスレッドのネストの深さを {@link #enter()} の前に戻します。
+     */
+    private void exit(int previous) {
+        if (previous == 0) {
+            depth.remove();
+        } else {
+            depth.get()[0] = previous;
         }
     }
 
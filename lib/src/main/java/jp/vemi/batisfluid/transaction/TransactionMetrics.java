@@ -0,0 +1,439 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TransactionManager} で実行したトランザクションの所要時間と競合の状況を記録するクラスです。
+ * <p>
+ * 伝播タイプごとの開始からコミットまたはロールバックまでの所要時間、ロールバックの件数と原因、
+ * セーブポイントの使用状況、ネストの深さ、コネクションの取得にかかった時間、
+ * {@link RetryPolicy} による再実行の件数を記録します。
+ * 件数は {@link LongAdder}、所要時間は {@link LatencyHistogram} で記録するため、
+ * 複数のスレッドから同時にトランザクションを実行してもロックの競合は発生しません。
+ * </p>
+ * <p>
+ * 所要時間が {@link #setLongTransactionThreshold(Duration)} で指定した時間を超えたトランザクションは、
+ * 件数を記録し、警告ログを出力します。ロックを長時間保持するトランザクションの検出に使用できます。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class TransactionMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionMetrics.class);
+
+    /** 長時間のトランザクションとみなす所要時間の既定値 */
+    private static final Duration DEFAULT_LONG_TRANSACTION_THRESHOLD = Duration.ofSeconds(10);
+
+    private final Map<PropagationType, PropagationMetrics> propagations = new EnumMap<>(PropagationType.class);
+    private final ConcurrentHashMap<String, LongAdder> rollbackReasons = new ConcurrentHashMap<>();
+    private final LatencyHistogram connectionAcquisition = new LatencyHistogram();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder savepointsCreated = new LongAdder();
+    private final LongAdder savepointsReleased = new LongAdder();
+    private final LongAdder savepointsRolledBack = new LongAdder();
+    private final LongAdder longTransactions = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private volatile long longTransactionThresholdNanos = DEFAULT_LONG_TRANSACTION_THRESHOLD.toNanos();
+
+    /**
+     * 記録が空のメトリクスを構築します。
+     */
+    public TransactionMetrics() {
+        for (PropagationType type : PropagationType.values()) {
+            propagations.put(type, new PropagationMetrics());
+        }
+    }
+
+    /**
+     * 長時間のトランザクションとみなす所要時間を設定します。既定値は10秒です。
+     *
+     * @param threshold 所要時間。{@link Duration#ZERO} の場合は検出しない
+     * @throws IllegalArgumentException 所要時間が負の場合
+     */
+    public void setLongTransactionThreshold(Duration threshold) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold は0以上を指定してください");
+        }
+        this.longTransactionThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * 長時間のトランザクションとみなす所要時間を返します。
+     *
+     * @return 所要時間
+     */
+    public Duration getLongTransactionThreshold() {
+        return Duration.ofNanos(longTransactionThresholdNanos);
+    }
+
+    /**
+     * コネクションの取得にかかった時間を記録します。
+     *
+     * @param nanos 所要時間（ナノ秒）
+     */
+    void recordConnectionAcquisition(long nanos) {
+        connectionAcquisition.record(nanos);
+    }
+
+    /**
+     * トランザクションのコミットを記録します。
+     *
+     * @param type 伝播タイプ
+     * @param nanos 開始からコミットまでの所要時間（ナノ秒）
+     */
+    void recordCommit(PropagationType type, long nanos) {
+        PropagationMetrics metrics = propagations.get(type);
+        metrics.committed.increment();
+        metrics.duration.record(nanos);
+        checkLongTransaction(type, nanos);
+    }
+
+    /**
+     * トランザクションのロールバックを記録します。
+     *
+     * @param type 伝播タイプ
+     * @param nanos 開始からロールバックまでの所要時間（ナノ秒）
+     * @param cause ロールバックの原因となった例外
+     */
+    void recordRollback(PropagationType type, long nanos, Throwable cause) {
+        PropagationMetrics metrics = propagations.get(type);
+        metrics.rolledBack.increment();
+        metrics.duration.record(nanos);
+        rollbackReasons.computeIfAbsent(reasonOf(cause), key -> new LongAdder()).increment();
+        checkLongTransaction(type, nanos);
+    }
+
+    /**
+     * 既存のトランザクションへの参加を記録します。
+     */
+    void recordJoined() {
+        joined.increment();
+    }
+
+    /**
+     * トランザクションのネストの深さを記録します。
+     *
+     * @param depth ネストの深さ（最も外側が1）
+     */
+    void recordDepth(int depth) {
+        maxDepth.accumulate(depth);
+    }
+
+    /**
+     * セーブポイントの作成を記録します。
+     */
+    void recordSavepointCreated() {
+        savepointsCreated.increment();
+    }
+
+    /**
+     * セーブポイントの解放を記録します。
+     */
+    void recordSavepointReleased() {
+        savepointsReleased.increment();
+    }
+
+    /**
+     * セーブポイントへのロールバックを記録します。
+     */
+    void recordSavepointRolledBack() {
+        savepointsRolledBack.increment();
+    }
+
+    /**
+     * 競合によるトランザクションの再実行を記録します。
+     */
+    void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * 最大試行回数まで再実行しても競合により失敗したことを記録します。
+     */
+    void recordRetriesExhausted() {
+        retriesExhausted.increment();
+    }
+
+    /**
+     * 現在の記録のスナップショットを返します。
+     *
+     * @return スナップショット
+     */
+    public Snapshot snapshot() {
+        Map<PropagationType, PropagationSnapshot> types = new EnumMap<>(PropagationType.class);
+        for (Map.Entry<PropagationType, PropagationMetrics> entry : propagations.entrySet()) {
+            PropagationMetrics metrics = entry.getValue();
+            types.put(entry.getKey(), new PropagationSnapshot(metrics.committed.sum(),
+                    metrics.rolledBack.sum(), metrics.duration.snapshot()));
+        }
+        Map<String, Long> reasons = new LinkedHashMap<>();
+        rollbackReasons.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        return new Snapshot(types, reasons, connectionAcquisition.snapshot(), joined.sum(),
+                savepointsCreated.sum(), savepointsReleased.sum(), savepointsRolledBack.sum(),
+                longTransactions.sum(), retries.sum(), retriesExhausted.sum(), (int) maxDepth.get());
+    }
+
+    /**
+     * 記録をすべて破棄します。
+     * <p>
+     * 実行中のトランザクションの記録と並行して呼び出した場合、一部の記録が残ることがあります。
+     * </p>
+     */
+    public void reset() {
+        for (PropagationMetrics metrics : propagations.values()) {
+            metrics.committed.reset();
+            metrics.rolledBack.reset();
+            metrics.duration.reset();
+        }
+        rollbackReasons.clear();
+        connectionAcquisition.reset();
+        joined.reset();
+        savepointsCreated.reset();
+        savepointsReleased.reset();
+        savepointsRolledBack.reset();
+        longTransactions.reset();
+        retries.reset();
+        retriesExhausted.reset();
+        maxDepth.reset();
+    }
+
+    private void checkLongTransaction(PropagationType type, long nanos) {
+        long threshold = longTransactionThresholdNanos;
+        if (threshold > 0 && nanos > threshold) {
+            longTransactions.increment();
+            logger.warn("トランザクションが長時間継続しました: {} ms（伝播タイプ: {}）", nanos / 1_000_000, type);
+        }
+    }
+
+    /**
+     * ロールバックの原因を、例外の連鎖の最も内側にある例外のクラス名で表します。
+     */
+    private static String reasonOf(Throwable cause) {
+        if (cause == null) {
+            return "unknown";
+        }
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getName();
+    }
+
+    /**
+     * 伝播タイプごとの記録です。
+     */
+    private static final class PropagationMetrics {
+        private final LongAdder committed = new LongAdder();
+        private final LongAdder rolledBack = new LongAdder();
+        private final LatencyHistogram duration = new LatencyHistogram();
+    }
+
+    /**
+     * 伝播タイプごとの記録のスナップショットです。
+     */
+    public static final class PropagationSnapshot {
+        private final long committed;
+        private final long rolledBack;
+        private final LatencyHistogram.Snapshot duration;
+
+        private PropagationSnapshot(long committed, long rolledBack, LatencyHistogram.Snapshot duration) {
+            this.committed = committed;
+            this.rolledBack = rolledBack;
+            this.duration = duration;
+        }
+
+        /**
+         * コミットしたトランザクションの件数を返します。
+         *
+         * @return コミットの件数
+         */
+        public long getCommitted() {
+            return committed;
+        }
+
+        /**
+         * ロールバックしたトランザクションの件数を返します。
+         *
+         * @return ロールバックの件数
+         */
+        public long getRolledBack() {
+            return rolledBack;
+        }
+
+        /**
+         * 開始からコミットまたはロールバックまでの所要時間の分布を返します。
+         *
+         * @return 所要時間の分布
+         */
+        public LatencyHistogram.Snapshot getDuration() {
+            return duration;
+        }
+    }
+
+    /**
+     * {@link TransactionMetrics} のある時点の記録です。
+     */
+    public static final class Snapshot {
+        private final Map<PropagationType, PropagationSnapshot> propagations;
+        private final Map<String, Long> rollbackReasons;
+        private final LatencyHistogram.Snapshot connectionAcquisition;
+        private final long joined;
+        private final long savepointsCreated;
+        private final long savepointsReleased;
+        private final long savepointsRolledBack;
+        private final long longTransactions;
+        private final long retries;
+        private final long retriesExhausted;
+        private final int maxDepth;
+
+        private Snapshot(Map<PropagationType, PropagationSnapshot> propagations, Map<String, Long> rollbackReasons,
+                LatencyHistogram.Snapshot connectionAcquisition, long joined, long savepointsCreated,
+                long savepointsReleased, long savepointsRolledBack, long longTransactions, long retries,
+                long retriesExhausted, int maxDepth) {
+            this.propagations = Collections.unmodifiableMap(propagations);
+            this.rollbackReasons = Collections.unmodifiableMap(rollbackReasons);
+            this.connectionAcquisition = connectionAcquisition;
+            this.joined = joined;
+            this.savepointsCreated = savepointsCreated;
+            this.savepointsReleased = savepointsReleased;
+            this.savepointsRolledBack = savepointsRolledBack;
+            this.longTransactions = longTransactions;
+            this.retries = retries;
+            this.retriesExhausted = retriesExhausted;
+            this.maxDepth = maxDepth;
+        }
+
+        /**
+         * 伝播タイプの記録を返します。
+         * <p>
+         * {@link PropagationType#REQUIRED} と {@link PropagationType#REQUIRES_NEW} は
+         * 新たに開始したトランザクションを、{@link PropagationType#NESTED} は
+         * セーブポイントで区切った範囲を記録します。既存のトランザクションがない状態で
+         * {@link PropagationType#NESTED} を指定した場合は {@link PropagationType#REQUIRED} として記録します。
+         * </p>
+         *
+         * @param type 伝播タイプ
+         * @return 伝播タイプの記録
+         */
+        public PropagationSnapshot get(PropagationType type) {
+            return propagations.get(type);
+        }
+
+        /**
+         * 伝播タイプごとの記録を返します。
+         *
+         * @return 伝播タイプと記録のマップ
+         */
+        public Map<PropagationType, PropagationSnapshot> getPropagations() {
+            return propagations;
+        }
+
+        /**
+         * ロールバックの原因ごとの件数を返します。原因は例外の連鎖の最も内側にある例外のクラス名です。
+         *
+         * @return 原因と件数のマップ
+         */
+        public Map<String, Long> getRollbackReasons() {
+            return rollbackReasons;
+        }
+
+        /**
+         * トランザクションの開始時にコネクションの取得にかかった時間の分布を返します。
+         *
+         * @return 所要時間の分布
+         */
+        public LatencyHistogram.Snapshot getConnectionAcquisition() {
+            return connectionAcquisition;
+        }
+
+        /**
+         * 既存のトランザクションに参加した件数を返します。
+         *
+         * @return 参加の件数
+         */
+        public long getJoined() {
+            return joined;
+        }
+
+        /**
+         * 作成したセーブポイントの件数を返します。
+         *
+         * @return 作成の件数
+         */
+        public long getSavepointsCreated() {
+            return savepointsCreated;
+        }
+
+        /**
+         * 解放したセーブポイントの件数を返します。
+         *
+         * @return 解放の件数
+         */
+        public long getSavepointsReleased() {
+            return savepointsReleased;
+        }
+
+        /**
+         * セーブポイントへロールバックした件数を返します。
+         *
+         * @return ロールバックの件数
+         */
+        public long getSavepointsRolledBack() {
+            return savepointsRolledBack;
+        }
+
+        /**
+         * 所要時間がしきい値を超えたトランザクションの件数を返します。
+         *
+         * @return 長時間のトランザクションの件数
+         */
+        public long getLongTransactions() {
+            return longTransactions;
+        }
+
+        /**
+         * 競合により再実行した件数を返します。
+         *
+         * @return 再実行の件数
+         */
+        public long getRetries() {
+            return retries;
+        }
+
+        /**
+         * 最大試行回数まで再実行しても競合により失敗した件数を返します。
+         *
+         * @return 再実行しても失敗した件数
+         */
+        public long getRetriesExhausted() {
+            return retriesExhausted;
+        }
+
+        /**
+         * 記録したネストの深さの最大値を返します。最も外側のトランザクションが1です。
+         *
+         * @return ネストの深さの最大値
+         */
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+    }
+}
@@ -6,9 +6,9 @@ package jp.vemi.batisfluid.transaction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -23,6 +23,10 @@ import jp.vemi.batisfluid.exception.TransactionException;
  * MyBatisのSqlSessionを使用した低レベルなトランザクション操作を提供します。
  * セーブポイントの作成や解放、ロールバックなどの機能も提供します。
  * </p>
+ * <p>
+ * トランザクションの状態（SqlSession、活性状態、セーブポイント）はスレッドごとに保持します。
+ * 1つのインスタンスを複数のスレッドで共有しても、各スレッドは自身が開始したトランザクションのみを参照します。
+ * </p>
  *
  * @version 0.0.2
  * @author BatisFluid
@@ -31,10 +35,8 @@ public class TransactionOperation {
     private static final Logger logger = LoggerFactory.getLogger(TransactionOperation.class);
 
     private final SqlSessionFactory sqlSessionFactory;
-    private final ThreadLocal<SqlSession> currentSession = new ThreadLocal<>();
-    private final ConcurrentMap<String, Savepoint> savepoints = new ConcurrentHashMap<>();
-
-    private boolean isActive = false;
+    /** 現在のスレッドのトランザクションの状態。開始されていない場合は null */
+    private final ThreadLocal<State> state = new ThreadLocal<>();
 
     /**
      * トランザクション操作を管理するクラスを構築します。
@@ -51,12 +53,10 @@ public class TransactionOperation {
      * @throws TransactionException トランザクションが既に開始されている場合
      */
     public void begin() {
-        if (isActive) {
+        if (isActive()) {
             throw new TransactionException("transaction.error.already.started");
         }
-        SqlSession session = sqlSessionFactory.openSession(false);
-        currentSession.set(session);
-        this.isActive = true;
+        state.set(new State(sqlSessionFactory.openSession(false)));
     }
 
     /**
@@ -66,16 +66,15 @@ public class TransactionOperation {
      * @throws TransactionException トランザクションが既に開始されている場合
      */
     public void begin(SqlSession session) {
-        if (isActive) {
+        if (isActive()) {
             throw new TransactionException("transaction.error.already.started");
         }
-        currentSession.set(session);
         try {
             ThreadLocalDataSource.bind(session.getConnection());
         } catch (Exception e) {
             throw new TransactionException("transaction.error.execution", e);
         }
-        this.isActive = true;
+        state.set(new State(session));
     }
 
     /**
@@ -85,14 +84,13 @@ public class TransactionOperation {
      * @param session SqlSession
      */
     public void beginIndependent(SqlSession session) {
-        if (isActive) {
+        if (isActive()) {
             throw new TransactionException("transaction.error.already.started");
         }
         ThreadLocalDataSource.suspendBinding();
         try {
-            currentSession.set(session);
             ThreadLocalDataSource.bind(session.getConnection());
-            this.isActive = true;
+            state.set(new State(session));
         } catch (Exception e) {
             throw new TransactionException("transaction.error.execution", e);
         } finally {
@@ -104,35 +102,30 @@ public class TransactionOperation {
      * トランザクションをコミットします。
      */
     public void commit() {
-        if (!isActive) {
-            throw new TransactionException("transaction.error.not.started");
-        }
-        currentSession.get().commit(true);
+        requireState().session.commit(true);
     }
 
     /**
      * トランザクションをロールバックします。
      */
     public void rollback() {
-        if (!isActive) {
-            throw new TransactionException("transaction.error.not.started");
-        }
-        currentSession.get().rollback(true);
+        requireState().session.rollback(true);
     }
 
     /**
      * トランザクションを終了します。
      */
     public void end() {
-        if (!isActive) {
+        State current = state.get();
+        if (current == null) {
             return;
         }
+        current.ended = true;
         try {
-            currentSession.get().close();
+            current.session.close();
         } finally {
             ThreadLocalDataSource.unbind();
-            isActive = false;
-            currentSession.remove();
+            state.remove();
         }
     }
 
@@ -142,10 +135,7 @@ public class TransactionOperation {
      * @return SqlSession
      */
     public SqlSession getCurrentSession() {
-        if (!isActive) {
-            throw new TransactionException("transaction.error.not.started");
-        }
-        return currentSession.get();
+        return requireState().session;
     }
 
     /**
@@ -154,7 +144,7 @@ public class TransactionOperation {
      * @return トランザクションがアクティブな場合はtrue
      */
     public boolean isActive() {
-        return isActive;
+        return state.get() != null;
     }
 
     /**
@@ -164,19 +154,16 @@ public class TransactionOperation {
      * @throws TransactionException トランザクションが開始されていない場合
      */
     public String createSavepoint() {
-        if (!isActive()) {
-            throw new TransactionException("transaction.error.not.started");
-        }
-
+        State current = requireState();
         String savepointId = UUID.randomUUID().toString();
-        Connection connection = currentSession.get().getConnection();
+        Connection connection = current.session.getConnection();
         Savepoint savepoint;
         try {
             savepoint = connection.setSavepoint();
         } catch (SQLException e) {
             throw new TransactionException("transaction.error.savepoint.creation", e);
         }
-        savepoints.put(savepointId, savepoint);
+        current.savepoints.put(savepointId, savepoint);
         logger.debug("セーブポイントを作成しました: {}", savepointId);
         return savepointId;
     }
@@ -188,13 +175,14 @@ public class TransactionOperation {
      * @throws TransactionException セーブポイントが見つからない場合
      */
     public void releaseSavepoint(String savepointId) {
-        Savepoint savepoint = savepoints.remove(savepointId);
+        State current = requireState();
+        Savepoint savepoint = current.savepoints.remove(savepointId);
         if (savepoint == null) {
             throw new TransactionException("Savepoint not found: " + savepointId);
         }
 
         try {
-            currentSession.get().getConnection().releaseSavepoint(savepoint);
+            current.session.getConnection().releaseSavepoint(savepoint);
             logger.debug("セーブポイントを解放しました: {}", savepointId);
         } catch (SQLException e) {
             throw new TransactionException("transaction.error.savepoint.release", e);
@@ -208,16 +196,69 @@ public class TransactionOperation {
      * @throws TransactionException セーブポイントが見つからない場合
      */
     public void rollbackToSavepoint(String savepointId) {
-        Savepoint savepoint = savepoints.get(savepointId);
+        State current = requireState();
+        Savepoint savepoint = current.savepoints.get(savepointId);
         if (savepoint == null) {
             throw new TransactionException("Savepoint not found: " + savepointId);
         }
 
         try {
-            currentSession.get().getConnection().rollback(savepoint);
+            current.session.getConnection().rollback(savepoint);
             logger.debug("セーブポイントまでロールバックしました: {}", savepointId);
         } catch (SQLException e) {
             throw new TransactionException("transaction.error.savepoint.rollback", e);
         }
     }
+
+    /**
+     * 現在のスレッドのトランザクションの状態を返します。
+     * {@link TransactionContext#capture()} で他のスレッドへ引き継ぐために使用します。
+     *
+     * @return トランザクションの状態。開始されていない場合は null
+     */
+    State currentState() {
+        return state.get();
+    }
+
+    /**
+     * 現在のスレッドのトランザクションの状態を差し替えます。
+     *
+     * @param newState 設定する状態。null の場合は状態を削除します
+     * @return 差し替える前の状態
+     */
+    State replaceState(State newState) {
+        State previous = state.get();
+        if (newState == null) {
+            state.remove();
+        } else {
+            state.set(newState);
+        }
+        return previous;
+    }
+
+    private State requireState() {
+        State current = state.get();
+        if (current == null) {
+            throw new TransactionException("transaction.error.not.started");
+        }
+        return current;
+    }
+
+    /**
+     * 1つのスレッドで開始されたトランザクションの状態です。
+     * {@link TransactionContext#capture()} により、他のスレッドと共有される場合があります。
+     */
+    static final class State {
+        private final SqlSession session;
+        private final Map<String, Savepoint> savepoints = new ConcurrentHashMap<>();
+        private volatile boolean ended;
+
+        private State(SqlSession session) {
+            this.session = session;
+        }
+
+        boolean isEnded() {
+            return ended;
+        }
+    }
 }
@@ -66,4 +66,16 @@ public @interface SBColumnMeta {
      * @return 最終更新日時カラムの場合true、それ以外はfalse
      */
     boolean lastModifiedColumn() default false;
+
+    /**
+     * 主キーの値を生成するキー生成器の名前を指定します。
+     * <p>
+     * 登録時に主キーの値が {@code null} の場合、{@code JdbcFlow#registerKeyGenerator} で
+     * この名前に登録したキー生成器から値を取得して設定します。
+     * データベースでの採番を待たずにキーが決まるため、JDBCバッチでの登録にも使用できます。
+     * </p>
+     * 
+     * @return キー生成器の名前。空文字の場合はキーを生成しない
+     */
+    String keyGenerator() default "";
 }
\ No newline at end of file
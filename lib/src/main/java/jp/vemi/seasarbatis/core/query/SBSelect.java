@@ -14,6 +14,7 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jp.vemi.batisfluid.routing.RoutingDataSource;
 import jp.vemi.seasarbatis.core.entity.SBPrimaryKeyInfo;
 import jp.vemi.seasarbatis.core.sql.CommandType;
 import jp.vemi.seasarbatis.core.sql.executor.SBQueryExecutor;
@@ -148,10 +149,18 @@ public class SBSelect<T> {
 
     /**
      * 検索結果をリストで返します。
+     * <p>
+     * トランザクションが開始されていない場合のコネクションは
+     * {@link RoutingDataSource#readOnly(java.util.concurrent.Callable)} により、レプリカから取得されます。
+     * </p>
      *
      * @return 検索結果
      */
     public List<T> getResultList() {
+        return RoutingDataSource.readOnly(this::executeResultList);
+    }
+
+    private List<T> executeResultList() {
         try {
             // 現在のトランザクション操作を優先（独立TX中など）
             jp.vemi.seasarbatis.core.transaction.SBTransactionOperation current = jp.vemi.seasarbatis.core.transaction.SBTransactionContext.getCurrentOperation();
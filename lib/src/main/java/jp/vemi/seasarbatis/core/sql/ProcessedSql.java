@@ -1,5 +1,8 @@
 package jp.vemi.seasarbatis.core.sql;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 処理済みSQLとパラメータ情報を保持するクラス
  */
@@ -7,4 +10,22 @@ package jp.vemi.seasarbatis.core.sql;
 @lombok.Builder
 public class ProcessedSql {
     private final String sql;
-}
\ No newline at end of file
+
+    /**
+     * JDBCのバインド変数（?）として設定する値のリストです。
+     * <p>
+     * ストリームやバイナリなど、SQLリテラルとして埋め込めないパラメータを出現順に保持します。
+     * </p>
+     */
+    @lombok.Builder.Default
+    private final List<Object> bindValues = Collections.emptyList();
+
+    /**
+     * バインド変数として設定する値が存在するかを返します。
+     *
+     * @return 存在する場合はtrue
+     */
+    public boolean hasBindValues() {
+        return bindValues != null && !bindValues.isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.seasarbatis.core.sql.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * H2 Database 2.x 向けの Dialect 実装。
+ * <p>
+ * リテラル表現は {@link PostgresDialect} と共通です。
+ * H2 は {@code RETURNING} 句を持たないため、登録・更新後の行はデータ変更デルタテーブル
+ * （{@code SELECT * FROM FINAL TABLE (...)}）で取得します。
+ * UPSERT は {@code MERGE INTO ... KEY (...) VALUES (...)} を使用し、楽観的排他制御が必要な場合は
+ * 更新条件を指定できる {@code MERGE INTO ... USING ... WHEN MATCHED AND ...} を使用します。
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class H2Dialect extends PostgresDialect {
+
+    @Override
+    public String getDatabaseProductName() {
+        return "H2";
+    }
+
+    @Override
+    public String insertReturning(String tableName, String columns, String values) {
+        return "SELECT * FROM FINAL TABLE (INSERT INTO " + tableName + " (" + columns + ") VALUES (" + values + "))";
+    }
+
+    @Override
+    public String updateReturning(String tableName, String setClause, String whereClause) {
+        return "SELECT * FROM FINAL TABLE (UPDATE " + tableName + " SET " + setClause + " WHERE " + whereClause + ")";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        if (lockColumn == null) {
+            return "MERGE INTO " + tableName + " (" + String.join(", ", columns) + ") KEY ("
+                    + String.join(", ", keyColumns) + ") VALUES (" + String.join(", ", values) + ")";
+        }
+        // KEY 指定の MERGE は更新条件を指定できないため、楽観的排他制御が必要な場合は USING 形式を使用する
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(tableName)
+                .append(" AS target USING (VALUES (").append(String.join(", ", values))
+                .append(")) AS source (").append(String.join(", ", columns)).append(") ON (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append("target.").append(keyColumns.get(i)).append(" = source.").append(keyColumns.get(i));
+        }
+        sql.append(")");
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(keyColumns);
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED AND target.").append(lockColumn).append(" = ").append(lockValue)
+                    .append(" THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(updateColumns.get(i)).append(" = source.").append(updateColumns.get(i));
+            }
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("source.").append(columns.get(i));
+        }
+        return sql.append(")").toString();
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT NEXT VALUE FOR " + sequenceName;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.seasarbatis.core.sql.dialect;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL 8.x 向けの Dialect 実装。
+ * <p>
+ * DO 範囲: 基本型(文字列/数値/日付/タイムスタンプ)、IN 句のリスト、{@code ON DUPLICATE KEY UPDATE}
+ * （8.0.20 で非推奨となった {@code VALUES(col)} ではなく行エイリアスを使用するため、8.0.19 以降が必要）
+ * DON'T 範囲: JSON関数、空間データ型、{@code RETURNING}（MySQL は未対応のため再検索で取得）
+ * </p>
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ * @since 0.0.2
+ */
+public class MySqlDialect implements SBDialect {
+
+    @Override
+    public String formatString(String value) {
+        if (value == null) {
+            return "NULL";
+        }
+        // MySQL はバックスラッシュをエスケープ文字として扱うため、先にエスケープする
+        String escaped = value.replace("\\", "\\\\").replace("'", "''");
+        return "'" + escaped + "'";
+    }
+
+    @Override
+    public String formatDate(String value) {
+        if (value == null) {
+            return "NULL";
+        }
+        return "TIMESTAMP '" + value + "'";
+    }
+
+    @Override
+    public String formatTimestamp(String value) {
+        if (value == null) {
+            return "NULL";
+        }
+        return "TIMESTAMP '" + value + "'";
+    }
+
+    @Override
+    public String formatArray(String formattedElements) {
+        if (formattedElements == null || formattedElements.isEmpty()) {
+            return "(NULL)";
+        }
+        // IN (...) 想定のため、配列相当は括弧付きのリストとして返す。
+        return "(" + formattedElements + ")";
+    }
+
+    @Override
+    public String getDatabaseProductName() {
+        return "MySQL";
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public boolean supportsRowValueIn() {
+        return true;
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        if (lockColumn != null) {
+            // ON DUPLICATE KEY UPDATE は更新条件を指定できないため、楽観的排他制御が必要な場合は未対応とする
+            return null;
+        }
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(keyColumns);
+        if (updateColumns.isEmpty()) {
+            // 更新するカラムがない場合も重複エラーにしないため、主キーを自身で更新する
+            updateColumns.add(keyColumns.get(0));
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" (")
+                .append(String.join(", ", columns)).append(") VALUES (").append(String.join(", ", values))
+                .append(") AS new ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(updateColumns.get(i)).append(" = new.").append(updateColumns.get(i));
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public boolean isRetryable(SQLException e) {
+        // 1213: デッドロック
+        return e.getErrorCode() == 1213 || SBDialect.super.isRetryable(e);
+    }
+}
@@ -3,6 +3,10 @@
  */
 package jp.vemi.seasarbatis.core.sql.dialect;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Oracle Database 23ai 向けの Dialect 実装。
  * <p>
@@ -56,4 +60,86 @@ public class OracleDialect implements SBDialect {
     public String getDatabaseProductName() {
         return "Oracle";
     }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public int getMaxInsertRows() {
+        // 複数行の VALUES は Oracle 23ai 以降でのみ使用できるため、未対応として扱う
+        return 1;
+    }
+
+    @Override
+    public int getMaxInListSize() {
+        // ORA-01795: リストに指定できる式の最大数は1000
+        return 1000;
+    }
+
+    @Override
+    public boolean supportsRowValueIn() {
+        return true;
+    }
+
+    @Override
+    public String limit(String sql, int limit) {
+        // Oracle 12c 以降の行制限句
+        return sql + " FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(tableName).append(" target USING (SELECT ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(values.get(i)).append(" AS ").append(columns.get(i));
+        }
+        sql.append(" FROM DUAL) source ON (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append("target.").append(keyColumns.get(i)).append(" = source.").append(keyColumns.get(i));
+        }
+        sql.append(")");
+        // ON 句で参照するカラムは更新できないため、主キー以外を更新対象とする
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(keyColumns);
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("target.").append(updateColumns.get(i)).append(" = source.").append(updateColumns.get(i));
+            }
+            if (lockColumn != null) {
+                sql.append(" WHERE target.").append(lockColumn).append(" = ").append(lockValue);
+            }
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("source.").append(columns.get(i));
+        }
+        return sql.append(")").toString();
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT " + sequenceName + ".NEXTVAL FROM DUAL";
+    }
+
+    @Override
+    public boolean isRetryable(SQLException e) {
+        // ORA-00060: デッドロック、ORA-08177: シリアライズ可能なトランザクションのアクセスの競合
+        return e.getErrorCode() == 60 || e.getErrorCode() == 8177 || SBDialect.super.isRetryable(e);
+    }
 }
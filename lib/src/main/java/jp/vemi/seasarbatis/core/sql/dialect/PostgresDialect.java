@@ -3,6 +3,10 @@
  */
 package jp.vemi.seasarbatis.core.sql.dialect;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * PostgreSQL 17.x および H2 (PostgreSQL Mode) 向けの Dialect 実装。
  * <p>
@@ -57,4 +61,60 @@ public class PostgresDialect implements SBDialect {
     public String getDatabaseProductName() {
         return "PostgreSQL";
     }
+
+    @Override
+    public int getMaxBindParameters() {
+        // 通信プロトコル上、パラメータ数は符号なし16ビットで送信される
+        return 65535;
+    }
+
+    @Override
+    public boolean supportsRowValueIn() {
+        return true;
+    }
+
+    @Override
+    public String insertReturning(String tableName, String columns, String values) {
+        return "INSERT INTO " + tableName + " (" + columns + ") VALUES (" + values + ") RETURNING *";
+    }
+
+    @Override
+    public String updateReturning(String tableName, String setClause, String whereClause) {
+        return "UPDATE " + tableName + " SET " + setClause + " WHERE " + whereClause + " RETURNING *";
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" AS target (")
+                .append(String.join(", ", columns)).append(") VALUES (").append(String.join(", ", values))
+                .append(") ON CONFLICT (").append(String.join(", ", keyColumns)).append(")");
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(keyColumns);
+        if (updateColumns.isEmpty()) {
+            return sql.append(" DO NOTHING").toString();
+        }
+        sql.append(" DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(updateColumns.get(i)).append(" = EXCLUDED.").append(updateColumns.get(i));
+        }
+        if (lockColumn != null) {
+            sql.append(" WHERE target.").append(lockColumn).append(" = ").append(lockValue);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT nextval('" + sequenceName + "')";
+    }
+
+    @Override
+    public boolean isRetryable(SQLException e) {
+        // 40P01: デッドロック
+        return "40P01".equals(e.getSQLState()) || SBDialect.super.isRetryable(e);
+    }
 }
@@ -3,6 +3,10 @@
  */
 package jp.vemi.seasarbatis.core.sql.dialect;
 
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.List;
+
 /**
  * データベース方言を表すインタフェース。
  * <p>
@@ -54,4 +58,151 @@ public interface SBDialect {
      * @return データベース製品名(例: "PostgreSQL", "Oracle")
      */
     String getDatabaseProductName();
+
+    /**
+     * SELECT文に取得件数の上限を付与します。
+     * <p>
+     * 標準では {@code LIMIT n} を末尾に付与します。
+     * 構文の異なるデータベースでは実装クラスでオーバーライドしてください。
+     * </p>
+     *
+     * @param sql   ORDER BY 句まで組み立て済みのSELECT文
+     * @param limit 取得件数の上限
+     * @return 上限を付与したSELECT文
+     */
+    default String limit(String sql, int limit) {
+        return sql + " LIMIT " + limit;
+    }
+
+    /**
+     * 1つのSQL文に含めることができるバインド変数の最大数を返します。
+     * <p>
+     * 複数行の {@code VALUES} による一括登録で、1文あたりの行数を決めるために使用します。
+     * 標準では多くのデータベースで安全な値として2000を返します。
+     * </p>
+     *
+     * @return バインド変数の最大数
+     */
+    default int getMaxBindParameters() {
+        return 2000;
+    }
+
+    /**
+     * 1つのINSERT文の {@code VALUES} に指定できる行数の上限を返します。
+     * <p>
+     * 複数行の {@code VALUES} に対応しないデータベースでは1を返してください。
+     * 標準では上限なしとして {@link Integer#MAX_VALUE} を返します。
+     * </p>
+     *
+     * @return 1文あたりの行数の上限
+     */
+    default int getMaxInsertRows() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@code IN} 句のリストに指定できる要素数の上限を返します。
+     * <p>
+     * 標準では上限なしとして {@link Integer#MAX_VALUE} を返します。
+     * </p>
+     *
+     * @return {@code IN} 句の要素数の上限
+     */
+    default int getMaxInListSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 行値式による {@code IN} 句（{@code (a, b) IN ((1, 2), (3, 4))}）に対応しているかを返します。
+     * <p>
+     * 対応しない場合、複合主キーの条件は {@code OR} で連結して構築します。
+     * 標準では未対応として {@code false} を返します。
+     * </p>
+     *
+     * @return 対応している場合は {@code true}
+     */
+    default boolean supportsRowValueIn() {
+        return false;
+    }
+
+    /**
+     * 登録した行を同じ文で返すINSERT文を構築します。
+     * <p>
+     * 標準では未対応として {@code null} を返し、呼び出し側は再検索で行を取得します。
+     * 対応するデータベースでは実装クラスでオーバーライドしてください。
+     * </p>
+     *
+     * @param tableName テーブル名
+     * @param columns   カンマ区切りのカラムリスト
+     * @param values    カンマ区切りの値リスト
+     * @return 登録した行を返すSQL。未対応の場合は {@code null}
+     */
+    default String insertReturning(String tableName, String columns, String values) {
+        return null;
+    }
+
+    /**
+     * 更新後の行を同じ文で返すUPDATE文を構築します。
+     * <p>
+     * 標準では未対応として {@code null} を返し、呼び出し側は再検索で行を取得します。
+     * 対応するデータベースでは実装クラスでオーバーライドしてください。
+     * </p>
+     *
+     * @param tableName   テーブル名
+     * @param setClause   SET句（{@code SET} を除く）
+     * @param whereClause WHERE句（{@code WHERE} を除く）
+     * @return 更新後の行を返すSQL。未対応の場合は {@code null}
+     */
+    default String updateReturning(String tableName, String setClause, String whereClause) {
+        return null;
+    }
+
+    /**
+     * 主キーが重複する場合は更新、しない場合は登録を1文で行うSQL（UPSERT）を構築します。
+     * <p>
+     * {@code lockColumn} を指定した場合は、既存行の値が {@code lockValue} と一致するときのみ更新します。
+     * 一致しない場合の件数は0件になります。
+     * 標準では未対応として {@code null} を返し、呼び出し側は存在確認の後に登録・更新を行います。
+     * </p>
+     *
+     * @param tableName  テーブル名
+     * @param columns    登録するカラム
+     * @param values     各カラムの値（{@code columns} と同じ順序）
+     * @param keyColumns 重複判定に使用する主キーカラム
+     * @param lockColumn 楽観的排他制御に使用するカラム。不要な場合は {@code null}
+     * @param lockValue  楽観的排他制御に使用する既存行の値
+     * @return UPSERT文。未対応の場合は {@code null}
+     */
+    default String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        return null;
+    }
+
+    /**
+     * シーケンスの次の値を1行1列で返すSELECT文を構築します。
+     * <p>
+     * 標準では未対応として {@code null} を返します。
+     * </p>
+     *
+     * @param sequenceName シーケンス名
+     * @return SELECT文。未対応の場合は {@code null}
+     */
+    default String nextSequenceValue(String sequenceName) {
+        return null;
+    }
+
+    /**
+     * 例外が、トランザクションを最初から実行し直せば成功し得る競合によるものかを判定します。
+     * <p>
+     * 標準では SQLSTATE {@code 40001}（シリアライゼーション失敗）と
+     * {@link SQLTransactionRollbackException} を対象とします。
+     * デッドロックを独自のエラーコードで通知するデータベースでは実装クラスでオーバーライドしてください。
+     * </p>
+     *
+     * @param e 判定する例外
+     * @return 再実行の対象である場合は {@code true}
+     */
+    default boolean isRetryable(SQLException e) {
+        return e instanceof SQLTransactionRollbackException || "40001".equals(e.getSQLState());
+    }
 }
@@ -81,6 +81,12 @@ public final class SBDialectResolver {
         if (normalized.contains("oracle")) {
             return new OracleDialect();
         }
+        if (normalized.contains("mysql") || normalized.contains("mariadb")) {
+            return new MySqlDialect();
+        }
+        if (normalized.equals("h2")) {
+            return new H2Dialect();
+        }
         if (normalized.contains("postgres")) {
             return new PostgresDialect();
         }
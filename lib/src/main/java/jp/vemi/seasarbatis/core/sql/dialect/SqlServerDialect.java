@@ -3,6 +3,10 @@
  */
 package jp.vemi.seasarbatis.core.sql.dialect;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Microsoft SQL Server 2022 向けの Dialect 実装。
  * <p>
@@ -57,4 +61,90 @@ public class SqlServerDialect implements SBDialect {
     public String getDatabaseProductName() {
         return "Microsoft SQL Server";
     }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 2100;
+    }
+
+    @Override
+    public int getMaxInsertRows() {
+        // 行値構築子（VALUES）に指定できる行数の上限
+        return 1000;
+    }
+
+    @Override
+    public String limit(String sql, int limit) {
+        // OFFSET/FETCH は ORDER BY 句が必須のため、無い場合は順序不定のダミーを補う
+        String base = sql.toUpperCase().contains(" ORDER BY ") ? sql : sql + " ORDER BY (SELECT NULL)";
+        return base + " OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY";
+    }
+
+    @Override
+    public String insertReturning(String tableName, String columns, String values) {
+        // OUTPUT 句は VALUES の前に置く。トリガーを持つテーブルでは INTO なしの OUTPUT は使用できない
+        return "INSERT INTO " + tableName + " (" + columns + ") OUTPUT INSERTED.* VALUES (" + values + ")";
+    }
+
+    @Override
+    public String updateReturning(String tableName, String setClause, String whereClause) {
+        return "UPDATE " + tableName + " SET " + setClause + " OUTPUT INSERTED.* WHERE " + whereClause;
+    }
+
+    @Override
+    public String upsert(String tableName, List<String> columns, List<String> values, List<String> keyColumns,
+            String lockColumn, String lockValue) {
+        // HOLDLOCK により、存在確認から登録までの間に他のトランザクションが割り込むことを防ぐ
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(tableName)
+                .append(" WITH (HOLDLOCK) AS target USING (SELECT ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(values.get(i)).append(" AS ").append(columns.get(i));
+        }
+        sql.append(") AS source ON (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append("target.").append(keyColumns.get(i)).append(" = source.").append(keyColumns.get(i));
+        }
+        sql.append(")");
+        List<String> updateColumns = new ArrayList<>(columns);
+        updateColumns.removeAll(keyColumns);
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED");
+            if (lockColumn != null) {
+                sql.append(" AND target.").append(lockColumn).append(" = ").append(lockValue);
+            }
+            sql.append(" THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(updateColumns.get(i)).append(" = source.").append(updateColumns.get(i));
+            }
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("source.").append(columns.get(i));
+        }
+        // SQL Server の MERGE 文はセミコロンでの終端が必須
+        return sql.append(");").toString();
+    }
+
+    @Override
+    public String nextSequenceValue(String sequenceName) {
+        return "SELECT NEXT VALUE FOR " + sequenceName;
+    }
+
+    @Override
+    public boolean isRetryable(SQLException e) {
+        // 1205: デッドロックの対象として選択された
+        return e.getErrorCode() == 1205 || SBDialect.super.isRetryable(e);
+    }
 }
@@ -4,7 +4,14 @@
 package jp.vemi.seasarbatis.core.sql.executor;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -15,6 +22,11 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jp.vemi.batisfluid.core.ResultSetCallback;
+import jp.vemi.batisfluid.entity.DirtyTracker;
+import jp.vemi.batisfluid.sql.ParameterBinder;
+import jp.vemi.seasarbatis.core.entity.SBEntityOperations;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
 import jp.vemi.seasarbatis.core.sql.CommandType;
 import jp.vemi.seasarbatis.core.sql.ProcessedSql;
 import jp.vemi.seasarbatis.core.sql.dialect.PostgresDialect;
@@ -41,6 +53,7 @@ public class SBQueryExecutor {
     private static final Logger logger = LoggerFactory.getLogger(SBQueryExecutor.class);
     private final SBSqlProcessor sqlProcessor;
     private final SBTransactionOperation txOperation;
+    private volatile DirtyTracker dirtyTracker;
 
     /**
      * SBQueryExecutorを構築します。（SQLセッションファクトリ指定）
@@ -86,6 +99,48 @@ public class SBQueryExecutor {
         this.txOperation = txOperation;
     }
 
+    /**
+     * 検索したエンティティのスナップショットを記録する {@link DirtyTracker} を設定します。
+     * <p>
+     * 設定すると、{@link SBTableMeta} を持つクラスへマッピングした検索結果のカラム値を記録します。
+     * {@code null} を設定すると記録を停止します。
+     * </p>
+     *
+     * @param dirtyTracker スナップショットの記録先
+     */
+    public void setDirtyTracker(DirtyTracker dirtyTracker) {
+        this.dirtyTracker = dirtyTracker;
+    }
+
+    /**
+     * 検索したエンティティのスナップショットの記録先を取得します。
+     *
+     * @return スナップショットの記録先。記録しない場合は {@code null}
+     */
+    public DirtyTracker getDirtyTracker() {
+        return dirtyTracker;
+    }
+
+    /**
+     * 現在のトランザクションで使用しているコネクションを取得します。
+     * <p>
+     * ドライバ固有のAPIを使用する処理のために提供します。
+     * MyBatis を経由せずに更新するため、セッションのローカルキャッシュを破棄します。
+     * コネクションはトランザクションが管理するため、呼び出し側でクローズしないでください。
+     * </p>
+     *
+     * @return 現在のトランザクションのコネクション
+     */
+    public Connection getCurrentConnection() {
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        session.clearCache();
+        return session.getConnection();
+    }
+
     /**
      * SQLファイルから実行します。（SqlSession指定）
      * 
@@ -165,9 +220,12 @@ public class SBQueryExecutor {
             String statement = "jp.vemi.seasarbatis.prepared" + commandType;
 
             if (CommandType.SELECT.equals(commandType)) {
+                requireNoBindValues(processedSql);
                 List<Map<String, Object>> results = session.selectList(statement,
                         Collections.singletonMap("_sql", processedSql.getSql()));
                 return (T) results;
+            } else if (processedSql.hasBindValues()) {
+                return (T) Integer.valueOf(executePrepared(session, processedSql));
             } else {
                 return (T) executeStatement(session, statement, Collections.singletonMap("_sql", processedSql.getSql()),
                         commandType);
@@ -192,12 +250,14 @@ public class SBQueryExecutor {
             SqlSession session) {
         ProcessedSql processedSql = sqlProcessor.process(sql, parameters);
         logger.debug("Executing SELECT SQL: {}", processedSql);
+        requireNoBindValues(processedSql);
 
         List<Map<String, Object>> rawResults = session.selectList("jp.vemi.seasarbatis.preparedSELECT",
                 Collections.singletonMap("_sql", processedSql.getSql()));
         Configuration configuration = session.getConfiguration();
-        return rawResults.stream().map(row -> SBTypeConverterUtils.convertRowToEntity(row, resultType, configuration))
-                .collect(Collectors.toList());
+        return trackLoaded(rawResults.stream()
+                .map(row -> SBTypeConverterUtils.convertRowToEntity(row, resultType, configuration))
+                .collect(Collectors.toList()), resultType);
     }
 
     /**
@@ -213,6 +273,7 @@ public class SBQueryExecutor {
         try {
             ProcessedSql processedSql = sqlProcessor.process(sql, parameters);
             logger.debug("Executing SELECT SQL: {}", processedSql);
+            requireNoBindValues(processedSql);
 
             SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
             if (currentTxOperation == null) {
@@ -223,15 +284,51 @@ public class SBQueryExecutor {
                     Collections.singletonMap("_sql", processedSql.getSql()));
 
             Configuration configuration = session.getConfiguration();
-            return rawResults.stream()
+            return trackLoaded(rawResults.stream()
                     .map(row -> SBTypeConverterUtils.convertRowToEntity(row, resultType, configuration))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()), resultType);
         } catch (Exception e) {
             logger.error("SQL実行エラー: {}", e.getMessage(), e);
             throw new SBSQLException("SELECT文の実行中にエラーが発生しました", e);
         }
     }
 
+    /**
+     * SELECT文を実行し、ResultSet をコールバックで直接読み取ります。
+     * <p>
+     * MyBatis の結果マッピング（行ごとの Map 生成）を経由しないため、
+     * 大量行の数値読み取りなどで中間オブジェクトの生成を抑えられます。
+     * LOB 列はコールバック内で {@link ResultSet#getBinaryStream(int)} などを使用して
+     * ストリームとして読み取れます。現在のトランザクションのコネクションを使用します。
+     * </p>
+     *
+     * @param <R> 読み取り結果の型
+     * @param sql SQL文
+     * @param parameters バインドパラメータ
+     * @param callback ResultSet を読み取るコールバック
+     * @return コールバックの戻り値
+     */
+    public <R> R executeQuery(String sql, Map<String, Object> parameters, ResultSetCallback<R> callback) {
+        ProcessedSql processedSql = sqlProcessor.process(sql, parameters);
+        logger.debug("Executing SELECT SQL: {}", processedSql);
+
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = session.getConnection().prepareStatement(processedSql.getSql())) {
+            binder.bindAll(statement, processedSql.getBindValues());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return callback.handle(resultSet);
+            }
+        } catch (SQLException e) {
+            logger.error("SQL実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("SELECT文の実行中にエラーが発生しました", e);
+        }
+    }
+
     /**
      * 非SELECT文を実行します。
      * 
@@ -268,14 +365,279 @@ public class SBQueryExecutor {
 
         String statement = "jp.vemi.seasarbatis.prepared" + commandType;
         if (CommandType.SELECT.equals(commandType)) {
+            requireNoBindValues(processedSql);
             return (T) session.selectList("jp.vemi.seasarbatis.preparedSELECT",
                     Collections.singletonMap("_sql", processedSql.getSql()));
+        } else if (processedSql.hasBindValues()) {
+            return (T) Integer.valueOf(executePrepared(session, processedSql));
         } else {
             return (T) executeStatement(session, statement, Collections.singletonMap("_sql", processedSql.getSql()),
                     commandType);
         }
     }
 
+    /**
+     * 同じSQLをパラメータごとに JDBC バッチで実行します。
+     * <p>
+     * 値はすべてバインド変数として設定し、{@code batchSize} 件ごとに {@code executeBatch} を呼び出して
+     * 送信します。IF条件やIN句の要素数によりSQL文字列が変わった場合は、それまでのバッチを送信してから
+     * 新しい PreparedStatement を作成します。現在のトランザクションのコネクションを使用します。
+     * </p>
+     * <p>
+     * 戻り値はパラメータと同じ順序の更新件数です。ドライバが件数を返さない場合は
+     * {@link java.sql.Statement#SUCCESS_NO_INFO} が設定されます。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param parameterList 1行分ずつのバインドパラメータ
+     * @param batchSize 1回の executeBatch で送信する件数
+     * @return 行ごとの更新件数
+     * @throws SBIllegalStateException batchSize が1未満の場合
+     */
+    public int[] executeBatch(String sql, List<Map<String, Object>> parameterList, int batchSize) {
+        if (batchSize < 1) {
+            throw new SBIllegalStateException("バッチサイズには1以上を指定してください: " + batchSize);
+        }
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        session.clearCache();
+
+        int[] results = new int[parameterList.size()];
+        int completed = 0;
+        PreparedStatement statement = null;
+        String currentSql = null;
+        int pending = 0;
+        try (ParameterBinder binder = new ParameterBinder()) {
+            for (Map<String, Object> parameters : parameterList) {
+                ProcessedSql processedSql = sqlProcessor.processPrepared(sql, parameters);
+                if (statement == null || !processedSql.getSql().equals(currentSql)) {
+                    if (statement != null) {
+                        completed = flushBatch(statement, results, completed);
+                        pending = 0;
+                        statement.close();
+                    }
+                    currentSql = processedSql.getSql();
+                    logger.debug("Executing batch SQL: {}", currentSql);
+                    statement = session.getConnection().prepareStatement(currentSql);
+                }
+                binder.bindAll(statement, processedSql.getBindValues());
+                statement.addBatch();
+                if (++pending >= batchSize) {
+                    completed = flushBatch(statement, results, completed);
+                    pending = 0;
+                }
+            }
+            if (statement != null && pending > 0) {
+                completed = flushBatch(statement, results, completed);
+            }
+            return results;
+        } catch (SQLException e) {
+            logger.error("バッチ実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("バッチ実行中にエラーが発生しました（" + completed + "件目まで送信済み）", e);
+        } finally {
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    logger.warn("ステートメントのクローズに失敗しました: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * JDBCのバインド変数（{@code ?}）を含むSQLを、値のリストを順に設定して実行します。
+     * <p>
+     * SQLの解析を行わないため、複数行の {@code VALUES} のように大量のバインド変数を含む文を
+     * 組み立て済みの場合に使用します。現在のトランザクションのコネクションを使用します。
+     * </p>
+     *
+     * @param sql バインド変数を含むSQL文
+     * @param bindValues 先頭のバインド変数から順に設定する値
+     * @return 更新件数
+     */
+    public int executePreparedUpdate(String sql, List<?> bindValues) {
+        logger.debug("Executing prepared SQL: {} ({} parameters)", sql, bindValues.size());
+
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        session.clearCache();
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = session.getConnection().prepareStatement(sql)) {
+            binder.bindAll(statement, bindValues);
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("ステートメント実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("SQL実行中にエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * INSERT文を実行し、データベースで自動採番されたキーを取得します。
+     * <p>
+     * 値はすべてバインド変数として設定し、{@link java.sql.Connection#prepareStatement(String, String[])}
+     * に取得対象のカラム名を指定して実行します。1回の実行でキーまで取得するため、再検索は不要です。
+     * </p>
+     *
+     * @param sql INSERT文
+     * @param parameters バインドパラメータ
+     * @param keyColumns 取得するキーのカラム名
+     * @return カラム名と取得した値のマップ。キーが返されなかった場合は空のマップ
+     */
+    public Map<String, Object> executeInsertForKeys(String sql, Map<String, Object> parameters,
+            List<String> keyColumns) {
+        ProcessedSql processedSql = sqlProcessor.processPrepared(sql, parameters);
+        logger.debug("Executing INSERT SQL: {}", processedSql);
+
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        session.clearCache();
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = session.getConnection().prepareStatement(processedSql.getSql(),
+                        keyColumns.toArray(new String[0]))) {
+            binder.bindAll(statement, processedSql.getBindValues());
+            statement.executeUpdate();
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            try (ResultSet resultSet = statement.getGeneratedKeys()) {
+                if (resultSet.next()) {
+                    // ドライバにより列名が異なるため、指定した順序で読み取る
+                    int columnCount = resultSet.getMetaData().getColumnCount();
+                    for (int i = 0; i < keyColumns.size() && i < columnCount; i++) {
+                        keys.put(keyColumns.get(i), resultSet.getObject(i + 1));
+                    }
+                }
+            }
+            return keys;
+        } catch (SQLException e) {
+            logger.error("SQL実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("SQL実行中にエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * 行を返す更新系SQL（{@code RETURNING}、{@code OUTPUT}、{@code FINAL TABLE} など）を実行し、
+     * 返された行をエンティティに変換します。
+     * <p>
+     * 値はすべてバインド変数として設定し、現在のトランザクションのコネクションで実行します。
+     * </p>
+     *
+     * @param <T> エンティティの型
+     * @param sql 行を返す更新系SQL
+     * @param parameters バインドパラメータ
+     * @param resultType マッピング先のクラス
+     * @return 返された行のリスト
+     */
+    public <T> List<T> executeReturning(String sql, Map<String, Object> parameters, Class<T> resultType) {
+        ProcessedSql processedSql = sqlProcessor.processPrepared(sql, parameters);
+        logger.debug("Executing returning SQL: {}", processedSql);
+
+        SBTransactionOperation currentTxOperation = SBTransactionContext.getCurrentOperation();
+        if (currentTxOperation == null) {
+            currentTxOperation = txOperation;
+        }
+        SqlSession session = currentTxOperation.getCurrentSession();
+        session.clearCache();
+        Configuration configuration = session.getConfiguration();
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = session.getConnection().prepareStatement(processedSql.getSql())) {
+            binder.bindAll(statement, processedSql.getBindValues());
+            List<T> results = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= columnCount; i++) {
+                        row.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+                    }
+                    results.add(SBTypeConverterUtils.convertRowToEntity(row, resultType, configuration));
+                }
+            }
+            return trackLoaded(results, resultType);
+        } catch (SQLException e) {
+            logger.error("SQL実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("SQL実行中にエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * {@link DirtyTracker} が設定されている場合、検索したエンティティのスナップショットを記録します。
+     *
+     * @param <T> エンティティの型
+     * @param entities 検索したエンティティ
+     * @param resultType マッピング先のクラス
+     * @return 引数のエンティティのリスト
+     */
+    private <T> List<T> trackLoaded(List<T> entities, Class<T> resultType) {
+        DirtyTracker tracker = dirtyTracker;
+        if (tracker != null && resultType.isAnnotationPresent(SBTableMeta.class)) {
+            for (T entity : entities) {
+                tracker.snapshot(entity, SBEntityOperations.getEntityParams(entity));
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * 蓄積したバッチを送信し、更新件数を結果配列へ格納します。
+     *
+     * @param statement 送信する PreparedStatement
+     * @param results 結果配列
+     * @param offset 格納を開始する位置
+     * @return 格納後の次の位置
+     * @throws SQLException 送信に失敗した場合
+     */
+    private static int flushBatch(PreparedStatement statement, int[] results, int offset) throws SQLException {
+        int[] counts = statement.executeBatch();
+        System.arraycopy(counts, 0, results, offset, counts.length);
+        return offset + counts.length;
+    }
+
+    /**
+     * バインド変数を含むSQLを PreparedStatement で実行します。
+     * <p>
+     * ストリーム型のパラメータは {@link ParameterBinder} によりストリームのまま送信されます。
+     * MyBatis を経由せずに更新するため、セッションのローカルキャッシュを破棄します。
+     * </p>
+     *
+     * @param session SQLセッション
+     * @param processedSql 処理済みSQL
+     * @return 更新件数
+     */
+    private int executePrepared(SqlSession session, ProcessedSql processedSql) {
+        session.clearCache();
+        try (ParameterBinder binder = new ParameterBinder();
+                PreparedStatement statement = session.getConnection().prepareStatement(processedSql.getSql())) {
+            binder.bindAll(statement, processedSql.getBindValues());
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("ステートメント実行エラー: {}", e.getMessage(), e);
+            throw new SBSQLException("SQL実行中にエラーが発生しました", e);
+        }
+    }
+
+    /**
+     * MyBatis のマッピングを経由するSELECTでは、バインド変数を使用できないことを確認します。
+     *
+     * @param processedSql 処理済みSQL
+     */
+    private void requireNoBindValues(ProcessedSql processedSql) {
+        if (processedSql.hasBindValues()) {
+            throw new SBIllegalStateException(
+                    "ストリーム型のパラメータを含むSELECTは、ResultSetを直接読み取るAPIで実行してください");
+        }
+    }
+
     /**
      * SQLセッション上で指定のステートメントを実行します。
      * 
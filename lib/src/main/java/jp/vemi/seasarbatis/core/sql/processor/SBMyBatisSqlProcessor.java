@@ -3,7 +3,12 @@
  */
 package jp.vemi.seasarbatis.core.sql.processor;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.Timestamp;
 import java.sql.Time;
 import java.time.LocalDate;
@@ -69,13 +74,62 @@ public class SBMyBatisSqlProcessor {
      * @return バインド変数に値が代入されたSQL文字列
      */
     public String process(String sql, Configuration configuration, Map<String, Object> parameters) {
+        return process(sql, configuration, parameters, null);
+    }
+
+    /**
+     * SQLを処理します。
+     * <p>
+     * {@code bindValues} を指定した場合、ストリームやバイナリなどリテラルとして埋め込めない値
+     * （{@link InputStream}、{@link Reader}、{@link Path}、{@code byte[]}、{@link Blob}、{@link Clob}）は
+     * JDBC のバインド変数 {@code ?} に置換し、値を出現順に {@code bindValues} へ追加します。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param configuration MyBatis設定
+     * @param parameters バインドパラメータ
+     * @param bindValues バインド変数として設定する値の格納先。nullの場合はすべてリテラルとして埋め込みます
+     * @return バインド変数に値が代入されたSQL文字列
+     */
+    public String process(String sql, Configuration configuration, Map<String, Object> parameters,
+            List<Object> bindValues) {
+        return replaceParameters(sql, configuration, parameters, bindValues, false);
+    }
+
+    /**
+     * SQLを PreparedStatement 用に処理します。
+     * <p>
+     * 配列・コレクション（IN句の展開）を除くすべての値を JDBC のバインド変数 {@code ?} に置換し、
+     * 値を出現順に {@code bindValues} へ追加します。パラメータの値に関わらず同じSQL文字列が得られるため、
+     * JDBC バッチのように1つの PreparedStatement を使い回す処理に使用します。
+     * </p>
+     *
+     * @param sql SQL文
+     * @param configuration MyBatis設定
+     * @param parameters バインドパラメータ
+     * @param bindValues バインド変数として設定する値の格納先
+     * @return バインド変数を含むSQL文字列
+     */
+    public String processPrepared(String sql, Configuration configuration, Map<String, Object> parameters,
+            List<Object> bindValues) {
+        return replaceParameters(sql, configuration, parameters, bindValues, true);
+    }
+
+    private String replaceParameters(String sql, Configuration configuration, Map<String, Object> parameters,
+            List<Object> bindValues, boolean bindAll) {
         List<ParameterMapping> parameterMappings = getParameterMappings(configuration, sql);
         String sqlWithPlaceholders = sql;
 
         // プレースホルダをパラメータの値に置換
         for (ParameterMapping mapping : parameterMappings) {
             Object value = parameters.get(mapping.getProperty());
-            String replacement = formatParameter(value);
+            String replacement;
+            if (bindValues != null && (isStreamValue(value) || (bindAll && !isMultiValue(value)))) {
+                bindValues.add(value);
+                replacement = "?";
+            } else {
+                replacement = formatParameter(value);
+            }
             // MyBatisのプレースホルダをエスケープして1回分の置換を実施
             String property = "\\#\\{" + mapping.getProperty() + "\\}";
             sqlWithPlaceholders = sqlWithPlaceholders.replaceFirst(property, Matcher.quoteReplacement(replacement));
@@ -83,6 +137,31 @@ public class SBMyBatisSqlProcessor {
         return sqlWithPlaceholders;
     }
 
+    /**
+     * SQLリテラルとして埋め込まず、JDBCのバインド変数として設定すべき値かを判定します。
+     *
+     * @param value パラメータ値
+     * @return バインド変数として設定すべき場合はtrue
+     */
+    static boolean isStreamValue(Object value) {
+        return value instanceof InputStream
+                || value instanceof Reader
+                || value instanceof Path
+                || value instanceof byte[]
+                || value instanceof Blob
+                || value instanceof Clob;
+    }
+
+    /**
+     * IN句などで複数のリテラルに展開する値かを判定します。
+     *
+     * @param value パラメータ値
+     * @return 配列（byte[]を除く）またはコレクションの場合はtrue
+     */
+    private static boolean isMultiValue(Object value) {
+        return value instanceof Collection || value instanceof Object[];
+    }
+
     /**
      * パラメータマッピングを取得します。
      *
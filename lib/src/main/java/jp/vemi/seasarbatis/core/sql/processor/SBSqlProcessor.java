@@ -4,7 +4,9 @@
 package jp.vemi.seasarbatis.core.sql.processor;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.session.Configuration;
@@ -59,6 +61,25 @@ public class SBSqlProcessor {
      * @return 処理済みSQL情報
      */
     public ProcessedSql process(String sql, Map<String, Object> parameters) {
+        return process(sql, parameters, false);
+    }
+
+    /**
+     * SQLを解析し、PreparedStatement で実行可能な形式に処理します。
+     * <p>
+     * 値をSQLリテラルとして埋め込まず、すべてJDBCのバインド変数として保持します。
+     * IF条件の評価結果やIN句の要素数が同じであれば、パラメータが異なっても同じSQL文字列になります。
+     * </p>
+     *
+     * @param sql        SQL文字列
+     * @param parameters バインドパラメータ
+     * @return 処理済みSQL情報
+     */
+    public ProcessedSql processPrepared(String sql, Map<String, Object> parameters) {
+        return process(sql, parameters, true);
+    }
+
+    private ProcessedSql process(String sql, Map<String, Object> parameters, boolean prepared) {
         ParsedSql parsedSql = SBSqlParser.parse(sql, parameters);
 
         Map<String, Object> effectiveParameters = new LinkedHashMap<>();
@@ -69,13 +90,15 @@ public class SBSqlProcessor {
             effectiveParameters.putAll(parsedSql.getParameterValues());
         }
 
-        String processedSql = mybatisSqlProcessor.process(
-                parsedSql.getSql(),
-                configuration,
-                effectiveParameters);
+        // ストリーム等のリテラル化できない値はJDBCのバインド変数として保持
+        List<Object> bindValues = new ArrayList<>();
+        String processedSql = prepared
+                ? mybatisSqlProcessor.processPrepared(parsedSql.getSql(), configuration, effectiveParameters, bindValues)
+                : mybatisSqlProcessor.process(parsedSql.getSql(), configuration, effectiveParameters, bindValues);
 
         return ProcessedSql.builder()
                 .sql(processedSql)
+                .bindValues(bindValues)
                 .build();
     }
 
@@ -4,9 +4,6 @@
 package jp.vemi.seasarbatis.core.transaction;
 
 import java.io.PrintWriter;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -17,12 +14,16 @@ import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 
+import jp.vemi.batisfluid.transaction.SuppressedConnection;
+
 /**
  * スレッドローカルにバインドされたコネクションを優先的に返すDataSourceです。
  * <p>
  * トランザクション境界内で新たに開かれる {@code SqlSessionFactory.openSession()} が
  * 常に同一の物理コネクションを共有するようにし、子セッションからの commit/rollback/close を抑制します。
  * これにより、トランザクション管理側の rollback で一括して取り消せます。
+ * 子セッションに渡す {@link jp.vemi.batisfluid.transaction.SuppressedConnection} はバインド時に1つだけ生成し、
+ * トランザクションの間は同じインスタンスを返します。
  * </p>
  *
  * @author H.Kurosawa
@@ -36,7 +37,7 @@ public class SBThreadLocalDataSource implements DataSource {
     private static final Logger logger = LoggerFactory.getLogger(SBThreadLocalDataSource.class);
 
     private final DataSource delegate;
-    private static final ThreadLocal<Connection> BOUND = new ThreadLocal<>();
+    private static final ThreadLocal<SuppressedConnection> BOUND = new ThreadLocal<>();
     private static final ThreadLocal<Integer> SUSPEND_LEVEL = ThreadLocal.withInitial(() -> 0);
 
     /**
@@ -50,11 +51,16 @@ public class SBThreadLocalDataSource implements DataSource {
 
     /**
      * 現在のスレッドにコネクションをバインドします。
+     * {@code null} を指定した場合は {@link #unbind()} と同じくバインドを解除します。
      * 
      * @param connection バインドするコネクション
      */
     public static void bind(Connection connection) {
-        BOUND.set(connection);
+        if (connection == null) {
+            BOUND.remove();
+            return;
+        }
+        BOUND.set(SuppressedConnection.wrap(connection));
     }
 
     /**
@@ -90,11 +96,11 @@ public class SBThreadLocalDataSource implements DataSource {
     @Override
     public Connection getConnection() throws SQLException {
         if (!isBindingSuspended()) {
-            Connection bound = BOUND.get();
+            SuppressedConnection bound = BOUND.get();
             if (bound != null) {
             logger.debug("Returning BOUND suppressed connection");
-            // 子セッション向けに commit/rollback/close を無効化したプロキシを返す
-            return createSuppressedConnection(bound);
+            // 子セッション向けに commit/rollback/close を無効化したラッパーを返す
+            return bound;
             }
         }
         logger.debug("Returning DELEGATE connection");
@@ -104,53 +110,16 @@ public class SBThreadLocalDataSource implements DataSource {
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
         if (!isBindingSuspended()) {
-            Connection bound = BOUND.get();
+            SuppressedConnection bound = BOUND.get();
             if (bound != null) {
             logger.debug("Returning BOUND suppressed connection (with creds)");
-            return createSuppressedConnection(bound);
+            return bound;
             }
         }
         logger.debug("Returning DELEGATE connection (with creds)");
         return delegate.getConnection(username, password);
     }
 
-    private Connection createSuppressedConnection(Connection target) {
-        InvocationHandler handler = new InvocationHandler() {
-            @Override
-            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                String name = method.getName();
-                // commit/rollback/close は抑制（NO-OP）
-                if ("commit".equals(name) || "rollback".equals(name) || "close".equals(name)
-                        || "setAutoCommit".equals(name)) {
-                    return null;
-                }
-                // unwrap/isWrapperFor で実コネクションへ到達されないように防御
-                if ("unwrap".equals(name) && args != null && args.length == 1 && args[0] instanceof Class) {
-                    Class<?> iface = (Class<?>) args[0];
-                    if (iface.isAssignableFrom(Connection.class)) {
-                        // 自分自身（抑制プロキシ）を返すことで、実体へのエスケープを防止
-                        return proxy;
-                    }
-                    // それ以外は素直に委譲
-                    return method.invoke(target, args);
-                }
-                if ("isWrapperFor".equals(name) && args != null && args.length == 1 && args[0] instanceof Class) {
-                    Class<?> iface = (Class<?>) args[0];
-                    if (iface.isAssignableFrom(Connection.class)) {
-                        // ラッパ解除可能と認識させない
-                        return Boolean.FALSE;
-                    }
-                    return method.invoke(target, args);
-                }
-                return method.invoke(target, args);
-            }
-        };
-        return (Connection) Proxy.newProxyInstance(
-                target.getClass().getClassLoader(),
-                new Class<?>[] { Connection.class },
-                handler);
-    }
-
     @Override
     public PrintWriter getLogWriter() throws SQLException {
         return delegate.getLogWriter();
@@ -16,6 +16,10 @@ import jp.vemi.seasarbatis.exception.SBTransactionException;
  * より使いやすいトランザクション管理機能を提供します。
  * SBTransactionOperationを内部で使用し、より高度な制御を実現します。
  * </p>
+ * <p>
+ * トランザクションの状態はスレッドごとに管理されるため、1つのインスタンスを
+ * 複数のスレッドで共有できます。各スレッドのトランザクションは互いに独立しています。
+ * </p>
  * 
  * @author H.Kurosawa
  * @version 1.0.0
@@ -156,17 +160,18 @@ public class SBTransactionManager {
      * @return 操作の実行結果
      */
     private <T> T executeNested(Callable<T> operation) {
-        if (!txOperation.isActive()) {
+        SBTransactionOperation op = getTransactionOperation();
+        if (!op.isActive()) {
             return executeRequired(operation);
         }
 
-        String savepoint = txOperation.createSavepoint();
+        String savepoint = op.createSavepoint();
         try {
             T result = operation.call();
-            txOperation.releaseSavepoint(savepoint);
+            op.releaseSavepoint(savepoint);
             return result;
         } catch (Exception e) {
-            txOperation.rollbackToSavepoint(savepoint);
+            op.rollbackToSavepoint(savepoint);
             throw new SBTransactionException("transaction.error.nested.execution", e);
         }
     }
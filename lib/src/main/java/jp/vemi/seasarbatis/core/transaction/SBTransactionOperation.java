@@ -6,9 +6,9 @@ package jp.vemi.seasarbatis.core.transaction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -23,6 +23,10 @@ import jp.vemi.seasarbatis.exception.SBTransactionException;
  * MyBatisのSqlSessionを使用した低レベルなトランザクション操作を提供します。
  * セーブポイントの作成や解放、ロールバックなどの機能も提供します。
  * </p>
+ * <p>
+ * トランザクションの状態（SqlSession、活性状態、セーブポイント）はスレッドごとに保持します。
+ * 1つのインスタンスを複数のスレッドで共有しても、各スレッドは自身が開始したトランザクションのみを参照します。
+ * </p>
  * 
  * @author H.Kurosawa
  * @version 1.0.0
@@ -35,10 +39,8 @@ public class SBTransactionOperation {
     private static final Logger logger = LoggerFactory.getLogger(SBTransactionOperation.class);
 
     private final SqlSessionFactory sqlSessionFactory;
-    private final ThreadLocal<SqlSession> currentSession = new ThreadLocal<>();
-    private final ConcurrentMap<String, Savepoint> savepoints = new ConcurrentHashMap<>();
-
-    private boolean isActive = false;
+    /** 現在のスレッドのトランザクションの状態。開始されていない場合は null */
+    private final ThreadLocal<State> state = new ThreadLocal<>();
 
     /**
      * トランザクション操作を管理するクラスを構築します。
@@ -55,12 +57,10 @@ public class SBTransactionOperation {
      * @throws SBTransactionException トランザクションが既に開始されている場合
      */
     public void begin() {
-        if (isActive) {
+        if (isActive()) {
             throw new SBTransactionException("transaction.error.already.started");
         }
-        SqlSession session = sqlSessionFactory.openSession(false);
-        currentSession.set(session);
-        this.isActive = true;
+        state.set(new State(sqlSessionFactory.openSession(false)));
     }
 
     /**
@@ -70,16 +70,15 @@ public class SBTransactionOperation {
      * @throws SBTransactionException トランザクションが既に開始されている場合
      */
     public void begin(SqlSession session) {
-        if (isActive) {
+        if (isActive()) {
             throw new SBTransactionException("transaction.error.already.started");
         }
-        currentSession.set(session);
         try {
             SBThreadLocalDataSource.bind(session.getConnection());
         } catch (Exception e) {
             throw new SBTransactionException("transaction.error.execution", e);
         }
-        this.isActive = true;
+        state.set(new State(session));
     }
 
     /**
@@ -89,15 +88,14 @@ public class SBTransactionOperation {
      * @param session SqlSession
      */
     public void beginIndependent(SqlSession session) {
-        if (isActive) {
+        if (isActive()) {
             throw new SBTransactionException("transaction.error.already.started");
         }
         // 親の BOUND 接続を使わないように一時停止した上で、新規セッションをバインド
         SBThreadLocalDataSource.suspendBinding();
         try {
-            currentSession.set(session);
             SBThreadLocalDataSource.bind(session.getConnection());
-            this.isActive = true;
+            state.set(new State(session));
         } catch (Exception e) {
             throw new SBTransactionException("transaction.error.execution", e);
         } finally {
@@ -110,37 +108,31 @@ public class SBTransactionOperation {
      * トランザクションをコミットします。
      */
     public void commit() {
-        if (!isActive) {
-            throw new SBTransactionException("transaction.error.not.started");
-        }
         // DefaultSqlSession は dirty=false の場合に commit をスキップするため強制コミット
-        currentSession.get().commit(true);
+        requireState().session.commit(true);
     }
 
     /**
      * トランザクションをロールバックします。
      */
     public void rollback() {
-        if (!isActive) {
-            throw new SBTransactionException("transaction.error.not.started");
-        }
         // 外側のセッションで更新していなくても、物理コネクション上の変更を確実に取り消す
-        currentSession.get().rollback(true);
+        requireState().session.rollback(true);
     }
 
     /**
      * トランザクションを終了します。
      */
     public void end() {
-        if (!isActive) {
+        State current = state.get();
+        if (current == null) {
             return;
         }
         try {
-            currentSession.get().close();
+            current.session.close();
         } finally {
             SBThreadLocalDataSource.unbind();
-            isActive = false;
-            currentSession.remove();
+            state.remove();
         }
     }
 
@@ -150,10 +142,7 @@ public class SBTransactionOperation {
      * @return SqlSession
      */
     public SqlSession getCurrentSession() {
-        if (!isActive) {
-            throw new SBTransactionException("transaction.error.not.started");
-        }
-        return currentSession.get();
+        return requireState().session;
     }
 
     /**
@@ -162,7 +151,7 @@ public class SBTransactionOperation {
      * @return トランザクションがアクティブな場合はtrue
      */
     public boolean isActive() {
-        return isActive;
+        return state.get() != null;
     }
 
     /**
@@ -172,19 +161,16 @@ public class SBTransactionOperation {
      * @throws SBTransactionException トランザクションが開始されていない場合
      */
     public String createSavepoint() {
-        if (!isActive()) {
-            throw new SBTransactionException("transaction.error.not.started");
-        }
-
+        State current = requireState();
         String savepointId = UUID.randomUUID().toString();
-        Connection connection = currentSession.get().getConnection();
+        Connection connection = current.session.getConnection();
         Savepoint savepoint;
         try {
             savepoint = connection.setSavepoint();
         } catch (SQLException e) {
             throw new SBTransactionException("transaction.error.savepoint.creation", e);
         }
-        savepoints.put(savepointId, savepoint);
+        current.savepoints.put(savepointId, savepoint);
         logger.debug("セーブポイントを作成しました: {}", savepointId);
         return savepointId;
     }
@@ -196,13 +182,14 @@ public class SBTransactionOperation {
      * @throws SBTransactionException セーブポイントが見つからない場合
      */
     public void releaseSavepoint(String savepointId) {
-        Savepoint savepoint = savepoints.remove(savepointId);
+        State current = requireState();
+        Savepoint savepoint = current.savepoints.remove(savepointId);
         if (savepoint == null) {
             throw new SBTransactionException("transaction.error.savepoint.not.found", savepointId);
         }
 
         try {
-            currentSession.get().getConnection().releaseSavepoint(savepoint);
+            current.session.getConnection().releaseSavepoint(savepoint);
             logger.debug("セーブポイントを解放しました: {}", savepointId);
         } catch (SQLException e) {
             throw new SBTransactionException("transaction.error.savepoint.release", e, savepointId);
@@ -216,16 +203,37 @@ public class SBTransactionOperation {
      * @throws SBTransactionException セーブポイントが見つからない場合
      */
     public void rollbackToSavepoint(String savepointId) {
-        Savepoint savepoint = savepoints.get(savepointId);
+        State current = requireState();
+        Savepoint savepoint = current.savepoints.get(savepointId);
         if (savepoint == null) {
             throw new SBTransactionException("transaction.error.savepoint.not.found", savepointId);
         }
 
         try {
-            currentSession.get().getConnection().rollback(savepoint);
+            current.session.getConnection().rollback(savepoint);
             logger.debug("セーブポイントまでロールバックしました: {}", savepointId);
         } catch (SQLException e) {
             throw new SBTransactionException("transaction.error.savepoint.rollback", e, savepointId);
         }
     }
-}
\ No newline at end of file
+
+    private State requireState() {
+        State current = state.get();
+        if (current == null) {
+            throw new SBTransactionException("transaction.error.not.started");
+        }
+        return current;
+    }
+
+    /**
+     * 1つのスレッドで開始されたトランザクションの状態です。
+     */
+    private static final class State {
+        private final SqlSession session;
+        private final Map<String, Savepoint> savepoints = new HashMap<>();
+
+        private State(SqlSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -3,11 +3,16 @@
  */
 package jp.vemi.seasarbatis.core.util;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.ibatis.reflection.MetaObject;
@@ -58,6 +63,9 @@ public class SBTypeConverterUtils {
      */
     public static <T> T convertRowToEntity(Map<String, Object> row, Class<T> entityClass, Configuration configuration,
             boolean throwOnError) {
+        if (entityClass.isRecord()) {
+            return convertRowToRecord(row, entityClass, throwOnError);
+        }
         T entity = configuration.getObjectFactory().create(entityClass);
         MetaObject metaObject = configuration.newMetaObject(entity);
         row.forEach((key, value) -> {
@@ -74,6 +82,62 @@ public class SBTypeConverterUtils {
         return entity;
     }
 
+    /**
+     * 指定されたMap形式の行データをレコードクラスに変換します。<br>
+     * レコードはセッターを持たないため、正準コンストラクタに各コンポーネントの値を渡して生成します。
+     * コンポーネント名とカラム名は、そのまま又はスネークケース変換後の名前で大文字小文字を区別せずに照合します。
+     *
+     * @param <T>          レコードの型
+     * @param row          SQL実行結果の1行分のデータ（カラム名と値のマップ）
+     * @param recordClass  レコードのクラス
+     * @param throwOnError 変換失敗時に例外を投げる場合は true、そうでなければ false
+     * @return 変換後のレコード
+     */
+    private static <T> T convertRowToRecord(Map<String, Object> row, Class<T> recordClass, boolean throwOnError) {
+        Map<String, Object> caseInsensitiveRow = new HashMap<>();
+        row.forEach((key, value) -> caseInsensitiveRow.put(key.toLowerCase(Locale.ROOT), value));
+
+        RecordComponent[] components = recordClass.getRecordComponents();
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            String name = components[i].getName();
+            String snakeName = CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name);
+            Object value = caseInsensitiveRow.containsKey(name.toLowerCase(Locale.ROOT))
+                    ? caseInsensitiveRow.get(name.toLowerCase(Locale.ROOT))
+                    : caseInsensitiveRow.get(snakeName);
+            Class<?> type = components[i].getType();
+            if (value != null && !type.isInstance(value)) {
+                value = convertValue(value, type, throwOnError);
+            }
+            args[i] = value != null || !type.isPrimitive() ? value : defaultPrimitiveValue(type);
+        }
+        try {
+            Constructor<T> constructor = recordClass.getDeclaredConstructor(
+                    Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new SBTypeConversionException(
+                    String.format("レコード[%s]の生成に失敗しました", recordClass.getSimpleName()), e);
+        }
+    }
+
+    /**
+     * プリミティブ型の既定値を返します。
+     *
+     * @param type プリミティブ型
+     * @return 既定値
+     */
+    private static Object defaultPrimitiveValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return convertNumber(0, type, false);
+    }
+
     /**
      * 値を指定されたターゲット型に変換します。<br>
      * 変換に失敗した場合は例外を投げず、元の値を返します。
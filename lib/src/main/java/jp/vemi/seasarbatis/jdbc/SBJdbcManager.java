@@ -4,6 +4,7 @@
 package jp.vemi.seasarbatis.jdbc;
 
 import static jp.vemi.seasarbatis.core.entity.SBEntityOperations.getEntityParams;
+import static jp.vemi.seasarbatis.core.entity.SBEntityOperations.getPrimaryKeyInfo;
 import static jp.vemi.seasarbatis.core.entity.SBEntityOperations.getPrimaryKeyValues;
 import static jp.vemi.seasarbatis.core.entity.SBEntityOperations.getTableName;
 import static jp.vemi.seasarbatis.core.sql.CommandType.DELETE;
@@ -13,11 +14,21 @@ import static jp.vemi.seasarbatis.core.sql.CommandType.UPDATE;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -28,6 +39,18 @@ import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jp.vemi.batisfluid.core.ResultSetCallback;
+import jp.vemi.batisfluid.core.BatchUpdateResult;
+import jp.vemi.batisfluid.core.BulkDeleteResult;
+import jp.vemi.batisfluid.core.ConflictMode;
+import jp.vemi.batisfluid.core.ReturningMode;
+import jp.vemi.batisfluid.entity.DirtyTracker;
+import jp.vemi.batisfluid.exception.BatchOptimisticLockException;
+import jp.vemi.batisfluid.ingest.BulkIngestEngine;
+import jp.vemi.batisfluid.ingest.BulkIngestEngineResolver;
+import jp.vemi.batisfluid.keygen.KeyGenerator;
+import jp.vemi.batisfluid.meta.FluidColumn;
+import jp.vemi.batisfluid.routing.RoutingDataSource;
 import jp.vemi.seasarbatis.core.builder.SBDeleteBuilder;
 import jp.vemi.seasarbatis.core.builder.SBSelectBuilder;
 import jp.vemi.seasarbatis.core.builder.SBUpdateBuilder;
@@ -35,6 +58,7 @@ import jp.vemi.seasarbatis.core.config.SBOptimisticLockConfig;
 import jp.vemi.seasarbatis.core.criteria.ComplexWhere;
 import jp.vemi.seasarbatis.core.criteria.SimpleWhere;
 import jp.vemi.seasarbatis.core.entity.SBOptimisticLockSupport;
+import jp.vemi.seasarbatis.core.entity.SBPrimaryKeyInfo;
 import jp.vemi.seasarbatis.core.entity.SBOptimisticLockSupport.OptimisticLockInfo;
 import jp.vemi.seasarbatis.core.query.SBSelect;
 import jp.vemi.seasarbatis.core.sql.dialect.SBDialect;
@@ -43,9 +67,12 @@ import jp.vemi.seasarbatis.core.sql.executor.SBQueryExecutor;
 import jp.vemi.seasarbatis.core.transaction.SBTransactionCallback;
 import jp.vemi.seasarbatis.core.transaction.SBTransactionManager;
 import jp.vemi.seasarbatis.core.transaction.SBTransactionManager.PropagationType;
+import jp.vemi.seasarbatis.core.util.SBTypeConverterUtils;
+import jp.vemi.seasarbatis.exception.SBEntityException;
 import jp.vemi.seasarbatis.exception.SBException;
 import jp.vemi.seasarbatis.exception.SBIllegalStateException;
 import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
+import jp.vemi.seasarbatis.exception.SBSQLException;
 
 /**
  * JDBC操作を簡素化するマネージャークラス。 Seasar2のJdbcManagerに似た操作性を提供します。
@@ -75,10 +102,24 @@ import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
 public class SBJdbcManager {
     private static final Logger logger = LoggerFactory.getLogger(SBJdbcManager.class);
 
+    /**
+     * バッチ処理で1回の送信にまとめるデフォルトの件数です。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * 複数行の {@code VALUES} による一括登録で、1文あたりに許容するSQL文字列の長さです。
+     */
+    private static final int MAX_BULK_INSERT_SQL_LENGTH = 1_000_000;
+
     private final SqlSessionFactory sqlSessionFactory;
     private final SBTransactionManager txManager;
     private final SBQueryExecutor queryExecutor;
     private final SBOptimisticLockConfig optimisticLockConfig;
+    private final SBDialect dialect;
+    private volatile DirtyTracker dirtyTracker;
+    private final Map<String, KeyGenerator> keyGenerators = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<KeyGeneratedField>> keyGeneratedFields = new ConcurrentHashMap<>();
 
     /**
      * {@link SBJdbcManager}を構築します。
@@ -119,6 +160,7 @@ public class SBJdbcManager {
     public SBJdbcManager(SqlSessionFactory sqlSessionFactory, SBOptimisticLockConfig optimisticLockConfig, SBDialect dialect) {
         this.sqlSessionFactory = sqlSessionFactory;
         this.optimisticLockConfig = optimisticLockConfig;
+        this.dialect = dialect;
         this.txManager = new SBTransactionManager(sqlSessionFactory);
         this.queryExecutor = new SBQueryExecutor(sqlSessionFactory.getConfiguration(), txManager.getTransactionOperation(), dialect);
     }
@@ -218,6 +260,24 @@ public class SBJdbcManager {
         return this.<T>select().from(resultType).withSqlFile(sqlFile).withParams(params);
     }
 
+    /**
+     * SQL文に基づいて検索を実行し、ResultSet をコールバックで直接読み取ります。
+     * <p>
+     * トランザクションが開始されていない場合は、読み取りのためのトランザクションを開始・終了します。
+     * その場合のコネクションは {@link RoutingDataSource#readOnly(Callable)} により、レプリカから取得されます。
+     * </p>
+     *
+     * @param <R>      読み取り結果の型
+     * @param sql      SQL文
+     * @param params   パラメータ
+     * @param callback ResultSet を読み取るコールバック
+     * @return コールバックの戻り値
+     */
+    public <R> R selectWithCallback(String sql, Map<String, Object> params, ResultSetCallback<R> callback) {
+        return RoutingDataSource.readOnly(
+                () -> executeWithTransaction(false, () -> queryExecutor.executeQuery(sql, params, callback)));
+    }
+
     /**
      * INSERT文を実行します。
      *
@@ -226,7 +286,7 @@ public class SBJdbcManager {
      * @return 実行結果
      */
     public int insert(String sql, Map<String, Object> params) {
-        return queryExecutor.execute(sql, params, INSERT);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>execute(sql, params, INSERT));
     }
 
     /**
@@ -237,7 +297,7 @@ public class SBJdbcManager {
      * @return 実行結果
      */
     public int insertBySqlFile(String sqlFile, Map<String, Object> params) {
-        return queryExecutor.executeFile(sqlFile, params, INSERT);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>executeFile(sqlFile, params, INSERT));
     }
 
     /**
@@ -248,7 +308,7 @@ public class SBJdbcManager {
      * @return 更新された行数
      */
     public int update(String sql, Map<String, Object> params) {
-        return queryExecutor.execute(sql, params, UPDATE);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>execute(sql, params, UPDATE));
     }
 
     /**
@@ -259,7 +319,7 @@ public class SBJdbcManager {
      * @return 更新された行数
      */
     public int updateBySqlFile(String sqlFile, Map<String, Object> params) {
-        return queryExecutor.executeFile(sqlFile, params, UPDATE);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>executeFile(sqlFile, params, UPDATE));
     }
 
     /**
@@ -270,7 +330,7 @@ public class SBJdbcManager {
      * @return 削除された行数
      */
     public int delete(String sql, Map<String, Object> params) {
-        return queryExecutor.execute(sql, params, DELETE);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>execute(sql, params, DELETE));
     }
 
     /**
@@ -281,7 +341,7 @@ public class SBJdbcManager {
      * @return 削除された行数
      */
     public int deleteBySqlFile(String sqlFile, Map<String, Object> params) {
-        return queryExecutor.executeFile(sqlFile, params, DELETE);
+        return executeWithTransaction(false, () -> queryExecutor.<Integer>executeFile(sqlFile, params, DELETE));
     }
 
     // ---------- エンティティ操作 ----------
@@ -325,6 +385,9 @@ public class SBJdbcManager {
 
     /**
      * エンティティを新規登録します。
+     * <p>
+     * {@link ReturningMode#GENERATED_KEYS} で登録し、自動採番された主キーを引数のエンティティに設定して返します。
+     * </p>
      *
      * @param <T>    エンティティの型
      * @param entity 登録するエンティティ
@@ -336,6 +399,9 @@ public class SBJdbcManager {
 
     /**
      * エンティティを新規登録します。
+     * <p>
+     * {@link ReturningMode#GENERATED_KEYS} で登録し、自動採番された主キーを引数のエンティティに設定して返します。
+     * </p>
      *
      * @param <T>                      エンティティの型
      * @param entity                   登録するエンティティ
@@ -343,33 +409,84 @@ public class SBJdbcManager {
      * @return 登録されたエンティティ
      */
     public <T> T insert(T entity, boolean isIndependentTransaction) {
+        return insert(entity, isIndependentTransaction, ReturningMode.GENERATED_KEYS);
+    }
+
+    /**
+     * エンティティを新規登録します。
+     *
+     * @param <T>           エンティティの型
+     * @param entity        登録するエンティティ
+     * @param returningMode 登録後のエンティティの返し方
+     * @return 登録されたエンティティ
+     */
+    public <T> T insert(T entity, ReturningMode returningMode) {
+        return insert(entity, false, returningMode);
+    }
+
+    /**
+     * エンティティを新規登録します。
+     * <p>
+     * 値が null の主キー列はINSERT文から除外し、データベースでの採番に任せます。
+     * {@link ReturningMode#GENERATED_KEYS} の場合は、採番された値を
+     * {@link java.sql.Statement#getGeneratedKeys()} で取得してエンティティに設定します。
+     * {@link ReturningMode#RELOAD} の場合は登録後に主キーで再検索した結果を返します。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entity                   登録するエンティティ
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param returningMode            登録後のエンティティの返し方
+     * @return 登録されたエンティティ
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T insert(T entity, boolean isIndependentTransaction, ReturningMode returningMode) {
         return executeWithTransaction(isIndependentTransaction, () -> {
-            String tableName = getTableName(entity.getClass());
+            Class<T> entityClass = (Class<T>) entity.getClass();
+            assignGeneratedKeys(entity);
             Map<String, Object> params = getEntityParams(entity);
 
-            StringBuilder sql = new StringBuilder("INSERT INTO " + tableName + " (");
-            StringBuilder values = new StringBuilder(") VALUES (");
-
-            params.forEach((column, value) -> {
-                sql.append(column).append(", ");
-                values.append("/*").append(column).append("*/null, ");
+            // 値が未設定の主キー列はデータベースでの採番に任せる
+            SBPrimaryKeyInfo pkInfo = getPrimaryKeyInfo(entityClass);
+            List<String> generatedColumns = new ArrayList<>();
+            pkInfo.getPrimaryKeyValues(entity).forEach((column, value) -> {
+                if (value == null) {
+                    generatedColumns.add(column);
+                }
             });
+            generatedColumns.forEach(params::remove);
+
+            if (returningMode == ReturningMode.RETURNING && dialect != null) {
+                String sql = dialect.insertReturning(getTableName(entityClass), buildInsertColumns(params),
+                        buildInsertValues(params));
+                if (sql != null) {
+                    List<T> rows = queryExecutor.executeReturning(sql, params, entityClass);
+                    return rows.isEmpty() ? entity : rows.get(0);
+                }
+            }
 
-            sql.setLength(sql.length() - 2);
-            values.setLength(values.length() - 2);
-            sql.append(values).append(")");
-
-            queryExecutor.execute(sql.toString(), params, INSERT);
+            if (returningMode != ReturningMode.NONE && !generatedColumns.isEmpty()) {
+                Map<String, Object> keys = queryExecutor.executeInsertForKeys(buildInsertSql(entity, params),
+                        params, generatedColumns);
+                applyGeneratedKeys(entity, pkInfo, keys);
+            } else {
+                queryExecutor.execute(buildInsertSql(entity, params), params, INSERT);
+            }
+            if (returningMode == ReturningMode.NONE || returningMode == ReturningMode.GENERATED_KEYS) {
+                return entity;
+            }
 
-            @SuppressWarnings("unchecked")
-            SBSelect<T> newSelect = this.<T>select().from((Class<T>) entity.getClass())
-                    .byPrimaryKey(getPrimaryKeyValues(entity));
+            // RELOAD、または RETURNING に対応しないデータベースの場合は再検索する
+            SBSelect<T> newSelect = this.<T>select().from(entityClass).byPrimaryKey(getPrimaryKeyValues(entity));
             return newSelect.getSingleResult();
         });
     }
 
     /**
      * 主キーに基づいてエンティティを更新します。
+     * <p>
+     * {@link ReturningMode#RETURNING} で更新し、更新後の行を返します。
+     * </p>
      *
      * @param <T>    エンティティの型
      * @param entity 更新するエンティティ
@@ -382,6 +499,9 @@ public class SBJdbcManager {
 
     /**
      * 主キーに基づいてエンティティを更新します。
+     * <p>
+     * {@link ReturningMode#RETURNING} で更新し、更新後の行を返します。
+     * </p>
      *
      * @param <T>                      エンティティの型
      * @param entity                   更新するエンティティ
@@ -390,10 +510,50 @@ public class SBJdbcManager {
      * @throws IllegalArgumentException 主キーが設定されていない場合
      * @throws SBOptimisticLockException 楽観的排他制御に失敗した場合
      */
-    @SuppressWarnings("unchecked")
     public <T> T update(T entity, boolean isIndependentTransaction) {
+        return update(entity, isIndependentTransaction, ReturningMode.RETURNING);
+    }
+
+    /**
+     * 主キーに基づいてエンティティを更新します。
+     *
+     * @param <T>           エンティティの型
+     * @param entity        更新するエンティティ
+     * @param returningMode 更新後のエンティティの返し方
+     * @return 更新されたエンティティ
+     * @throws IllegalArgumentException {@link ReturningMode#GENERATED_KEYS} を指定した場合
+     * @throws SBOptimisticLockException 楽観的排他制御に失敗した場合
+     */
+    public <T> T update(T entity, ReturningMode returningMode) {
+        return update(entity, false, returningMode);
+    }
+
+    /**
+     * 主キーに基づいてエンティティを更新します。
+     * <p>
+     * {@link ReturningMode#RETURNING} の場合、Dialect が対応していれば更新と同じ文で更新後の行を取得します
+     * （PostgreSQL の {@code RETURNING}、SQL Server の {@code OUTPUT}、H2 の {@code FINAL TABLE}）。
+     * 対応しない場合と {@link ReturningMode#RELOAD} の場合は、更新後に主キーで再検索します。
+     * {@link ReturningMode#NONE} の場合は再検索せず、引数のエンティティを返します。
+     * {@link ReturningMode#GENERATED_KEYS} は登録専用のため指定できません。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entity                   更新するエンティティ
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param returningMode            更新後のエンティティの返し方
+     * @return 更新されたエンティティ
+     * @throws IllegalArgumentException 主キーが設定されていない場合、または {@link ReturningMode#GENERATED_KEYS} を指定した場合
+     * @throws SBOptimisticLockException 楽観的排他制御に失敗した場合
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T update(T entity, boolean isIndependentTransaction, ReturningMode returningMode) {
+        if (returningMode == ReturningMode.GENERATED_KEYS) {
+            throw new IllegalArgumentException("更新では ReturningMode.GENERATED_KEYS を指定できません");
+        }
         return executeWithTransaction(isIndependentTransaction, () -> {
-            String tableName = getTableName(entity.getClass());
+            Class<T> entityClass = (Class<T>) entity.getClass();
+            String tableName = getTableName(entityClass);
             Map<String, Object> pkValues = getPrimaryKeyValues(entity);
 
             if (pkValues.isEmpty()) {
@@ -402,65 +562,45 @@ public class SBJdbcManager {
 
             // 楽観的排他制御の情報を取得
             OptimisticLockInfo lockInfo = SBOptimisticLockSupport.getOptimisticLockInfo(entity, optimisticLockConfig);
-            
-            Map<String, Object> params = getEntityParams(entity);
-            // 主キーを params から削除
-            pkValues.keySet().forEach(params::remove);
-
-            StringBuilder sql = new StringBuilder("UPDATE " + tableName + " SET ");
 
-            // 楽観的排他制御用カラムの値を更新（バージョン番号のインクリメントや更新日時の設定）
-            if (lockInfo.isEnabled()) {
-                Object newOptimisticLockValue = SBOptimisticLockSupport.updateOptimisticLockValue(entity, lockInfo);
-                if (newOptimisticLockValue != null) {
-                    params.put(lockInfo.getColumnName(), newOptimisticLockValue);
-                }
+            // 変更追跡が有効で、検索時から変更されたカラムがない場合は更新しない
+            Set<String> changedColumns = getChangedColumns(entity, pkValues, lockInfo);
+            if (changedColumns != null && changedColumns.isEmpty()) {
+                logger.debug("変更されたカラムがないため、UPDATEを省略します");
+                return entity;
             }
 
-            // 主キー以外のカラムを更新対象とする
-            params.forEach((column, value) -> {
-                if (!pkValues.containsKey(column)) {
-                    sql.append(column).append(" = /*").append(column).append("*/null, ");
+            Map<String, Object> params = new HashMap<>();
+            String setClause = buildUpdateSetClause(entity, pkValues, lockInfo, params, changedColumns);
+            String whereClause = buildUpdateWhereClause(pkValues, lockInfo, params);
+
+            if (returningMode == ReturningMode.RETURNING && dialect != null) {
+                String sql = dialect.updateReturning(tableName, setClause, whereClause);
+                if (sql != null) {
+                    List<T> rows = queryExecutor.executeReturning(sql, params, entityClass);
+                    if (rows.isEmpty()) {
+                        throw createUpdateConflict(entity, pkValues, lockInfo);
+                    }
+                    trackUpdated(entity);
+                    return rows.get(0);
                 }
-            });
-
-            sql.setLength(sql.length() - 2);
-            sql.append(" WHERE ");
-
-            // 複数の主キーでWHERE句を構築
-            int pkCount = 0;
-            for (Map.Entry<String, Object> pk : pkValues.entrySet()) {
-                if (pkCount++ > 0)
-                    sql.append(" AND ");
-                sql.append(pk.getKey()).append(" = /*pk").append(pkCount).append("*/0");
-                params.put("pk" + pkCount, pk.getValue());
-            }
-
-            // 楽観的排他制御のWHERE句条件を追加
-            if (lockInfo.isEnabled()) {
-                String optimisticLockCondition = SBOptimisticLockSupport.buildOptimisticLockCondition(lockInfo, params);
-                sql.append(optimisticLockCondition);
             }
 
-            int updatedRows = queryExecutor.execute(sql.toString(), params, UPDATE);
+            String sql = "UPDATE " + tableName + " SET " + setClause + " WHERE " + whereClause;
+            int updatedRows = queryExecutor.execute(sql, params, UPDATE);
             if (updatedRows == 0) {
-                if (lockInfo.isEnabled()) {
-                    throw new SBOptimisticLockException(
-                            "楽観的排他制御エラー: レコードが他のトランザクションによって更新されています。", 
-                            entity, 
-                            lockInfo.getColumnName());
-                } else {
-                    throw new SBOptimisticLockException("更新対象のレコードが見つかりませんでした。他のトランザクションによって更新された可能性があります。", entity,
-                            pkValues.keySet().toArray(new String[0]));
-                }
+                throw createUpdateConflict(entity, pkValues, lockInfo);
+            }
+            trackUpdated(entity);
+            if (returningMode == ReturningMode.NONE) {
+                return entity;
             }
 
-            List<T> newEntity = queryExecutor
-                    .executeSelect(
-                            "SELECT * FROM " + tableName + " WHERE "
-                                    + pkValues.entrySet().stream().map(e -> e.getKey() + " = '" + e.getValue() + "'")
-                                            .collect(Collectors.joining(" AND ")),
-                            params, (Class<T>) entity.getClass());
+            // RELOAD、または RETURNING に対応しないデータベースの場合は再検索する
+            Map<String, Object> selectParams = new HashMap<>();
+            List<T> newEntity = queryExecutor.executeSelect(
+                    "SELECT * FROM " + tableName + " WHERE " + buildPrimaryKeyCondition(pkValues, selectParams),
+                    selectParams, entityClass);
             return newEntity.isEmpty() ? null : newEntity.get(0);
         });
     }
@@ -501,20 +641,8 @@ public class SBJdbcManager {
                 throw new SBIllegalStateException("主キーが設定されていません: " + entity.getClass().getName());
             }
 
-            String tableName = getTableName(entity.getClass());
-            StringBuilder sql = new StringBuilder("DELETE FROM " + tableName + " WHERE ");
-
             Map<String, Object> params = new HashMap<>();
-            int pkCount = 0;
-            for (Map.Entry<String, Object> pk : pkValues.entrySet()) {
-                if (pkCount++ > 0) {
-                    sql.append(" AND ");
-                }
-                sql.append(pk.getKey()).append(" = /*pk").append(pkCount).append("*/0");
-                params.put("pk" + pkCount, pk.getValue());
-            }
-
-            return queryExecutor.execute(sql.toString(), params, DELETE);
+            return queryExecutor.execute(buildDeleteSql(entity, pkValues, params), params, DELETE);
         });
     }
 
@@ -531,11 +659,19 @@ public class SBJdbcManager {
 
     /**
      * エンティティを登録または更新します。 主キーが設定されており、レコードが存在する場合は更新を行います。 それ以外の場合は新規登録を行います。
+     * <p>
+     * Dialect が UPSERT に対応している場合は、主キーの重複判定から登録・更新までを1文で実行し、
+     * 引数のエンティティを返します（PostgreSQL の {@code ON CONFLICT}、SQL Server・Oracle・H2 の {@code MERGE}、
+     * MySQL の {@code ON DUPLICATE KEY UPDATE}）。
+     * 対応しない場合は、主キーで存在確認を行ってから {@link #update(Object, boolean)} または
+     * {@link #insert(Object, boolean)} を実行します。
+     * </p>
      *
      * @param <T>                      エンティティの型
      * @param entity                   登録または更新するエンティティ
      * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
      * @return 処理されたエンティティ
+     * @throws SBOptimisticLockException 楽観的排他制御に失敗した場合
      */
     public <T> T insertOrUpdate(T entity, boolean isIndependentTransaction) {
         return executeWithTransaction(isIndependentTransaction, () -> {
@@ -547,10 +683,30 @@ public class SBJdbcManager {
                 return insert(entity, isIndependentTransaction);
             }
 
-            // 主キーで検索して存在確認
+            // Dialect が対応していれば、存在確認を行わずに1文で登録または更新する
+            OptimisticLockInfo lockInfo = SBOptimisticLockSupport.getOptimisticLockInfo(entity, optimisticLockConfig);
+            Map<String, Object> upsertParams = new HashMap<>();
+            String upsertSql = buildUpsertSql(entity, pkValues, lockInfo, upsertParams);
+            if (upsertSql != null) {
+                logger.debug("UPSERTを実行します");
+                int affectedRows;
+                try {
+                    affectedRows = queryExecutor.execute(upsertSql, upsertParams, INSERT);
+                } catch (RuntimeException e) {
+                    restoreOptimisticLockValue(entity, lockInfo);
+                    throw e;
+                }
+                if (affectedRows == 0 && lockInfo.isEnabled()) {
+                    restoreOptimisticLockValue(entity, lockInfo);
+                    throw createUpdateConflict(entity, pkValues, lockInfo);
+                }
+                return entity;
+            }
+
+            // 主キーで存在確認（件数を数えず、1行見つかった時点で打ち切る）
             Class<?> entityClass = entity.getClass();
             String tableName = getTableName(entityClass);
-            StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM " + tableName + " WHERE ");
+            StringBuilder sql = new StringBuilder("SELECT 1 FROM " + tableName + " WHERE ");
 
             Map<String, Object> params = new HashMap<>();
             int pkCount = 0;
@@ -562,10 +718,10 @@ public class SBJdbcManager {
                 params.put("pk" + pkCount, pk.getValue());
             }
 
-            List<Map<String, Object>> result = queryExecutor.execute(sql.toString(), params, SELECT);
-            long count = ((Number) result.get(0).values().iterator().next()).longValue();
+            String existsSql = dialect != null ? dialect.limit(sql.toString(), 1) : sql.toString();
+            List<Map<String, Object>> result = queryExecutor.execute(existsSql, params, SELECT);
 
-            if (count > 0) {
+            if (!result.isEmpty()) {
                 logger.debug("レコードが存在するため、UPDATEを実行します");
                 return update(entity, isIndependentTransaction);
             } else {
@@ -692,12 +848,159 @@ public class SBJdbcManager {
         return this.optimisticLockConfig;
     }
 
+    /**
+     * データベースダイアレクトを取得します。
+     *
+     * @return データベースダイアレクト
+     */
+    public SBDialect getDialect() {
+        return this.dialect;
+    }
+
+    /**
+     * 変更追跡の有効・無効を設定します。
+     * <p>
+     * 有効にすると、検索したエンティティのカラム値をスナップショットとして記録し、
+     * {@link #update(Object)} では検索時から変更されたカラムのみをSET句に含めます。
+     * 変更されたカラムがない場合はUPDATE文を実行せず、引数のエンティティを返します。
+     * 楽観的排他制御が有効な場合は、バージョン等のカラムを従来どおり更新・照合します。
+     * </p>
+     *
+     * @param enabled 有効にする場合は {@code true}
+     */
+    public void setDirtyTrackingEnabled(boolean enabled) {
+        this.dirtyTracker = enabled ? new DirtyTracker() : null;
+        queryExecutor.setDirtyTracker(this.dirtyTracker);
+    }
+
+    /**
+     * 変更追跡が有効かどうかを返します。
+     *
+     * @return 有効な場合は {@code true}
+     */
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTracker != null;
+    }
+
+    /**
+     * 主キーの値を生成するキー生成器を登録します。
+     * <p>
+     * {@link FluidColumn#keyGenerator()} にこの名前を指定した主キーは、
+     * 登録時に値が {@code null} であればキー生成器の値が設定されます。
+     * </p>
+     *
+     * @param name      キー生成器の名前
+     * @param generator キー生成器
+     */
+    public void registerKeyGenerator(String name, KeyGenerator generator) {
+        keyGenerators.put(name, generator);
+    }
+
+    /**
+     * シーケンスの次の値を取得します。
+     *
+     * @param sequenceName シーケンス名
+     * @return シーケンスの次の値
+     * @throws SBIllegalStateException Dialect がシーケンスに対応していない場合
+     */
+    public long nextSequenceValue(String sequenceName) {
+        String sql = dialect != null ? dialect.nextSequenceValue(sequenceName) : null;
+        if (sql == null) {
+            throw new SBIllegalStateException("シーケンスに対応していないデータベースです: " + sequenceName);
+        }
+        // シーケンスを進めるため、読み取り専用としてレプリカへ振り分けない
+        return executeWithTransaction(false, () -> queryExecutor.executeQuery(sql, new HashMap<>(), resultSet -> {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }));
+    }
+
+    /**
+     * キー生成器が指定された主キーのうち、値が {@code null} のものにキーを設定します。
+     *
+     * @param entity エンティティ
+     * @throws SBIllegalStateException 指定された名前のキー生成器が登録されていない場合
+     */
+    private void assignGeneratedKeys(Object entity) {
+        List<KeyGeneratedField> fields = keyGeneratedFields.computeIfAbsent(entity.getClass(),
+                SBJdbcManager::findKeyGeneratedFields);
+        for (KeyGeneratedField keyField : fields) {
+            try {
+                if (keyField.field.get(entity) != null) {
+                    continue;
+                }
+                KeyGenerator generator = keyGenerators.get(keyField.generatorName);
+                if (generator == null) {
+                    throw new SBIllegalStateException("キー生成器が登録されていません: " + keyField.generatorName);
+                }
+                keyField.field.set(entity, toKeyValue(generator.nextKey(), keyField.field.getType()));
+            } catch (IllegalAccessException e) {
+                throw new SBEntityException("主キーの値の設定に失敗しました: " + keyField.field.getName(), e);
+            }
+        }
+    }
+
+    private static List<KeyGeneratedField> findKeyGeneratedFields(Class<?> entityClass) {
+        List<KeyGeneratedField> fields = new ArrayList<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            String generatorName = null;
+            FluidColumn fluidColumn = field.getAnnotation(FluidColumn.class);
+            if (fluidColumn != null) {
+                generatorName = fluidColumn.primaryKey() ? fluidColumn.keyGenerator() : null;
+            } else {
+                jp.vemi.seasarbatis.core.meta.SBColumnMeta columnMeta = field
+                        .getAnnotation(jp.vemi.seasarbatis.core.meta.SBColumnMeta.class);
+                if (columnMeta != null && columnMeta.primaryKey()) {
+                    generatorName = columnMeta.keyGenerator();
+                }
+            }
+            if (generatorName != null && !generatorName.isEmpty()) {
+                field.setAccessible(true);
+                fields.add(new KeyGeneratedField(field, generatorName));
+            }
+        }
+        return fields;
+    }
+
+    private static Object toKeyValue(long key, Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return key;
+        }
+        if (type == Integer.class || type == int.class) {
+            return Math.toIntExact(key);
+        }
+        if (type == String.class) {
+            return String.valueOf(key);
+        }
+        if (type == BigInteger.class) {
+            return BigInteger.valueOf(key);
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(key);
+        }
+        throw new SBIllegalStateException("キー生成器に対応していない主キーの型です: " + type.getName());
+    }
+
+    /**
+     * キー生成器を使用する主キーのフィールドです。
+     */
+    private static final class KeyGeneratedField {
+        private final Field field;
+        private final String generatorName;
+
+        private KeyGeneratedField(Field field, String generatorName) {
+            this.field = field;
+            this.generatorName = generatorName;
+        }
+    }
+
     // ---------- Batch Operations ----------
     /**
      * 複数のエンティティを一括登録します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に登録できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
+     * 登録後の再検索は行わないため、戻り値は引数のエンティティそのものです。
      * </p>
      *
      * @param <T>      エンティティの型
@@ -713,7 +1016,8 @@ public class SBJdbcManager {
      * 複数のエンティティを一括登録します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に登録できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
+     * 登録後の再検索は行わないため、戻り値は引数のエンティティそのものです。
      * </p>
      *
      * @param <T>                      エンティティの型
@@ -723,36 +1027,162 @@ public class SBJdbcManager {
      * @throws SBIllegalStateException エンティティリストが空またはnullの場合
      */
     public <T> List<T> batchInsert(List<T> entities, boolean isIndependentTransaction) {
+        executeBatchInsert(entities, isIndependentTransaction, DEFAULT_BATCH_SIZE);
+        return entities;
+    }
+
+    /**
+     * 複数のエンティティをJDBCバッチで一括登録し、行ごとの登録件数を返します。
+     *
+     * <p>
+     * {@code batchSize} 件ごとに {@code executeBatch} を呼び出して送信します。
+     * ドライバが件数を返さない行には {@link java.sql.Statement#SUCCESS_NO_INFO} が設定されます。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 登録するエンティティのリスト
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param batchSize                1回の送信にまとめる件数
+     * @return エンティティと同じ順序の登録件数
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合
+     */
+    public <T> int[] executeBatchInsert(List<T> entities, boolean isIndependentTransaction, int batchSize) {
         if (entities == null || entities.isEmpty()) {
             throw new SBIllegalStateException("エンティティリストが空です");
         }
 
         return executeWithTransaction(isIndependentTransaction, () -> {
             logger.debug("バッチINSERT実行開始: {} 件", entities.size());
-            
-            List<T> results = new ArrayList<>();
 
+            List<String> sqls = new ArrayList<>(entities.size());
+            List<Map<String, Object>> paramsList = new ArrayList<>(entities.size());
             for (T entity : entities) {
-                T result = insert(entity, false); // 個別トランザクションは使わない
-                results.add(result);
+                assignGeneratedKeys(entity);
+                Map<String, Object> params = getEntityParams(entity);
+                sqls.add(buildInsertSql(entity, params));
+                paramsList.add(params);
             }
+            int[] results = executeGroupedBatch(sqls, paramsList, batchSize);
 
-            logger.info("バッチINSERT実行完了: {} 件", results.size());
+            logger.info("バッチINSERT実行完了: {} 件", results.length);
             return results;
         });
     }
 
+    /**
+     * 複数のエンティティを、複数行の {@code VALUES} を持つINSERT文で一括登録します。
+     *
+     * <p>
+     * {@code INSERT INTO t (...) VALUES (...), (...), ...} の形式で、1文に複数行をまとめて送信します。
+     * 1文あたりの行数は、Dialect のバインド変数の最大数・{@code VALUES} の行数の上限と、
+     * SQL文字列の長さから決定します。上限に満たない端数の行は2の累乗の行数に分割するため、
+     * 生成されるSQLの種類は少数に限られ、ドライバのステートメントキャッシュを再利用できます。
+     * </p>
+     * <p>
+     * 複数行の {@code VALUES} に対応しないデータベースでは、{@link #executeBatchInsert} と同様に
+     * JDBCバッチで送信します。自動採番されたキーはエンティティに設定されません。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 登録するエンティティのリスト（同じクラスのエンティティ）
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @return 登録件数の合計
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合
+     */
+    public <T> int executeBulkInsert(List<T> entities, boolean isIndependentTransaction) {
+        if (entities == null || entities.isEmpty()) {
+            throw new SBIllegalStateException("エンティティリストが空です");
+        }
+
+        return executeWithTransaction(isIndependentTransaction, () -> {
+            logger.debug("一括INSERT実行開始: {} 件", entities.size());
+
+            List<Map<String, Object>> paramsList = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                assignGeneratedKeys(entity);
+                paramsList.add(getEntityParams(entity));
+            }
+
+            // すべての行で未設定の主キー（自動採番）はカラムから除外する
+            Class<?> entityClass = entities.get(0).getClass();
+            List<String> columns = new ArrayList<>(paramsList.get(0).keySet());
+            for (String pkColumn : getPrimaryKeyValues(entities.get(0)).keySet()) {
+                if (paramsList.stream().allMatch(params -> params.get(pkColumn) == null)) {
+                    columns.remove(pkColumn);
+                }
+            }
+
+            String header = "INSERT INTO " + getTableName(entityClass) + " (" + String.join(", ", columns)
+                    + ") VALUES ";
+            String row = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            int maxRows = Math.min(dialect != null ? dialect.getMaxInsertRows() : 1,
+                    (MAX_BULK_INSERT_SQL_LENGTH - header.length()) / (row.length() + 2));
+            if (dialect != null && !columns.isEmpty()) {
+                maxRows = Math.min(maxRows, dialect.getMaxBindParameters() / columns.size());
+            }
+
+            int total = 0;
+            if (maxRows <= 1) {
+                // 複数行の VALUES を使用できない場合はJDBCバッチで送信する
+                String sql = header + "(" + columns.stream().map(column -> "/*" + column + "*/null")
+                        .collect(Collectors.joining(", ")) + ")";
+                for (int count : queryExecutor.executeBatch(sql, paramsList, DEFAULT_BATCH_SIZE)) {
+                    total += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+            } else {
+                Map<Integer, String> sqlCache = new HashMap<>();
+                int offset = 0;
+                while (offset < paramsList.size()) {
+                    int rows = chunkRows(paramsList.size() - offset, maxRows);
+                    String sql = sqlCache.computeIfAbsent(rows,
+                            n -> header + String.join(", ", Collections.nCopies(n, row)));
+                    List<Object> bindValues = new ArrayList<>(rows * columns.size());
+                    for (Map<String, Object> params : paramsList.subList(offset, offset + rows)) {
+                        for (String column : columns) {
+                            bindValues.add(params.get(column));
+                        }
+                    }
+                    total += queryExecutor.executePreparedUpdate(sql, bindValues);
+                    offset += rows;
+                }
+                logger.debug("一括INSERTのSQL種類数: {}", sqlCache.size());
+            }
+
+            logger.info("一括INSERT実行完了: {} 件", total);
+            return total;
+        });
+    }
+
+    /**
+     * 複数行の {@code VALUES} による一括登録で、次の1文に含める行数を決定します。
+     * <p>
+     * 残りが上限以上の場合は上限の行数とし、上限未満の端数は2の累乗に切り下げます。
+     * これにより、生成されるSQLの種類は上限の行数と2の累乗の行数に限られます。
+     * </p>
+     *
+     * @param remaining 残りの行数
+     * @param maxRows   1文あたりの行数の上限
+     * @return 次の1文に含める行数
+     */
+    private static int chunkRows(int remaining, int maxRows) {
+        if (remaining >= maxRows) {
+            return maxRows;
+        }
+        return Integer.highestOneBit(remaining);
+    }
+
     /**
      * 複数のエンティティを一括更新します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に更新できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
      * </p>
      *
      * @param <T>      エンティティの型
      * @param entities 更新するエンティティのリスト
      * @return 更新された件数のリスト
      * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     * @throws SBOptimisticLockException 更新件数が0件の行があった場合
      */
     public <T> List<Integer> batchUpdate(List<T> entities) {
         return batchUpdate(entities, false);
@@ -762,7 +1192,7 @@ public class SBJdbcManager {
      * 複数のエンティティを一括更新します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に更新できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
      * </p>
      *
      * @param <T>                      エンティティの型
@@ -770,33 +1200,158 @@ public class SBJdbcManager {
      * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
      * @return 更新された件数のリスト
      * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     * @throws SBOptimisticLockException 更新件数が0件の行があった場合
      */
     public <T> List<Integer> batchUpdate(List<T> entities, boolean isIndependentTransaction) {
+        return toList(executeBatchUpdate(entities, isIndependentTransaction, DEFAULT_BATCH_SIZE));
+    }
+
+    /**
+     * 複数のエンティティをJDBCバッチで一括更新し、行ごとの更新件数を返します。
+     *
+     * <p>
+     * 楽観的排他制御が有効な場合は、単件の更新と同様にバージョン等の値を更新してから送信します。
+     * 送信後に更新件数が0件の行があった場合は {@link SBOptimisticLockException} をスローし、
+     * トランザクションはロールバックされます。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 更新するエンティティのリスト
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param batchSize                1回の送信にまとめる件数
+     * @return エンティティと同じ順序の更新件数
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     * @throws SBOptimisticLockException 更新件数が0件の行があった場合
+     */
+    public <T> int[] executeBatchUpdate(List<T> entities, boolean isIndependentTransaction, int batchSize) {
         if (entities == null || entities.isEmpty()) {
             throw new SBIllegalStateException("エンティティリストが空です");
         }
 
         return executeWithTransaction(isIndependentTransaction, () -> {
             logger.debug("バッチUPDATE実行開始: {} 件", entities.size());
-            
-            List<Integer> results = new ArrayList<>();
 
-            for (T entity : entities) {
-                // 個別に更新を実行し、結果を収集
-                update(entity, false); // 個別トランザクションは使わない
-                results.add(1); // 更新成功時は1を追加
+            List<Map<String, Object>> pkValuesList = new ArrayList<>(entities.size());
+            List<OptimisticLockInfo> lockInfos = new ArrayList<>(entities.size());
+            int[] results = sendBatchUpdate(entities, batchSize, pkValuesList, lockInfos);
+
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) {
+                    throw createUpdateConflict(entities.get(i), pkValuesList.get(i), lockInfos.get(i));
+                }
             }
 
-            logger.info("バッチUPDATE実行完了: {} 件", results.size());
+            logger.info("バッチUPDATE実行完了: {} 件", results.length);
             return results;
         });
     }
 
+    /**
+     * 複数のエンティティをJDBCバッチで一括更新し、楽観的排他制御で競合したエンティティを判定します。
+     *
+     * <p>
+     * 行ごとに主キーと楽観的排他制御の条件を付与して送信し、{@code executeBatch} が返す行ごとの
+     * 更新件数が0件のエンティティを競合として扱います。ドライバが件数を返さない行
+     * （{@link Statement#SUCCESS_NO_INFO}）は更新されたものとして扱います。
+     * </p>
+     * <p>
+     * 更新されたエンティティのバージョン等の値は更新後の値になり、競合したエンティティの値は
+     * 更新前に戻ります。{@link ConflictMode#THROW} の場合は、競合が1件でもあれば
+     * すべてのエンティティの値を更新前に戻し、{@link BatchOptimisticLockException} をスローして
+     * ロールバックします。{@link ConflictMode#REPORT} の場合は、競合しなかった行の更新を確定し、
+     * 結果に競合したエンティティを含めて返します。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 更新するエンティティのリスト
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param batchSize                1回の送信にまとめる件数
+     * @param conflictMode             競合した場合の扱い
+     * @return エンティティごとの更新件数と競合したエンティティ
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     * @throws BatchOptimisticLockException {@link ConflictMode#THROW} で競合したエンティティがあった場合
+     */
+    public <T> BatchUpdateResult<T> executeBatchUpdate(List<T> entities, boolean isIndependentTransaction,
+            int batchSize, ConflictMode conflictMode) {
+        if (entities == null || entities.isEmpty()) {
+            throw new SBIllegalStateException("エンティティリストが空です");
+        }
+
+        return executeWithTransaction(isIndependentTransaction, () -> {
+            logger.debug("バッチUPDATE実行開始: {} 件", entities.size());
+
+            List<Map<String, Object>> pkValuesList = new ArrayList<>(entities.size());
+            List<OptimisticLockInfo> lockInfos = new ArrayList<>(entities.size());
+            int[] results;
+            try {
+                results = sendBatchUpdate(entities, batchSize, pkValuesList, lockInfos);
+            } catch (RuntimeException e) {
+                // ロールバックされるため、送信済みの行も含めて更新前の値に戻す
+                for (int i = 0; i < lockInfos.size(); i++) {
+                    restoreOptimisticLockValue(entities.get(i), lockInfos.get(i));
+                }
+                throw e;
+            }
+            BatchUpdateResult<T> result = new BatchUpdateResult<>(entities, results);
+
+            if (result.hasConflicts() && conflictMode == ConflictMode.THROW) {
+                for (int i = 0; i < results.length; i++) {
+                    restoreOptimisticLockValue(entities.get(i), lockInfos.get(i));
+                }
+                throw new BatchOptimisticLockException(
+                        "楽観的排他制御エラー: " + (results.length - result.getUpdatedCount())
+                                + " 件のレコードが他のトランザクションによって更新されています。",
+                        result.getConflicts());
+            }
+            for (int i = 0; i < results.length; i++) {
+                if (result.isConflict(i)) {
+                    restoreOptimisticLockValue(entities.get(i), lockInfos.get(i));
+                } else {
+                    trackUpdated(entities.get(i));
+                }
+            }
+
+            logger.info("バッチUPDATE実行完了: {} 件（競合 {} 件）", results.length,
+                    results.length - result.getUpdatedCount());
+            return result;
+        });
+    }
+
+    /**
+     * エンティティごとのUPDATE文を構築し、JDBCバッチで送信します。
+     *
+     * @param entities     更新するエンティティのリスト
+     * @param batchSize    1回の送信にまとめる件数
+     * @param pkValuesList エンティティごとの主キーの値の格納先
+     * @param lockInfos    エンティティごとの楽観的排他制御の情報の格納先
+     * @return エンティティと同じ順序の更新件数
+     */
+    private <T> int[] sendBatchUpdate(List<T> entities, int batchSize, List<Map<String, Object>> pkValuesList,
+            List<OptimisticLockInfo> lockInfos) {
+        List<String> sqls = new ArrayList<>(entities.size());
+        List<Map<String, Object>> paramsList = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Map<String, Object> pkValues = getPrimaryKeyValues(entity);
+            if (pkValues.isEmpty()) {
+                throw new SBIllegalStateException("主キーが設定されていません");
+            }
+            OptimisticLockInfo lockInfo = SBOptimisticLockSupport.getOptimisticLockInfo(entity,
+                    optimisticLockConfig);
+            Map<String, Object> params = new HashMap<>();
+            // UPDATE文の構築時にバージョン等の値が更新されるため、先に情報を記録しておく
+            pkValuesList.add(pkValues);
+            lockInfos.add(lockInfo);
+            sqls.add(buildUpdateSql(entity, pkValues, lockInfo, params));
+            paramsList.add(params);
+        }
+        return executeGroupedBatch(sqls, paramsList, batchSize);
+    }
+
     /**
      * 複数のエンティティを一括削除します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に削除できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
      * </p>
      *
      * @param <T>      エンティティの型
@@ -812,7 +1367,7 @@ public class SBJdbcManager {
      * 複数のエンティティを一括削除します。
      * 
      * <p>
-     * バッチ処理により、効率的に複数のエンティティを一度に削除できます。
+     * JDBCバッチにより、{@link #DEFAULT_BATCH_SIZE} 件ごとにまとめて送信します。
      * </p>
      *
      * @param <T>                      エンティティの型
@@ -822,31 +1377,178 @@ public class SBJdbcManager {
      * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
      */
     public <T> List<Integer> batchDelete(List<T> entities, boolean isIndependentTransaction) {
+        return toList(executeBatchDelete(entities, isIndependentTransaction, DEFAULT_BATCH_SIZE));
+    }
+
+    /**
+     * 複数のエンティティをJDBCバッチで一括削除し、行ごとの削除件数を返します。
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 削除するエンティティのリスト
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @param batchSize                1回の送信にまとめる件数
+     * @return エンティティと同じ順序の削除件数
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     */
+    public <T> int[] executeBatchDelete(List<T> entities, boolean isIndependentTransaction, int batchSize) {
         if (entities == null || entities.isEmpty()) {
             throw new SBIllegalStateException("エンティティリストが空です");
         }
 
         return executeWithTransaction(isIndependentTransaction, () -> {
             logger.debug("バッチDELETE実行開始: {} 件", entities.size());
-            
-            List<Integer> results = new ArrayList<>();
 
+            List<String> sqls = new ArrayList<>(entities.size());
+            List<Map<String, Object>> paramsList = new ArrayList<>(entities.size());
             for (T entity : entities) {
-                int deleted = delete(entity, false); // 個別トランザクションは使わない
-                results.add(deleted);
+                Map<String, Object> pkValues = getPrimaryKeyValues(entity);
+                if (pkValues.isEmpty()) {
+                    throw new SBIllegalStateException("主キーが設定されていません: " + entity.getClass().getName());
+                }
+                Map<String, Object> params = new HashMap<>();
+                sqls.add(buildDeleteSql(entity, pkValues, params));
+                paramsList.add(params);
             }
+            int[] results = executeGroupedBatch(sqls, paramsList, batchSize);
 
-            logger.info("バッチDELETE実行完了: {} 件", results.size());
+            logger.info("バッチDELETE実行完了: {} 件", results.length);
             return results;
         });
     }
 
+    /**
+     * 複数のエンティティを、主キーの集合を条件とするDELETE文で一括削除します。
+     *
+     * <p>
+     * 単一主キーは {@code DELETE FROM t WHERE pk IN (...)}、複合主キーは Dialect が対応していれば
+     * 行値式 {@code (a, b) IN ((...), (...))}、対応しなければ {@code (a = ? AND b = ?) OR ...} で削除します。
+     * 1文あたりの件数は、Dialect のバインド変数の最大数と {@code IN} 句の要素数の上限から決定し、
+     * 上限に満たない端数は1文で送信するため、文の数は件数を上限で割った値（切り上げ）になります。
+     * 楽観的排他制御の条件は付与しません。
+     * </p>
+     *
+     * @param <T>                      エンティティの型
+     * @param entities                 削除するエンティティのリスト（同じクラスのエンティティ）
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @return DELETE文ごとの削除件数と合計
+     * @throws SBIllegalStateException エンティティリストが空またはnullの場合、または主キーが設定されていない場合
+     */
+    public <T> BulkDeleteResult executeBulkDelete(List<T> entities, boolean isIndependentTransaction) {
+        if (entities == null || entities.isEmpty()) {
+            throw new SBIllegalStateException("エンティティリストが空です");
+        }
+
+        return executeWithTransaction(isIndependentTransaction, () -> {
+            logger.debug("一括DELETE実行開始: {} 件", entities.size());
+
+            Class<?> entityClass = entities.get(0).getClass();
+            List<String> pkColumns = getPrimaryKeyInfo(entityClass).getColumnNames();
+            List<Object> keyValues = new ArrayList<>(entities.size() * pkColumns.size());
+            for (T entity : entities) {
+                Map<String, Object> pkValues = getPrimaryKeyValues(entity);
+                for (String column : pkColumns) {
+                    Object value = pkValues.get(column);
+                    if (value == null) {
+                        throw new SBIllegalStateException("主キーが設定されていません: " + entityClass.getName());
+                    }
+                    keyValues.add(value);
+                }
+            }
+
+            int maxRows = DEFAULT_BATCH_SIZE;
+            if (dialect != null) {
+                maxRows = Math.max(1,
+                        Math.min(dialect.getMaxInListSize(), dialect.getMaxBindParameters() / pkColumns.size()));
+            }
+
+            String header = "DELETE FROM " + getTableName(entityClass) + " WHERE ";
+            Map<Integer, String> sqlCache = new HashMap<>();
+            List<Integer> counts = new ArrayList<>();
+            int width = pkColumns.size();
+            int offset = 0;
+            while (offset < entities.size()) {
+                // 削除は1回限りの実行が多く、SQLの種類を抑えるより往復の回数を減らすことを優先する
+                int rows = Math.min(entities.size() - offset, maxRows);
+                String sql = sqlCache.computeIfAbsent(rows, n -> header + buildPrimaryKeyInCondition(pkColumns, n));
+                counts.add(queryExecutor.executePreparedUpdate(sql,
+                        keyValues.subList(offset * width, (offset + rows) * width)));
+                offset += rows;
+            }
+
+            BulkDeleteResult result = new BulkDeleteResult(counts.stream().mapToInt(Integer::intValue).toArray());
+            logger.info("一括DELETE実行完了: {} 件（{} 文）", result.getTotal(), result.getStatementCount());
+            return result;
+        });
+    }
+
+    /**
+     * 指定した件数の主キーに一致する条件を、JDBCのバインド変数を使用して構築します。
+     *
+     * @param pkColumns 主キーのカラム名
+     * @param rows      条件に含める主キーの件数
+     * @return 主キーの条件
+     */
+    private String buildPrimaryKeyInCondition(List<String> pkColumns, int rows) {
+        if (pkColumns.size() == 1) {
+            return pkColumns.get(0) + " IN (" + String.join(", ", Collections.nCopies(rows, "?")) + ")";
+        }
+        if (dialect != null && dialect.supportsRowValueIn()) {
+            String row = "(" + String.join(", ", Collections.nCopies(pkColumns.size(), "?")) + ")";
+            return "(" + String.join(", ", pkColumns) + ") IN (" + String.join(", ", Collections.nCopies(rows, row))
+                    + ")";
+        }
+        String row = pkColumns.stream().map(column -> column + " = ?")
+                .collect(Collectors.joining(" AND ", "(", ")"));
+        return String.join(" OR ", Collections.nCopies(rows, row));
+    }
+
+    /**
+     * 行のイテレータを、{@link BulkIngestEngine} を使用してテーブルへ一括投入します。
+     *
+     * <p>
+     * 行はイテレータから1行ずつ取り出してエンジンへ渡すため、データ全体をメモリに保持しません。
+     * エンジンを指定しない場合は、コネクションのデータベースに応じて
+     * {@link BulkIngestEngineResolver#resolve(Connection)} で選択します。
+     * 投入は現在のトランザクションのコネクションで実行します。
+     * </p>
+     *
+     * @param tableName                投入先のテーブル名
+     * @param columns                  投入するカラム名
+     * @param rows                     {@code columns} の順のカラム値の配列のイテレータ
+     * @param engine                   使用する一括投入エンジン。{@code null} の場合は自動選択
+     * @param isIndependentTransaction 独立したトランザクションで実行するかどうか
+     * @return 投入した行数
+     * @throws SBIllegalStateException カラムが指定されていない場合
+     * @throws SBSQLException          投入に失敗した場合
+     */
+    public long executeIngest(String tableName, List<String> columns, Iterator<Object[]> rows,
+            BulkIngestEngine engine, boolean isIndependentTransaction) {
+        if (columns == null || columns.isEmpty()) {
+            throw new SBIllegalStateException("投入するカラムが指定されていません");
+        }
+
+        return executeWithTransaction(isIndependentTransaction, () -> {
+            Connection connection = queryExecutor.getCurrentConnection();
+            try {
+                BulkIngestEngine target = engine != null ? engine : BulkIngestEngineResolver.resolve(connection);
+                logger.debug("一括投入開始: {} ({})", tableName, target.getClass().getSimpleName());
+                long count = target.ingest(connection, tableName, columns, rows);
+                logger.info("一括投入完了: {} 件", count);
+                return count;
+            } catch (SQLException e) {
+                throw new SBSQLException("一括投入中にエラーが発生しました: " + tableName, e);
+            }
+        });
+    }
+
     /**
      * 複数のエンティティを一括で登録または更新します。
      * 
      * <p>
      * 各エンティティについて、主キーが設定されており、レコードが存在する場合は更新を行います。
-     * それ以外の場合は新規登録を行います。バッチ処理により、効率的に処理されます。
+     * それ以外の場合は新規登録を行います。主キーが設定されたエンティティは、Dialect が対応していれば
+     * UPSERT 文をJDBCバッチでまとめて送信し、主キーが未設定のエンティティのみを1件ずつ処理します。
+     * 戻り値は引数と同じ順序です。
      * </p>
      *
      * @param <T>      エンティティの型
@@ -863,7 +1565,9 @@ public class SBJdbcManager {
      * 
      * <p>
      * 各エンティティについて、主キーが設定されており、レコードが存在する場合は更新を行います。
-     * それ以外の場合は新規登録を行います。バッチ処理により、効率的に処理されます。
+     * それ以外の場合は新規登録を行います。主キーが設定されたエンティティは、Dialect が対応していれば
+     * UPSERT 文をJDBCバッチでまとめて送信し、主キーが未設定のエンティティのみを1件ずつ処理します。
+     * 戻り値は引数と同じ順序です。
      * </p>
      *
      * @param <T>                      エンティティの型
@@ -880,11 +1584,55 @@ public class SBJdbcManager {
         return executeWithTransaction(isIndependentTransaction, () -> {
             logger.debug("バッチINSERT_OR_UPDATE実行開始: {} 件", entities.size());
             
-            List<T> results = new ArrayList<>();
+            // UPSERT できるエンティティを集めてJDBCバッチでまとめて送信し、それ以外は1件ずつ処理する
+            List<Integer> upsertIndexes = new ArrayList<>(entities.size());
+            List<Integer> fallbackIndexes = new ArrayList<>();
+            List<String> sqls = new ArrayList<>(entities.size());
+            List<Map<String, Object>> paramsList = new ArrayList<>(entities.size());
+            List<Map<String, Object>> pkValuesList = new ArrayList<>(entities.size());
+            List<OptimisticLockInfo> lockInfos = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                T entity = entities.get(i);
+                Map<String, Object> pkValues = getPrimaryKeyValues(entity);
+                if (pkValues.values().stream().anyMatch(value -> value == null)) {
+                    fallbackIndexes.add(i);
+                    continue;
+                }
+                OptimisticLockInfo lockInfo = SBOptimisticLockSupport.getOptimisticLockInfo(entity,
+                        optimisticLockConfig);
+                Map<String, Object> params = new HashMap<>();
+                String sql = buildUpsertSql(entity, pkValues, lockInfo, params);
+                if (sql == null) {
+                    fallbackIndexes.add(i);
+                    continue;
+                }
+                upsertIndexes.add(i);
+                sqls.add(sql);
+                paramsList.add(params);
+                pkValuesList.add(pkValues);
+                lockInfos.add(lockInfo);
+            }
 
-            for (T entity : entities) {
-                T result = insertOrUpdate(entity, false); // 個別トランザクションは使わない
-                results.add(result);
+            List<T> results = new ArrayList<>(entities);
+            try {
+                if (!sqls.isEmpty()) {
+                    int[] counts = executeGroupedBatch(sqls, paramsList, DEFAULT_BATCH_SIZE);
+                    for (int i = 0; i < counts.length; i++) {
+                        if (counts[i] == 0 && lockInfos.get(i).isEnabled()) {
+                            throw createUpdateConflict(entities.get(upsertIndexes.get(i)), pkValuesList.get(i),
+                                    lockInfos.get(i));
+                        }
+                    }
+                }
+                for (int index : fallbackIndexes) {
+                    results.set(index, insertOrUpdate(entities.get(index), false)); // 個別トランザクションは使わない
+                }
+            } catch (RuntimeException e) {
+                // ロールバックされるため、UPSERT したエンティティの値を更新前に戻す
+                for (int i = 0; i < lockInfos.size(); i++) {
+                    restoreOptimisticLockValue(entities.get(upsertIndexes.get(i)), lockInfos.get(i));
+                }
+                throw e;
             }
 
             logger.info("バッチINSERT_OR_UPDATE実行完了: {} 件", results.size());
@@ -893,6 +1641,318 @@ public class SBJdbcManager {
     }
 
     // ---------- Utility ----------
+    /**
+     * エンティティのINSERT文を構築します。
+     *
+     * @param entity エンティティ
+     * @param params エンティティのパラメータ
+     * @return INSERT文
+     */
+    private <T> String buildInsertSql(T entity, Map<String, Object> params) {
+        return "INSERT INTO " + getTableName(entity.getClass()) + " (" + buildInsertColumns(params) + ") VALUES ("
+                + buildInsertValues(params) + ")";
+    }
+
+    private static String buildInsertColumns(Map<String, Object> params) {
+        return String.join(", ", params.keySet());
+    }
+
+    private static String buildInsertValues(Map<String, Object> params) {
+        return params.keySet().stream().map(column -> "/*" + column + "*/null").collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 主キーに基づくエンティティのUPSERT文を構築します。
+     * <p>
+     * 楽観的排他制御が有効な場合は、既存行の値が一致するときのみ更新する条件を含め、
+     * エンティティのバージョン等の値を更新します。
+     * Dialect が対応しない場合はエンティティを変更せずに {@code null} を返します。
+     * </p>
+     *
+     * @param entity   エンティティ
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @param params   バインドパラメータの格納先
+     * @return UPSERT文。Dialect が対応しない場合は {@code null}
+     */
+    private <T> String buildUpsertSql(T entity, Map<String, Object> pkValues, OptimisticLockInfo lockInfo,
+            Map<String, Object> params) {
+        if (dialect == null) {
+            return null;
+        }
+        Map<String, Object> entityParams = getEntityParams(entity);
+        List<String> columns = new ArrayList<>(entityParams.keySet());
+        List<String> values = columns.stream().map(column -> "/*" + column + "*/null").collect(Collectors.toList());
+        String lockColumn = lockInfo.isEnabled() ? lockInfo.getColumnName() : null;
+        String sql = dialect.upsert(getTableName(entity.getClass()), columns, values,
+                new ArrayList<>(pkValues.keySet()), lockColumn, "/*optimisticLockValue*/null");
+        if (sql == null) {
+            return null;
+        }
+
+        params.putAll(entityParams);
+        if (lockColumn != null) {
+            params.put("optimisticLockValue", lockInfo.getCurrentValue());
+            Object newOptimisticLockValue = SBOptimisticLockSupport.updateOptimisticLockValue(entity, lockInfo);
+            if (newOptimisticLockValue != null) {
+                params.put(lockColumn, newOptimisticLockValue);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * 取得した自動採番キーをエンティティの主キーフィールドに設定します。
+     *
+     * @param entity エンティティ
+     * @param pkInfo 主キー情報
+     * @param keys   カラム名と取得した値のマップ
+     */
+    private static void applyGeneratedKeys(Object entity, SBPrimaryKeyInfo pkInfo, Map<String, Object> keys) {
+        for (int i = 0; i < pkInfo.getFields().size(); i++) {
+            String column = pkInfo.getColumnNames().get(i);
+            if (!keys.containsKey(column)) {
+                continue;
+            }
+            Field field = pkInfo.getFields().get(i);
+            try {
+                field.setAccessible(true);
+                field.set(entity, SBTypeConverterUtils.convertValue(keys.get(column), field.getType()));
+            } catch (IllegalAccessException e) {
+                throw new SBEntityException("主キーの値の設定に失敗しました: " + field.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 主キーに基づくエンティティのUPDATE文を構築します。
+     *
+     * @param entity   エンティティ
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @param params   バインドパラメータの格納先
+     * @return UPDATE文
+     */
+    private <T> String buildUpdateSql(T entity, Map<String, Object> pkValues, OptimisticLockInfo lockInfo,
+            Map<String, Object> params) {
+        String setClause = buildUpdateSetClause(entity, pkValues, lockInfo, params);
+        String whereClause = buildUpdateWhereClause(pkValues, lockInfo, params);
+        return "UPDATE " + getTableName(entity.getClass()) + " SET " + setClause + " WHERE " + whereClause;
+    }
+
+    /**
+     * UPDATE文のSET句（{@code SET} を除く）を構築します。
+     * <p>
+     * 楽観的排他制御が有効な場合は、エンティティのバージョン等の値を更新してSET句に含めます。
+     * </p>
+     *
+     * @param entity   エンティティ
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @param params   バインドパラメータの格納先
+     * @return SET句
+     */
+    private <T> String buildUpdateSetClause(T entity, Map<String, Object> pkValues, OptimisticLockInfo lockInfo,
+            Map<String, Object> params) {
+        return buildUpdateSetClause(entity, pkValues, lockInfo, params, null);
+    }
+
+    /**
+     * 指定したカラムのみを更新するUPDATE文のSET句（{@code SET} を除く）を構築します。
+     * <p>
+     * 楽観的排他制御が有効な場合は、指定に関わらずバージョン等のカラムをSET句に含めます。
+     * </p>
+     *
+     * @param entity        エンティティ
+     * @param pkValues      主キーの値
+     * @param lockInfo      楽観的排他制御の情報
+     * @param params        バインドパラメータの格納先
+     * @param targetColumns 更新するカラム。すべてのカラムを更新する場合は {@code null}
+     * @return SET句
+     */
+    private <T> String buildUpdateSetClause(T entity, Map<String, Object> pkValues, OptimisticLockInfo lockInfo,
+            Map<String, Object> params, Set<String> targetColumns) {
+        params.putAll(getEntityParams(entity));
+        // 主キーを params から削除
+        pkValues.keySet().forEach(params::remove);
+        if (targetColumns != null) {
+            params.keySet().retainAll(targetColumns);
+        }
+
+        // 楽観的排他制御用カラムの値を更新（バージョン番号のインクリメントや更新日時の設定）
+        if (lockInfo.isEnabled()) {
+            Object newOptimisticLockValue = SBOptimisticLockSupport.updateOptimisticLockValue(entity, lockInfo);
+            if (newOptimisticLockValue != null) {
+                params.put(lockInfo.getColumnName(), newOptimisticLockValue);
+            }
+        }
+
+        // 主キー以外のカラムを更新対象とする
+        return params.keySet().stream()
+                .filter(column -> !pkValues.containsKey(column))
+                .map(column -> column + " = /*" + column + "*/null")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * UPDATE文のWHERE句（{@code WHERE} を除く）を構築します。
+     *
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @param params   バインドパラメータの格納先
+     * @return WHERE句
+     */
+    private static String buildUpdateWhereClause(Map<String, Object> pkValues, OptimisticLockInfo lockInfo,
+            Map<String, Object> params) {
+        String condition = buildPrimaryKeyCondition(pkValues, params);
+        // 楽観的排他制御のWHERE句条件を追加
+        if (lockInfo.isEnabled()) {
+            condition += SBOptimisticLockSupport.buildOptimisticLockCondition(lockInfo, params);
+        }
+        return condition;
+    }
+
+    /**
+     * 主キーに基づくエンティティのDELETE文を構築します。
+     *
+     * @param entity   エンティティ
+     * @param pkValues 主キーの値
+     * @param params   バインドパラメータの格納先
+     * @return DELETE文
+     */
+    private <T> String buildDeleteSql(T entity, Map<String, Object> pkValues, Map<String, Object> params) {
+        return "DELETE FROM " + getTableName(entity.getClass()) + " WHERE " + buildPrimaryKeyCondition(pkValues, params);
+    }
+
+    /**
+     * 主キーの一致条件を構築します。
+     *
+     * @param pkValues 主キーの値
+     * @param params   バインドパラメータの格納先
+     * @return 主キーの一致条件
+     */
+    private static String buildPrimaryKeyCondition(Map<String, Object> pkValues, Map<String, Object> params) {
+        StringBuilder condition = new StringBuilder();
+        int pkCount = 0;
+        for (Map.Entry<String, Object> pk : pkValues.entrySet()) {
+            if (pkCount++ > 0) {
+                condition.append(" AND ");
+            }
+            condition.append(pk.getKey()).append(" = /*pk").append(pkCount).append("*/0");
+            params.put("pk" + pkCount, pk.getValue());
+        }
+        return condition.toString();
+    }
+
+    /**
+     * 変更追跡が有効な場合、検索時のスナップショットから変更された更新対象のカラムを返します。
+     * <p>
+     * 主キーと楽観的排他制御用のカラムは含みません。
+     * </p>
+     *
+     * @param entity   エンティティ
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @return 変更されたカラム。変更追跡が無効な場合、またはスナップショットがない場合は {@code null}
+     */
+    private Set<String> getChangedColumns(Object entity, Map<String, Object> pkValues, OptimisticLockInfo lockInfo) {
+        DirtyTracker tracker = dirtyTracker;
+        if (tracker == null) {
+            return null;
+        }
+        Set<String> changed = tracker.getChangedColumns(entity, getEntityParams(entity));
+        if (changed != null) {
+            changed.removeAll(pkValues.keySet());
+            if (lockInfo.isEnabled()) {
+                changed.remove(lockInfo.getColumnName());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * エンティティの楽観的排他制御用カラムの値を、更新前の値に戻します。
+     *
+     * @param entity   エンティティ
+     * @param lockInfo 更新前に取得した楽観的排他制御の情報
+     */
+    private static void restoreOptimisticLockValue(Object entity, OptimisticLockInfo lockInfo) {
+        if (!lockInfo.isEnabled() || lockInfo.getField() == null) {
+            return;
+        }
+        Field field = lockInfo.getField();
+        try {
+            field.setAccessible(true);
+            field.set(entity, lockInfo.getCurrentValue());
+        } catch (IllegalAccessException e) {
+            throw new SBEntityException("楽観的排他制御カラムの値の復元に失敗しました: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * 変更追跡が有効な場合、更新後のエンティティの値をスナップショットとして記録し直します。
+     *
+     * @param entity 更新したエンティティ
+     */
+    private void trackUpdated(Object entity) {
+        DirtyTracker tracker = dirtyTracker;
+        if (tracker != null && tracker.isTracked(entity)) {
+            tracker.snapshot(entity, getEntityParams(entity));
+        }
+    }
+
+    /**
+     * 更新件数が0件だった場合の例外を生成します。
+     *
+     * @param entity   更新対象のエンティティ
+     * @param pkValues 主キーの値
+     * @param lockInfo 楽観的排他制御の情報
+     * @return 楽観的排他制御例外
+     */
+    private static SBOptimisticLockException createUpdateConflict(Object entity, Map<String, Object> pkValues,
+            OptimisticLockInfo lockInfo) {
+        if (lockInfo.isEnabled()) {
+            return new SBOptimisticLockException(
+                    "楽観的排他制御エラー: レコードが他のトランザクションによって更新されています。",
+                    entity,
+                    lockInfo.getColumnName());
+        }
+        return new SBOptimisticLockException("更新対象のレコードが見つかりませんでした。他のトランザクションによって更新された可能性があります。", entity,
+                pkValues.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * 同じSQLが連続する範囲ごとにJDBCバッチを実行し、行ごとの件数を元の順序で返します。
+     *
+     * @param sqls       行ごとのSQL
+     * @param paramsList 行ごとのバインドパラメータ
+     * @param batchSize  1回の送信にまとめる件数
+     * @return 行ごとの更新件数
+     */
+    private int[] executeGroupedBatch(List<String> sqls, List<Map<String, Object>> paramsList, int batchSize) {
+        int[] results = new int[sqls.size()];
+        int start = 0;
+        while (start < sqls.size()) {
+            String sql = sqls.get(start);
+            int end = start + 1;
+            while (end < sqls.size() && sqls.get(end).equals(sql)) {
+                end++;
+            }
+            int[] counts = queryExecutor.executeBatch(sql, paramsList.subList(start, end), batchSize);
+            System.arraycopy(counts, 0, results, start, counts.length);
+            start = end;
+        }
+        return results;
+    }
+
+    private static List<Integer> toList(int[] counts) {
+        List<Integer> list = new ArrayList<>(counts.length);
+        for (int count : counts) {
+            list.add(count);
+        }
+        return list;
+    }
+
     private <T> T executeWithTransaction(boolean isIndependentTransaction, Callable<T> operation) {
         return txManager.execute(isIndependentTransaction ? PropagationType.REQUIRES_NEW : PropagationType.REQUIRED,
                 operation);
@@ -0,0 +1,410 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.util.Throwables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.config.OptimisticLockConfig;
+import jp.vemi.batisfluid.exception.BatchOptimisticLockException;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.core.sql.dialect.OracleDialect;
+import jp.vemi.seasarbatis.core.sql.dialect.SqlServerDialect;
+import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
+import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow} のバッチ操作のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowBatchH2Test {
+
+    private DataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_batch;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS batch_items");
+            stmt.execute("CREATE TABLE batch_items (id BIGINT PRIMARY KEY, name VARCHAR(100), qty INT)");
+            stmt.execute("DROP TABLE IF EXISTS composite_items");
+            stmt.execute("CREATE TABLE composite_items (group_id INT, item_no INT, name VARCHAR(100), "
+                + "PRIMARY KEY (group_id, item_no))");
+            stmt.execute("DROP TABLE IF EXISTS versioned_batch_items");
+            stmt.execute("CREATE TABLE versioned_batch_items (id BIGINT PRIMARY KEY, name VARCHAR(100), version BIGINT)");
+            for (int i = 1; i <= 5; i++) {
+                stmt.execute("INSERT INTO versioned_batch_items VALUES (" + i + ", 'item" + i + "', 1)");
+            }
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory,
+                new OptimisticLockConfig().setDefaultLockType(OptimisticLockConfig.LockType.VERSION));
+        }
+    }
+
+    private List<BatchItem> items(int count) {
+        List<BatchItem> items = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            items.add(new BatchItem((long) i, "item" + i, i));
+        }
+        return items;
+    }
+
+    private List<VersionedBatchItem> versionedItems() {
+        List<VersionedBatchItem> items = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            items.add(new VersionedBatchItem((long) i, "updated", 1L));
+        }
+        return items;
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("バッチ登録テスト")
+    class BatchInsertTests {
+
+        @Test
+        @DisplayName("バッチサイズを超える件数を登録し、行ごとの件数を返す")
+        void testBatchInsert() throws Exception {
+            int[] counts = jdbcFlow.batchInsert(items(10), 3);
+
+            assertThat(counts).hasSize(10).containsOnly(1);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(10L);
+            assertThat(queryLong("SELECT SUM(qty) FROM batch_items")).isEqualTo(55L);
+        }
+
+        @Test
+        @DisplayName("NULLを含む値を登録できる")
+        void testBatchInsertWithNull() throws Exception {
+            List<BatchItem> items = items(2);
+            items.get(1).setName(null);
+
+            jdbcFlow.batchInsert(items);
+
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items WHERE name IS NULL")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("失敗した場合はすべての登録がロールバックされる")
+        void testBatchInsertRollback() throws Exception {
+            List<BatchItem> items = items(5);
+            items.add(new BatchItem(1L, "duplicate", 0));
+
+            assertThatThrownBy(() -> jdbcFlow.batchInsert(items, 2))
+                .isInstanceOf(RuntimeException.class);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("バッチ更新・削除テスト")
+    class BatchUpdateDeleteTests {
+
+        @Test
+        @DisplayName("行ごとの更新件数を返す")
+        void testBatchUpdate() throws Exception {
+            List<BatchItem> items = items(5);
+            jdbcFlow.batchInsert(items);
+            items.forEach(item -> item.setQty(item.getQty() * 10));
+
+            int[] counts = jdbcFlow.batchUpdate(items, 2);
+
+            assertThat(counts).containsExactly(1, 1, 1, 1, 1);
+            assertThat(queryLong("SELECT SUM(qty) FROM batch_items")).isEqualTo(150L);
+        }
+
+        @Test
+        @DisplayName("更新対象が存在しない行がある場合は例外をスローする")
+        void testBatchUpdateMissingRow() throws Exception {
+            jdbcFlow.batchInsert(items(2));
+            List<BatchItem> items = items(3);
+            items.forEach(item -> item.setName("updated"));
+
+            assertThatThrownBy(() -> jdbcFlow.batchUpdate(items))
+                .hasRootCauseInstanceOf(SBOptimisticLockException.class);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items WHERE name = 'updated'")).isZero();
+        }
+
+        @Test
+        @DisplayName("行ごとの削除件数を返す")
+        void testBatchDelete() throws Exception {
+            jdbcFlow.batchInsert(items(4));
+            List<BatchItem> targets = items(6).subList(2, 6);
+
+            int[] counts = jdbcFlow.batchDelete(targets, 3);
+
+            assertThat(counts).containsExactly(1, 1, 0, 0);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("楽観的排他制御の競合判定テスト")
+    class ConflictDetectionTests {
+
+        @Test
+        @DisplayName("REPORTでは競合した行を返し、その他の行の更新を確定する")
+        void testBatchUpdateReport() throws Exception {
+            execute("UPDATE versioned_batch_items SET version = 9 WHERE id IN (2, 4)");
+            List<VersionedBatchItem> items = versionedItems();
+
+            BatchUpdateResult<VersionedBatchItem> result = jdbcFlow.batchUpdate(items, 2, ConflictMode.REPORT);
+
+            assertThat(result.getConflicts()).extracting(VersionedBatchItem::getId).containsExactly(2L, 4L);
+            assertThat(result.getCounts()).containsExactly(1, 0, 1, 0, 1);
+            assertThat(result.getUpdatedCount()).isEqualTo(3);
+            assertThat(items).extracting(VersionedBatchItem::getVersion).containsExactly(2L, 1L, 2L, 1L, 2L);
+            assertThat(queryLong("SELECT COUNT(*) FROM versioned_batch_items WHERE name = 'updated'")).isEqualTo(3L);
+            assertThat(queryLong("SELECT COUNT(*) FROM versioned_batch_items WHERE version = 2")).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("THROWでは競合したすべてのエンティティを保持する例外をスローし、ロールバックする")
+        void testBatchUpdateThrow() throws Exception {
+            execute("UPDATE versioned_batch_items SET version = 9 WHERE id IN (3, 5)");
+            List<VersionedBatchItem> items = versionedItems();
+
+            Throwable thrown = catchThrowable(() -> jdbcFlow.batchUpdate(items, 2, ConflictMode.THROW));
+
+            assertThat(thrown).rootCause().isInstanceOf(BatchOptimisticLockException.class);
+            BatchOptimisticLockException e = (BatchOptimisticLockException) Throwables.getRootCause(thrown);
+            assertThat(e.getConflicts()).extracting(item -> ((VersionedBatchItem) item).getId())
+                .containsExactly(3L, 5L);
+            assertThat(items).extracting(VersionedBatchItem::getVersion).containsOnly(1L);
+            assertThat(queryLong("SELECT COUNT(*) FROM versioned_batch_items WHERE name = 'updated'")).isZero();
+        }
+
+        @Test
+        @DisplayName("競合がない場合はすべてのバージョンを進める")
+        void testBatchUpdateNoConflict() throws Exception {
+            List<VersionedBatchItem> items = versionedItems();
+
+            BatchUpdateResult<VersionedBatchItem> result = jdbcFlow.batchUpdate(items, 10, ConflictMode.THROW);
+
+            assertThat(result.hasConflicts()).isFalse();
+            assertThat(items).extracting(VersionedBatchItem::getVersion).containsOnly(2L);
+            assertThat(queryLong("SELECT SUM(version) FROM versioned_batch_items")).isEqualTo(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("主キー集合による一括削除テスト")
+    class BulkDeleteTests {
+
+        private List<CompositeItem> compositeItems(int groups, int itemsPerGroup) {
+            List<CompositeItem> items = new ArrayList<>();
+            for (int g = 1; g <= groups; g++) {
+                for (int n = 1; n <= itemsPerGroup; n++) {
+                    items.add(new CompositeItem(g, n, "item"));
+                }
+            }
+            return items;
+        }
+
+        @Test
+        @DisplayName("IN句でまとめて削除し、合計件数を返す")
+        void testBulkDelete() throws Exception {
+            jdbcFlow.bulkInsert(items(10_000));
+
+            BulkDeleteResult result = jdbcFlow.bulkDelete(items(10_000).subList(0, 9_990));
+
+            assertThat(result.getTotal()).isEqualTo(9_990);
+            assertThat(result.getStatementCount()).isEqualTo(1);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("バインド変数の上限に合わせて分割し、文ごとの件数を返す")
+        void testBulkDeleteChunked() throws Exception {
+            // SQL Server の上限（2100変数）では2100件と端数の400件の2文に分割される
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new SqlServerDialect());
+            manager.executeBulkInsert(items(2_400), false);
+
+            BulkDeleteResult result = manager.executeBulkDelete(items(2_500), false);
+
+            assertThat(result.getChunkCounts()).containsExactly(2_100, 300);
+            assertThat(result.getTotal()).isEqualTo(2_400);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isZero();
+        }
+
+        @Test
+        @DisplayName("複合主キーは行値式のIN句で削除する")
+        void testBulkDeleteCompositeRowValue() throws Exception {
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new OracleDialect());
+            manager.executeBatchInsert(compositeItems(3, 500), false, 500);
+
+            BulkDeleteResult result = manager.executeBulkDelete(compositeItems(2, 500), false);
+
+            assertThat(result.getStatementCount()).isEqualTo(1);
+            assertThat(result.getTotal()).isEqualTo(1_000);
+            assertThat(queryLong("SELECT COUNT(*) FROM composite_items")).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("行値式に対応しない場合は複合主キーの条件をORで連結して削除する")
+        void testBulkDeleteCompositeOr() throws Exception {
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new SqlServerDialect());
+            manager.executeBatchInsert(compositeItems(2, 5), false, 10);
+
+            BulkDeleteResult result = manager.executeBulkDelete(compositeItems(1, 5), false);
+
+            assertThat(result.getTotal()).isEqualTo(5);
+            assertThat(queryLong("SELECT COUNT(*) FROM composite_items WHERE group_id = 2")).isEqualTo(5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("複数行VALUES一括登録テスト")
+    class BulkInsertTests {
+
+        @Test
+        @DisplayName("1文で複数行を登録し、登録件数の合計を返す")
+        void testBulkInsert() throws Exception {
+            List<BatchItem> items = items(2500);
+            items.get(0).setName(null);
+
+            int count = jdbcFlow.bulkInsert(items);
+
+            assertThat(count).isEqualTo(2500);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(2500L);
+            assertThat(queryLong("SELECT SUM(qty) FROM batch_items")).isEqualTo(2500L * 2501 / 2);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items WHERE name IS NULL")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("バインド変数の上限に合わせて分割して登録する")
+        void testBulkInsertChunked() throws Exception {
+            // SQL Server の上限（2100変数・1000行）では3カラムの場合700行ずつに分割される
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new SqlServerDialect());
+
+            int count = manager.executeBulkInsert(items(2500), false);
+
+            assertThat(count).isEqualTo(2500);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(2500L);
+            assertThat(queryLong("SELECT MAX(id) FROM batch_items")).isEqualTo(2500L);
+        }
+
+        @Test
+        @DisplayName("複数行VALUESに対応しない場合はJDBCバッチで登録する")
+        void testBulkInsertFallback() throws Exception {
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new OracleDialect());
+
+            int count = manager.executeBulkInsert(items(5), false);
+
+            assertThat(count).isEqualTo(5);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("失敗した場合はすべての登録がロールバックされる")
+        void testBulkInsertRollback() throws Exception {
+            SBJdbcManager manager = new SBJdbcManager(sqlSessionFactory, new SqlServerDialect());
+            List<BatchItem> items = items(1000);
+            items.add(new BatchItem(1L, "duplicate", 0));
+
+            assertThatThrownBy(() -> manager.executeBulkInsert(items, false))
+                .isInstanceOf(RuntimeException.class);
+            assertThat(queryLong("SELECT COUNT(*) FROM batch_items")).isZero();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "batch_items")
+    public static class BatchItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "qty")
+        private Integer qty;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "versioned_batch_items")
+    public static class VersionedBatchItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "version", versionColumn = true)
+        private Long version;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "composite_items")
+    public static class CompositeItem {
+        @SBColumnMeta(name = "group_id", primaryKey = true)
+        private Integer groupId;
+
+        @SBColumnMeta(name = "item_no", primaryKey = true)
+        private Integer itemNo;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した、1つの {@link JdbcFlow} を複数のスレッドで共有した場合のトランザクションのテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowConcurrentTransactionH2Test {
+
+    private static final int THREADS = 32;
+    private static final int TRANSACTIONS = 400;
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:concurrent_tx;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS tx_items");
+            stmt.execute("""
+                CREATE TABLE tx_items (
+                    id BIGINT PRIMARY KEY,
+                    tx_no INT NOT NULL
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("並行するトランザクションのコミットとロールバックが互いに影響しない")
+    void testConcurrentCommitAndRollback() throws Exception {
+        SBJdbcManager manager = jdbcFlow.getDelegate();
+        AtomicLong ids = new AtomicLong();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TRANSACTIONS; i++) {
+                int txNo = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // トランザクションの外では、他のスレッドのトランザクションが見えないこと
+                    if (manager.getTransactionManager().isActive()) {
+                        unexpected.incrementAndGet();
+                    }
+                    try {
+                        manager.transaction(m -> {
+                            m.insert(new TxItem(ids.incrementAndGet(), txNo));
+                            Thread.yield();
+                            m.insert(new TxItem(ids.incrementAndGet(), txNo));
+                            if (txNo % 3 == 0) {
+                                throw new IllegalStateException("rollback " + txNo);
+                            }
+                        });
+                        committed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (txNo % 3 != 0) {
+                            unexpected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long expectedCommitted = TRANSACTIONS - (TRANSACTIONS + 2) / 3;
+        assertThat(unexpected.get()).isZero();
+        assertThat(committed.get()).isEqualTo(expectedCommitted);
+        assertThat(queryLong("SELECT COUNT(*) FROM tx_items")).isEqualTo(expectedCommitted * 2);
+        assertThat(queryLong("SELECT COUNT(*) FROM tx_items WHERE MOD(tx_no, 3) = 0")).isZero();
+        // コミットされたトランザクションは2件とも登録されていること
+        assertThat(queryLong("SELECT COUNT(*) FROM (SELECT tx_no FROM tx_items GROUP BY tx_no HAVING COUNT(*) <> 2)"))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("他のスレッドがトランザクション中でも、別のスレッドは独自のトランザクションを開始できる")
+    void testTransactionStateIsPerThread() throws Exception {
+        SBJdbcManager manager = jdbcFlow.getDelegate();
+        CountDownLatch begun = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofPlatform().start(() -> manager.transaction(m -> {
+            m.insert(new TxItem(1L, 1));
+            begun.countDown();
+            release.await();
+        }));
+        try {
+            assertThat(begun.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(manager.getTransactionManager().isActive()).isFalse();
+            assertThatThrownBy(() -> manager.transaction(m -> {
+                assertThat(m.getTransactionManager().isActive()).isTrue();
+                m.insert(new TxItem(2L, 2));
+                throw new IllegalStateException("rollback");
+            })).hasRootCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        assertThat(queryLong("SELECT COUNT(*) FROM tx_items WHERE id = 1")).isEqualTo(1L);
+        assertThat(queryLong("SELECT COUNT(*) FROM tx_items WHERE id = 2")).isZero();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "tx_items")
+    public static class TxItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "tx_no")
+        private Integer txNo;
+    }
+}
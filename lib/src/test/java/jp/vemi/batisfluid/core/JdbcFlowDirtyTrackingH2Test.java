@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.config.OptimisticLockConfig;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow} の変更追跡のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowDirtyTrackingH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_dirty;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS tracked_items");
+            stmt.execute("""
+                CREATE TABLE tracked_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100),
+                    qty INT,
+                    version BIGINT
+                )
+            """);
+            stmt.execute("INSERT INTO tracked_items VALUES (1, 'first', 10, 1)");
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            OptimisticLockConfig lockConfig = new OptimisticLockConfig()
+                .setDefaultLockType(OptimisticLockConfig.LockType.VERSION);
+            jdbcFlow = new JdbcFlow(sqlSessionFactory, lockConfig).setDirtyTrackingEnabled(true);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private TrackedItem load() {
+        return jdbcFlow.from(TrackedItem.class).getResultList().get(0);
+    }
+
+    @Test
+    @DisplayName("変更したカラムのみを更新し、バージョンを進める")
+    void testUpdateChangedColumnsOnly() throws Exception {
+        TrackedItem item = load();
+        // 検索後に別の処理が qty を更新しても、変更していないカラムは上書きしない
+        execute("UPDATE tracked_items SET qty = 99 WHERE id = 1");
+        item.setName("renamed");
+
+        jdbcFlow.update(item, ReturningMode.NONE);
+
+        assertThat(item.getVersion()).isEqualTo(2L);
+        assertThat(queryLong("SELECT qty FROM tracked_items WHERE id = 1")).isEqualTo(99L);
+        assertThat(queryLong("SELECT version FROM tracked_items WHERE id = 1")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("変更がない場合はUPDATE文を実行しない")
+    void testUpdateSkippedWhenClean() throws Exception {
+        TrackedItem item = load();
+
+        TrackedItem result = jdbcFlow.update(item);
+
+        assertThat(result).isSameAs(item);
+        assertThat(item.getVersion()).isEqualTo(1L);
+        assertThat(queryLong("SELECT version FROM tracked_items WHERE id = 1")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("更新後はスナップショットが更新され、続けて変更したカラムのみを更新する")
+    void testSnapshotRefreshedAfterUpdate() throws Exception {
+        TrackedItem item = load();
+        item.setName("renamed");
+        jdbcFlow.update(item, ReturningMode.NONE);
+
+        TrackedItem result = jdbcFlow.update(item, ReturningMode.NONE);
+
+        assertThat(result.getVersion()).isEqualTo(2L);
+        assertThat(queryLong("SELECT version FROM tracked_items WHERE id = 1")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("バージョンが一致しない場合は例外をスローする")
+    void testUpdateVersionConflict() throws Exception {
+        TrackedItem item = load();
+        execute("UPDATE tracked_items SET version = 5 WHERE id = 1");
+        item.setQty(1);
+
+        assertThatThrownBy(() -> jdbcFlow.update(item))
+            .hasRootCauseInstanceOf(SBOptimisticLockException.class);
+    }
+
+    @Test
+    @DisplayName("検索していないエンティティはすべてのカラムを更新する")
+    void testUpdateUntrackedEntity() throws Exception {
+        TrackedItem item = new TrackedItem(1L, "detached", 20, 1L);
+
+        jdbcFlow.update(item, ReturningMode.NONE);
+
+        assertThat(queryLong("SELECT qty FROM tracked_items WHERE id = 1")).isEqualTo(20L);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "tracked_items")
+    public static class TrackedItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "qty")
+        private Integer qty;
+
+        @SBColumnMeta(name = "version", versionColumn = true)
+        private Long version;
+    }
+}
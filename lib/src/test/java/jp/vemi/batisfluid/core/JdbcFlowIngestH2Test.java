@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.ingest.BatchInsertIngestEngine;
+import jp.vemi.batisfluid.ingest.BulkIngestEngineResolver;
+import jp.vemi.batisfluid.meta.FluidColumn;
+import jp.vemi.batisfluid.meta.FluidTable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow} の一括投入のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowIngestH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_ingest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS ingest_items");
+            stmt.execute("""
+                CREATE TABLE ingest_items (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    name VARCHAR(100),
+                    qty INT
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("エンティティの一括投入テスト")
+    class EntityIngestTests {
+
+        @Test
+        @DisplayName("ストリームの全件が投入され、nullの主キーは自動採番される")
+        void testIngestStream() throws Exception {
+            Stream<IngestItem> items = IntStream.range(0, 2500)
+                .mapToObj(i -> new IngestItem(null, "item" + i, i));
+
+            long count = jdbcFlow.ingest(IngestItem.class, items);
+
+            assertThat(count).isEqualTo(2500L);
+            assertThat(queryLong("SELECT COUNT(*) FROM ingest_items")).isEqualTo(2500L);
+            assertThat(queryLong("SELECT SUM(qty) FROM ingest_items")).isEqualTo(2500L * 2499 / 2);
+            assertThat(queryLong("SELECT COUNT(DISTINCT id) FROM ingest_items")).isEqualTo(2500L);
+        }
+
+        @Test
+        @DisplayName("エンティティは投入する時点で1件ずつ取り出される")
+        void testIngestIsLazy() throws Exception {
+            AtomicInteger produced = new AtomicInteger();
+            Stream<IngestItem> items = Stream.generate(() -> {
+                int i = produced.incrementAndGet();
+                return new IngestItem((long) i, "lazy", 1);
+            }).limit(10);
+
+            long count = jdbcFlow.ingest(IngestItem.class, items.iterator(), new BatchInsertIngestEngine(3));
+
+            assertThat(count).isEqualTo(10L);
+            assertThat(produced.get()).isEqualTo(10);
+            assertThat(queryLong("SELECT MAX(id) FROM ingest_items")).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("空のイテレータでは何も投入しない")
+        void testIngestEmpty() throws Exception {
+            long count = jdbcFlow.ingest(IngestItem.class, Collections.<IngestItem>emptyIterator());
+
+            assertThat(count).isZero();
+            assertThat(queryLong("SELECT COUNT(*) FROM ingest_items")).isZero();
+        }
+
+        @Test
+        @DisplayName("トランザクションがロールバックされると投入も取り消される")
+        void testIngestRollback() throws Exception {
+            assertThatThrownBy(() -> jdbcFlow.getDelegate().transaction(manager -> {
+                jdbcFlow.ingest(IngestItem.class, List.of(new IngestItem(null, "a", 1)).iterator());
+                throw new IllegalStateException("rollback");
+            })).hasRootCauseInstanceOf(IllegalStateException.class);
+
+            assertThat(queryLong("SELECT COUNT(*) FROM ingest_items")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("行の一括投入テスト")
+    class RowIngestTests {
+
+        @Test
+        @DisplayName("カラム値の配列を指定したカラムへ投入する")
+        void testIngestRows() throws Exception {
+            List<Object[]> rows = Arrays.asList(
+                new Object[] { "x", 1 },
+                new Object[] { "y", null });
+
+            long count = jdbcFlow.ingestRows("ingest_items", List.of("name", "qty"), rows.iterator());
+
+            assertThat(count).isEqualTo(2L);
+            assertThat(queryLong("SELECT COUNT(*) FROM ingest_items WHERE qty IS NULL")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("H2ではJDBCバッチのエンジンが選択される")
+        void testResolveFallback() throws Exception {
+            try (Connection conn = dataSource.getConnection()) {
+                assertThat(BulkIngestEngineResolver.resolve(conn)).isInstanceOf(BatchInsertIngestEngine.class);
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @FluidTable(name = "ingest_items")
+    public static class IngestItem {
+        @FluidColumn(name = "id", primaryKey = true)
+        private Long id;
+
+        @FluidColumn(name = "name")
+        private String name;
+
+        @FluidColumn(name = "qty")
+        private Integer qty;
+    }
+}
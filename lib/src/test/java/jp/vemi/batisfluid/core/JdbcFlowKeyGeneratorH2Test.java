@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.keygen.HiLoKeyGenerator;
+import jp.vemi.batisfluid.keygen.SequenceHiValueSource;
+import jp.vemi.batisfluid.keygen.TableHiValueSource;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.exception.SBIllegalStateException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow#registerKeyGenerator} によるキー生成のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowKeyGeneratorH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_keygen;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS keyed_items");
+            stmt.execute("DROP TABLE IF EXISTS key_blocks");
+            stmt.execute("DROP SEQUENCE IF EXISTS keyed_items_hi");
+            stmt.execute("""
+                CREATE TABLE keyed_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100)
+                )
+            """);
+            stmt.execute("CREATE TABLE key_blocks (key_name VARCHAR(100) PRIMARY KEY, next_hi BIGINT NOT NULL)");
+            stmt.execute("INSERT INTO key_blocks VALUES ('keyed_items', 0)");
+            stmt.execute("CREATE SEQUENCE keyed_items_hi START WITH 1 INCREMENT BY 1");
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static List<KeyedItem> items(int count) {
+        List<KeyedItem> items = new java.util.ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new KeyedItem(null, "item" + i));
+        }
+        return items;
+    }
+
+    @Nested
+    @DisplayName("シーケンスを使用したキー生成テスト")
+    class SequenceTests {
+
+        @Test
+        @DisplayName("バッチ登録の前に主キーが設定され、シーケンスはブロックごとに1回だけ進む")
+        void testBatchInsertWithSequence() throws Exception {
+            jdbcFlow.registerKeyGenerator("keyed_items",
+                new HiLoKeyGenerator(new SequenceHiValueSource(jdbcFlow, "keyed_items_hi"), 50));
+            List<KeyedItem> items = items(120);
+
+            jdbcFlow.batchInsert(items);
+
+            assertThat(items).allMatch(item -> item.getId() != null);
+            assertThat(items.get(0).getId()).isEqualTo(50L);
+            assertThat(queryLong("SELECT COUNT(DISTINCT id) FROM keyed_items")).isEqualTo(120L);
+            assertThat(queryLong("SELECT NEXT VALUE FOR keyed_items_hi")).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("主キーが設定済みの場合はキーを生成しない")
+        void testExplicitKeyIsKept() throws Exception {
+            jdbcFlow.registerKeyGenerator("keyed_items",
+                new HiLoKeyGenerator(new SequenceHiValueSource(jdbcFlow, "keyed_items_hi"), 50));
+
+            KeyedItem item = jdbcFlow.insert(new KeyedItem(7L, "explicit"));
+
+            assertThat(item.getId()).isEqualTo(7L);
+            assertThat(queryLong("SELECT NEXT VALUE FOR keyed_items_hi")).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("キー管理テーブルを使用したキー生成テスト")
+    class TableTests {
+
+        @Test
+        @DisplayName("キー管理テーブルの上位値からキーが払い出される")
+        void testInsertWithKeyTable() throws Exception {
+            jdbcFlow.registerKeyGenerator("keyed_items",
+                new HiLoKeyGenerator(new TableHiValueSource(jdbcFlow, "key_blocks", "keyed_items"), 10));
+            List<KeyedItem> items = items(25);
+
+            jdbcFlow.bulkInsert(items);
+            KeyedItem single = jdbcFlow.insert(new KeyedItem(null, "single"));
+
+            assertThat(single.getId()).isEqualTo(35L);
+            assertThat(queryLong("SELECT COUNT(*) FROM keyed_items")).isEqualTo(26L);
+            assertThat(queryLong("SELECT next_hi FROM key_blocks WHERE key_name = 'keyed_items'")).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    @DisplayName("キー生成器が登録されていない場合は例外をスローする")
+    void testUnregisteredGenerator() {
+        assertThatThrownBy(() -> jdbcFlow.insert(new KeyedItem(null, "missing")))
+            .hasRootCauseInstanceOf(SBIllegalStateException.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "keyed_items")
+    public static class KeyedItem {
+        @SBColumnMeta(name = "id", primaryKey = true, keyGenerator = "keyed_items")
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.BatisFluid;
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+import jp.vemi.batisfluid.routing.ReplicaSelectionStrategy;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 2つのH2データベースをプライマリとレプリカとして使用した、読み取り専用の処理の振り分けのテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowReadReplicaH2Test {
+
+    private DataSource primary;
+    private DataSource replica;
+    private BatisFluid batisFluid;
+    private JdbcFlow jdbcFlow;
+    private SqlRunner sqlRunner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = createDatabase("routing_primary", "primary");
+        replica = createDatabase("routing_replica", "replica");
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), primary));
+            batisFluid = BatisFluid.of(sqlSessionFactory)
+                .withReadReplicas(ReplicaSelectionStrategy.ROUND_ROBIN, replica);
+            jdbcFlow = batisFluid.jdbcFlow();
+            sqlRunner = batisFluid.sqlRunner();
+        }
+    }
+
+    /**
+     * テーブルを作成し、どちらのデータベースかを識別する行を1件登録します。
+     */
+    private static DataSource createDatabase(String name, String marker) throws Exception {
+        DataSource dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:" + name + ";DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS routing_items");
+            stmt.execute("""
+                CREATE TABLE routing_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100)
+                )
+            """);
+            stmt.execute("INSERT INTO routing_items VALUES (1, '" + marker + "')");
+        }
+        return dataSource;
+    }
+
+    private static long queryLong(DataSource dataSource, String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static List<String> names(List<RoutingItem> items) {
+        return items.stream().map(RoutingItem::getName).toList();
+    }
+
+    @Test
+    @DisplayName("トランザクション外の検索はレプリカで実行される")
+    void testSelectOutsideTransactionUsesReplica() {
+        assertThat(names(jdbcFlow.select(RoutingItem.class).getResultList())).containsExactly("replica");
+        assertThat(names(jdbcFlow.from(RoutingItem.class).getResultList())).containsExactly("replica");
+        assertThat(sqlRunner.selectOneString("SELECT name FROM routing_items", new HashMap<>()))
+            .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("書き込みはプライマリで実行される")
+    void testWriteUsesPrimary() throws Exception {
+        jdbcFlow.insert(new RoutingItem(2L, "written"));
+
+        assertThat(queryLong(primary, "SELECT COUNT(*) FROM routing_items")).isEqualTo(2L);
+        assertThat(queryLong(replica, "SELECT COUNT(*) FROM routing_items")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("書き込みのトランザクション内の検索は、書き込んだデータを参照できる")
+    void testReadYourWritesInTransaction() {
+        List<String> found = jdbcFlow.transaction(() -> {
+            jdbcFlow.insert(new RoutingItem(2L, "written"));
+            return names(jdbcFlow.select(RoutingItem.class).orderBy("id").getResultList());
+        });
+
+        assertThat(found).containsExactly("primary", "written");
+    }
+
+    @Test
+    @DisplayName("読み取り専用のトランザクションはレプリカで実行される")
+    void testReadOnlyTransactionUsesReplica() {
+        List<String> found = jdbcFlow.readOnlyTransaction(() -> {
+            List<String> first = names(jdbcFlow.select(RoutingItem.class).getResultList());
+            assertThat(jdbcFlow.select(RoutingItem.class).count()).isEqualTo(1L);
+            return first;
+        });
+
+        assertThat(found).containsExactly("replica");
+    }
+
+    @Test
+    @DisplayName("書き込みのトランザクション内の読み取り専用のトランザクションはプライマリを使用する")
+    void testReadOnlyTransactionJoinsWriteTransaction() {
+        List<String> found = jdbcFlow.transaction(() -> {
+            jdbcFlow.insert(new RoutingItem(2L, "written"));
+            return jdbcFlow.readOnlyTransaction(
+                () -> names(jdbcFlow.select(RoutingItem.class).orderBy("id").getResultList()));
+        });
+
+        assertThat(found).containsExactly("primary", "written");
+    }
+
+    @Test
+    @DisplayName("jdbcFlow() の後にレプリカを設定すると例外をスローする")
+    void testWithReadReplicasAfterJdbcFlow() {
+        assertThatThrownBy(() -> batisFluid.withReadReplicas(ReplicaSelectionStrategy.LEAST_LOADED, replica))
+            .isInstanceOf(FluidIllegalStateException.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "routing_items")
+    public static class RoutingItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
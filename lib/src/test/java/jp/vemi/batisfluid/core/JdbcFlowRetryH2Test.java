@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.transaction.PropagationType;
+import jp.vemi.batisfluid.transaction.RetryPolicy;
+import jp.vemi.batisfluid.transaction.TransactionMetrics;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link RetryPolicy} によるトランザクションの再実行のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowRetryH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+    private RetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:tx_retry;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS retry_items");
+            stmt.execute("""
+                CREATE TABLE retry_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100)
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+        retryPolicy = jdbcFlow.retryPolicy().withBackoff(Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("デッドロックで失敗したトランザクションは、ロールバックしてから処理全体を再実行する")
+    void testRetryAfterDeadlock() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = jdbcFlow.transaction(PropagationType.REQUIRED, retryPolicy, () -> {
+            jdbcFlow.insert(new RetryItem(1L, "attempt" + attempts.incrementAndGet()));
+            if (attempts.get() == 1) {
+                throw new SQLTransactionRollbackException("Deadlock detected", "40001", 40001);
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(2);
+        // 1回目の登録はロールバックされ、主キーが重複しない
+        assertThat(queryLong("SELECT COUNT(*) FROM retry_items")).isEqualTo(1L);
+        TransactionMetrics.Snapshot snapshot = jdbcFlow.getTransactionManager().getMetrics().snapshot();
+        assertThat(snapshot.getRetries()).isEqualTo(1);
+        assertThat(snapshot.getRollbackReasons())
+            .containsEntry(SQLTransactionRollbackException.class.getName(), 1L);
+    }
+
+    @Test
+    @DisplayName("一意制約違反などの失敗は再実行しない")
+    void testNoRetryForConstraintViolation() throws Exception {
+        jdbcFlow.insert(new RetryItem(1L, "existing"));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> jdbcFlow.transaction(PropagationType.REQUIRED, retryPolicy, () -> {
+            attempts.incrementAndGet();
+            jdbcFlow.insert(new RetryItem(2L, "new"));
+            jdbcFlow.insert(new RetryItem(1L, "duplicate"));
+            return null;
+        })).hasRootCauseInstanceOf(SQLException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(queryLong("SELECT COUNT(*) FROM retry_items")).isEqualTo(1L);
+        assertThat(jdbcFlow.getTransactionManager().getMetrics().snapshot().getRetries()).isZero();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "retry_items")
+    public static class RetryItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
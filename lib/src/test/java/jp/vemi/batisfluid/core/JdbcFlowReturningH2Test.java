@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow} の登録・更新後の値の返却のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowReturningH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_returning;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS identity_items");
+            stmt.execute("""
+                CREATE TABLE identity_items (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    name VARCHAR(100),
+                    qty INT
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("INSERT後の返却テスト")
+    class InsertTests {
+
+        @Test
+        @DisplayName("自動採番された主キーが引数のエンティティに設定される")
+        void testInsertGeneratedKeys() throws Exception {
+            IdentityItem first = new IdentityItem(null, "first", 1);
+            IdentityItem second = new IdentityItem(null, "second", 2);
+
+            IdentityItem result = jdbcFlow.insert(first);
+            jdbcFlow.insert(second);
+
+            assertThat(result).isSameAs(first);
+            assertThat(first.getId()).isNotNull();
+            assertThat(second.getId()).isEqualTo(first.getId() + 1);
+            assertThat(queryLong("SELECT qty FROM identity_items WHERE id = " + second.getId())).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("主キーを指定した場合はその値で登録される")
+        void testInsertWithExplicitKey() throws Exception {
+            IdentityItem item = new IdentityItem(100L, "explicit", 1);
+
+            IdentityItem result = jdbcFlow.insert(item);
+
+            assertThat(result.getId()).isEqualTo(100L);
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_items WHERE id = 100")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("RELOADを指定した場合は再検索した行を返す")
+        void testInsertReload() {
+            IdentityItem item = new IdentityItem(200L, "reload", 5);
+
+            IdentityItem result = jdbcFlow.insert(item, ReturningMode.RELOAD);
+
+            assertThat(result).isNotSameAs(item);
+            assertThat(result.getName()).isEqualTo("reload");
+            assertThat(result.getQty()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("RETURNINGを指定した場合は登録した行を同じ文で取得する")
+        void testInsertReturning() {
+            IdentityItem item = new IdentityItem(null, "returning", 3);
+
+            IdentityItem result = jdbcFlow.insert(item, ReturningMode.RETURNING);
+
+            assertThat(result).isNotSameAs(item);
+            assertThat(result.getId()).isNotNull();
+            assertThat(result.getQty()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("NONEを指定した場合は主キーを取得しない")
+        void testInsertNone() throws Exception {
+            IdentityItem item = new IdentityItem(null, "none", 1);
+
+            IdentityItem result = jdbcFlow.insert(item, ReturningMode.NONE);
+
+            assertThat(result.getId()).isNull();
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_items WHERE name = 'none'")).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("UPDATE後の返却テスト")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("RETURNINGでは更新後の行を同じ文で取得する")
+        void testUpdateReturning() throws Exception {
+            IdentityItem item = jdbcFlow.insert(new IdentityItem(null, "before", 1));
+            item.setName("after");
+
+            IdentityItem result = jdbcFlow.update(item);
+
+            assertThat(result).isNotSameAs(item);
+            assertThat(result.getId()).isEqualTo(item.getId());
+            assertThat(result.getName()).isEqualTo("after");
+        }
+
+        @Test
+        @DisplayName("RETURNINGで対象行が存在しない場合は例外をスローする")
+        void testUpdateReturningMissing() {
+            IdentityItem item = new IdentityItem(-1L, "missing", 1);
+
+            assertThatThrownBy(() -> jdbcFlow.update(item))
+                .hasRootCauseInstanceOf(SBOptimisticLockException.class);
+        }
+
+        @Test
+        @DisplayName("NONEを指定した場合は引数のエンティティを返す")
+        void testUpdateNone() throws Exception {
+            IdentityItem item = jdbcFlow.insert(new IdentityItem(null, "before", 1));
+            item.setName("after");
+
+            IdentityItem result = jdbcFlow.update(item, ReturningMode.NONE);
+
+            assertThat(result).isSameAs(item);
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_items WHERE name = 'after'")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("RELOADを指定した場合は再検索した行を返す")
+        void testUpdateReload() {
+            IdentityItem item = jdbcFlow.insert(new IdentityItem(null, "before", 1));
+            item.setQty(7);
+
+            IdentityItem result = jdbcFlow.update(item, ReturningMode.RELOAD);
+
+            assertThat(result).isNotSameAs(item);
+            assertThat(result.getQty()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("GENERATED_KEYSを指定した場合は例外をスローする")
+        void testUpdateGeneratedKeysRejected() throws Exception {
+            IdentityItem item = jdbcFlow.insert(new IdentityItem(null, "before", 1));
+            item.setName("after");
+
+            assertThatThrownBy(() -> jdbcFlow.update(item, ReturningMode.GENERATED_KEYS))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_items WHERE name = 'after'")).isEqualTo(0L);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "identity_items")
+    public static class IdentityItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "qty")
+        private Integer qty;
+    }
+}
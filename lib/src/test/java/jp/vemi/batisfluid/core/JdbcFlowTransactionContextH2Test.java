@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.exception.TransactionException;
+import jp.vemi.batisfluid.transaction.TransactionContext;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link TransactionContext#capture()} のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowTransactionContextH2Test {
+
+    private static final int SUBTASKS = 4;
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:tx_context;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS context_items");
+            stmt.execute("""
+                CREATE TABLE context_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100)
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * 取り込んだコンテキストで、仮想スレッドから件数の取得と1件の登録を行います。
+     */
+    private List<Integer> forkSubtasks(TransactionContext.Snapshot context) throws Exception {
+        List<Integer> counts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < SUBTASKS; i++) {
+                long id = 100 + i;
+                futures.add(executor.submit(context.wrap(() -> {
+                    int count = jdbcFlow.from(ContextItem.class).getResultList().size();
+                    jdbcFlow.insert(new ContextItem(id, "child" + id));
+                    return count;
+                })));
+            }
+            for (Future<Integer> future : futures) {
+                counts.add(future.get());
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    @DisplayName("別のスレッドの処理が、未コミットのデータを参照でき、同じトランザクションでコミットされる")
+    void testSubtasksJoinTransaction() throws Exception {
+        List<Integer> counts = jdbcFlow.transaction(() -> {
+            jdbcFlow.insert(new ContextItem(1L, "parent1"));
+            jdbcFlow.insert(new ContextItem(2L, "parent2"));
+            TransactionContext.Snapshot context = TransactionContext.capture();
+            assertThat(context.isActive()).isTrue();
+            return forkSubtasks(context);
+        });
+
+        // 未コミットの親の2件が、すべての子から見えていること
+        assertThat(counts).allMatch(count -> count >= 2);
+        assertThat(queryLong("SELECT COUNT(*) FROM context_items")).isEqualTo(2L + SUBTASKS);
+    }
+
+    @Test
+    @DisplayName("トランザクションがロールバックされると、別のスレッドで登録したデータも取り消される")
+    void testSubtasksRollBackWithTransaction() throws Exception {
+        assertThatThrownBy(() -> jdbcFlow.transaction(() -> {
+            jdbcFlow.insert(new ContextItem(1L, "parent"));
+            forkSubtasks(TransactionContext.capture());
+            throw new IllegalStateException("rollback");
+        })).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(queryLong("SELECT COUNT(*) FROM context_items")).isZero();
+    }
+
+    @Test
+    @DisplayName("トランザクション外で取り込んだコンテキストは、トランザクションを持たない")
+    void testCaptureOutsideTransaction() throws Exception {
+        TransactionContext.Snapshot context = TransactionContext.capture();
+
+        assertThat(context.isActive()).isFalse();
+        context.run(() -> jdbcFlow.insert(new ContextItem(1L, "auto")));
+        assertThat(queryLong("SELECT COUNT(*) FROM context_items")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("終了したトランザクションのコンテキストでは処理を実行できない")
+    void testCaptureAfterTransactionEnded() {
+        TransactionContext.Snapshot context = jdbcFlow.transaction(TransactionContext::capture);
+
+        assertThat(context.isActive()).isFalse();
+        assertThatThrownBy(() -> context.run(() -> jdbcFlow.insert(new ContextItem(1L, "late"))))
+            .isInstanceOf(TransactionException.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "context_items")
+    public static class ContextItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
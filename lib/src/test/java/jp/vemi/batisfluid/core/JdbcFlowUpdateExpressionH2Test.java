@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.meta.FluidColumn;
+import jp.vemi.batisfluid.meta.FluidTable;
+import lombok.Data;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow#update(Class)} のSQL式による更新のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowUpdateExpressionH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_update_expression;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS counters");
+            stmt.execute("""
+                CREATE TABLE counters (
+                    id BIGINT PRIMARY KEY,
+                    hits BIGINT,
+                    price DECIMAL(10, 2),
+                    updated_at TIMESTAMP
+                )
+            """);
+            stmt.execute("INSERT INTO counters (id, hits, price) VALUES (1, 0, 100.00), (2, 0, 100.00)");
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private String queryString(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    @Test
+    @DisplayName("increment() は現在値に加算し、条件に一致する行のみを更新する")
+    void testIncrement() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            int count = jdbcFlow.update(Counter.class)
+                .increment("hits", 2)
+                .where(w -> w.eq("id", 1L))
+                .execute();
+            assertThat(count).isEqualTo(1);
+        }
+
+        assertThat(queryString("SELECT hits FROM counters WHERE id = 1")).isEqualTo("6");
+        assertThat(queryString("SELECT hits FROM counters WHERE id = 2")).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("setExpression() と setNow() はデータベース上の式で更新する")
+    void testExpressionAndNow() throws Exception {
+        int count = jdbcFlow.update(Counter.class)
+            .setExpression("price", "price * ?", new java.math.BigDecimal("1.10"))
+            .setNow("updated_at")
+            .where(w -> w.eq("id", 2L))
+            .execute();
+
+        assertThat(count).isEqualTo(1);
+        assertThat(queryString("SELECT price FROM counters WHERE id = 2")).isEqualTo("110.00");
+        assertThat(queryString("SELECT COUNT(*) FROM counters WHERE updated_at IS NOT NULL")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("関数の引数の末尾にあるプレースホルダにも値をバインドする")
+    void testExpressionPlaceholderInFunction() throws Exception {
+        int count = jdbcFlow.update(Counter.class)
+            .setExpression("hits", "GREATEST(hits - ?, ?)", 5, 1)
+            .where(w -> w.eq("id", 1L))
+            .execute();
+
+        assertThat(count).isEqualTo(1);
+        assertThat(queryString("SELECT hits FROM counters WHERE id = 1")).isEqualTo("1");
+    }
+
+    @Data
+    @FluidTable(name = "counters")
+    public static class Counter {
+        @FluidColumn(name = "id", primaryKey = true)
+        private Long id;
+
+        @FluidColumn(name = "hits")
+        private Long hits;
+    }
+}
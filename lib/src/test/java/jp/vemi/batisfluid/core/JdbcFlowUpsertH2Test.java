@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.config.OptimisticLockConfig;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import jp.vemi.seasarbatis.exception.SBOptimisticLockException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link JdbcFlow} のINSERT or UPDATEのテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class JdbcFlowUpsertH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:jdbcflow_upsert;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS upsert_items");
+            stmt.execute("CREATE TABLE upsert_items (id BIGINT PRIMARY KEY, name VARCHAR(100), qty INT)");
+            stmt.execute("DROP TABLE IF EXISTS identity_upsert_items");
+            stmt.execute("CREATE TABLE identity_upsert_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(100))");
+            stmt.execute("DROP TABLE IF EXISTS versioned_items");
+            stmt.execute("CREATE TABLE versioned_items (id BIGINT PRIMARY KEY, name VARCHAR(100), version BIGINT)");
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory,
+                new OptimisticLockConfig().setDefaultLockType(OptimisticLockConfig.LockType.VERSION));
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("UPSERTテスト")
+    class UpsertTests {
+
+        @Test
+        @DisplayName("存在しない行は登録し、存在する行は更新する")
+        void testInsertOrUpdate() throws Exception {
+            UpsertItem item = new UpsertItem(1L, "first", 1);
+
+            UpsertItem inserted = jdbcFlow.insertOrUpdate(item);
+            item.setQty(5);
+            UpsertItem updated = jdbcFlow.insertOrUpdate(item);
+
+            assertThat(inserted).isSameAs(item);
+            assertThat(updated).isSameAs(item);
+            assertThat(queryLong("SELECT COUNT(*) FROM upsert_items")).isEqualTo(1L);
+            assertThat(queryLong("SELECT qty FROM upsert_items WHERE id = 1")).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("一括で登録と更新が混在する場合も1件ずつ反映される")
+        void testBatchInsertOrUpdate() throws Exception {
+            jdbcFlow.insertOrUpdate(new UpsertItem(1L, "existing", 1));
+
+            List<UpsertItem> results = jdbcFlow.batchInsertOrUpdate(List.of(
+                new UpsertItem(1L, "updated", 10),
+                new UpsertItem(2L, "new", 20),
+                new UpsertItem(3L, "new", 30)));
+
+            assertThat(results).hasSize(3);
+            assertThat(queryLong("SELECT COUNT(*) FROM upsert_items")).isEqualTo(3L);
+            assertThat(queryLong("SELECT SUM(qty) FROM upsert_items")).isEqualTo(60L);
+        }
+
+        @Test
+        @DisplayName("主キーが未設定のエンティティが先頭にあっても、残りは一括で処理され入力順に返される")
+        void testBatchInsertOrUpdateWithNullKeyFirst() throws Exception {
+            jdbcFlow.insertOrUpdate(new IdentityUpsertItem(100L, "existing"));
+            IdentityUpsertItem generated = new IdentityUpsertItem(null, "generated");
+            IdentityUpsertItem updated = new IdentityUpsertItem(100L, "updated");
+            IdentityUpsertItem inserted = new IdentityUpsertItem(101L, "inserted");
+
+            List<IdentityUpsertItem> results = jdbcFlow.batchInsertOrUpdate(List.of(generated, updated, inserted));
+
+            assertThat(results).containsExactly(generated, updated, inserted);
+            assertThat(generated.getId()).isNotNull();
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_upsert_items")).isEqualTo(3L);
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_upsert_items WHERE id = 100 AND name = 'updated'"))
+                .isEqualTo(1L);
+            assertThat(queryLong("SELECT COUNT(*) FROM identity_upsert_items WHERE id = 101 AND name = 'inserted'"))
+                .isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("楽観的排他制御ありのテスト")
+    class OptimisticLockTests {
+
+        @Test
+        @DisplayName("バージョンが一致する場合は更新し、バージョンを進める")
+        void testInsertOrUpdateWithVersion() throws Exception {
+            VersionedItem item = jdbcFlow.insert(new VersionedItem(1L, "before", 1L));
+            item.setName("after");
+
+            jdbcFlow.insertOrUpdate(item);
+
+            assertThat(item.getVersion()).isEqualTo(2L);
+            assertThat(queryLong("SELECT version FROM versioned_items WHERE id = 1")).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("バージョンが一致しない場合は例外をスローする")
+        void testInsertOrUpdateVersionConflict() {
+            jdbcFlow.insert(new VersionedItem(1L, "current", 3L));
+            VersionedItem stale = new VersionedItem(1L, "stale", 1L);
+
+            assertThatThrownBy(() -> jdbcFlow.insertOrUpdate(stale))
+                .hasRootCauseInstanceOf(SBOptimisticLockException.class);
+            assertThat(stale.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("存在しない行はバージョンを進めて登録する")
+        void testInsertOrUpdateNewRowWithVersion() throws Exception {
+            VersionedItem item = new VersionedItem(1L, "new", 1L);
+
+            jdbcFlow.insertOrUpdate(item);
+
+            assertThat(item.getVersion()).isEqualTo(2L);
+            assertThat(queryLong("SELECT version FROM versioned_items WHERE id = 1")).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("一括処理でバージョンが一致する場合は更新し、バージョンを進める")
+        void testBatchInsertOrUpdateWithVersion() throws Exception {
+            VersionedItem existing = jdbcFlow.insert(new VersionedItem(1L, "before", 1L));
+            existing.setName("after");
+            VersionedItem added = new VersionedItem(2L, "new", 1L);
+
+            jdbcFlow.batchInsertOrUpdate(List.of(existing, added));
+
+            assertThat(existing.getVersion()).isEqualTo(2L);
+            assertThat(added.getVersion()).isEqualTo(2L);
+            assertThat(queryLong("SELECT version FROM versioned_items WHERE id = 1")).isEqualTo(2L);
+            assertThat(queryLong("SELECT COUNT(*) FROM versioned_items WHERE name IN ('after', 'new')")).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("一括処理でバージョンが一致しない場合は例外をスローし、バージョンを戻す")
+        void testBatchInsertOrUpdateVersionConflict() throws Exception {
+            jdbcFlow.insert(new VersionedItem(1L, "current", 3L));
+            VersionedItem added = new VersionedItem(2L, "new", 1L);
+            VersionedItem stale = new VersionedItem(1L, "stale", 1L);
+
+            assertThatThrownBy(() -> jdbcFlow.batchInsertOrUpdate(List.of(added, stale)))
+                .hasRootCauseInstanceOf(SBOptimisticLockException.class);
+            assertThat(added.getVersion()).isEqualTo(1L);
+            assertThat(stale.getVersion()).isEqualTo(1L);
+            assertThat(queryLong("SELECT COUNT(*) FROM versioned_items")).isEqualTo(1L);
+            assertThat(queryLong("SELECT version FROM versioned_items WHERE id = 1")).isEqualTo(3L);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "upsert_items")
+    public static class UpsertItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "qty")
+        private Integer qty;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "identity_upsert_items")
+    public static class IdentityUpsertItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "versioned_items")
+    public static class VersionedItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+
+        @SBColumnMeta(name = "version", versionColumn = true)
+        private Long version;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jp.vemi.batisfluid.exception.FluidException;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link ParallelBatchWriter} のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class ParallelBatchWriterH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:parallel_writer;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS parallel_items");
+            stmt.execute("""
+                CREATE TABLE parallel_items (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(100)
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void insertExisting(long id) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO parallel_items (id, name) VALUES (" + id + ", 'existing')");
+        }
+    }
+
+    private static List<ParallelItem> items(int count) {
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new ParallelItem(id, "item" + id))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("ストリームの全件が複数のパーティションで書き込まれる")
+    void testWriteStream() throws Exception {
+        ParallelBatchWriter<ParallelItem> writer = jdbcFlow.parallelWriter(
+            4, 100, PartitionStrategy.ROUND_ROBIN, ParallelWriteMode.BEST_EFFORT);
+
+        ParallelWriteResult<ParallelItem> result = writer.write(items(2000).stream());
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getWrittenCount()).isEqualTo(2000L);
+        assertThat(queryLong("SELECT COUNT(*) FROM parallel_items WHERE name LIKE 'item%'")).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING_PER_PARTITION では失敗したパーティションのみがロールバックされる")
+    void testAllOrNothingPerPartition() throws Exception {
+        insertExisting(7L);
+        ParallelBatchWriter<ParallelItem> writer = jdbcFlow.parallelWriter(
+            4, 10, PartitionStrategy.PRIMARY_KEY_HASH, ParallelWriteMode.ALL_OR_NOTHING_PER_PARTITION);
+
+        ParallelWriteResult<ParallelItem> result = writer.write(items(200));
+
+        assertThat(result.getFailedPartitions()).hasSize(1);
+        assertThat(result.getFailures()).anyMatch(failure -> failure.getEntity().getId() == 7L);
+        assertThat(result.getWrittenCount() + result.getFailures().size()).isEqualTo(200L);
+        assertThat(result.getWrittenCount()).isGreaterThan(0L);
+        assertThat(queryLong("SELECT COUNT(*) FROM parallel_items WHERE name LIKE 'item%'"))
+            .isEqualTo(result.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("BEST_EFFORT では書き込めなかったエンティティのみが失敗として返される")
+    void testBestEffort() throws Exception {
+        insertExisting(7L);
+        ParallelBatchWriter<ParallelItem> writer = jdbcFlow.parallelWriter(
+            3, 10, PartitionStrategy.ROUND_ROBIN, ParallelWriteMode.BEST_EFFORT);
+
+        ParallelWriteResult<ParallelItem> result = writer.write(items(100));
+
+        assertThat(result.getFailures()).hasSize(1);
+        assertThat(result.getFailures().get(0).getEntity().getId()).isEqualTo(7L);
+        assertThat(result.getWrittenCount()).isEqualTo(99L);
+        assertThat(queryLong("SELECT COUNT(*) FROM parallel_items")).isEqualTo(100L);
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("パーティションが途中で終了した場合は入力の読み込みを中止して失敗を返す")
+    void testWorkerTerminatedEarly() throws Exception {
+        DataSource failing = spy(dataSource);
+        JdbcFlow failingFlow;
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), failing));
+            failingFlow = new JdbcFlow(sqlSessionFactory);
+        }
+        // 構築後の接続のみを失敗させ、各パーティションを例外で終了させる
+        doThrow(new AssertionError("接続できません")).when(failing).getConnection();
+        ParallelBatchWriter<ParallelItem> writer = failingFlow.parallelWriter(
+            2, 10, PartitionStrategy.ROUND_ROBIN, ParallelWriteMode.BEST_EFFORT);
+
+        assertThatThrownBy(() -> writer.write(items(1000)))
+            .isInstanceOf(FluidException.class)
+            .hasRootCauseInstanceOf(AssertionError.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "parallel_items")
+    public static class ParallelItem {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "name")
+        private String name;
+    }
+}
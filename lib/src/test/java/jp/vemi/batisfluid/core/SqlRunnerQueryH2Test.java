@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jp.vemi.batisfluid.core.ColumnarResult.ColumnType;
+import jp.vemi.batisfluid.exception.NoResultException;
+import jp.vemi.batisfluid.exception.NonUniqueResultException;
+
+/**
+ * H2データベースを使用した {@link SqlRunner} の ResultSet 直接読み取り系APIのテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class SqlRunnerQueryH2Test {
+
+    private SqlRunner sqlRunner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:sqlrunner_query;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS scalar_items");
+            stmt.execute("""
+                CREATE TABLE scalar_items (
+                    id BIGINT PRIMARY KEY,
+                    qty INT,
+                    price DOUBLE,
+                    name VARCHAR(100),
+                    category VARCHAR(20),
+                    active BOOLEAN,
+                    created_at TIMESTAMP
+                )
+            """);
+            for (int i = 1; i <= 100; i++) {
+                stmt.execute("INSERT INTO scalar_items VALUES (" + i + ", " + (i % 10 == 0 ? "NULL" : i % 10)
+                    + ", " + (i * 1.5) + ", 'item" + i + "', '" + (i % 2 == 0 ? "EVEN" : "ODD") + "', "
+                    + (i % 3 == 0) + ", TIMESTAMP '2025-01-01 00:00:00')");
+            }
+            stmt.execute("DROP TABLE IF EXISTS lob_documents");
+            stmt.execute("CREATE TABLE lob_documents (id BIGINT PRIMARY KEY, content BLOB, body CLOB)");
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            sqlRunner = new SqlRunner(sqlSessionFactory);
+        }
+    }
+
+    @Nested
+    @DisplayName("プリミティブ配列検索テスト")
+    class PrimitiveArrayTests {
+
+        @Test
+        @DisplayName("selectLongs()で初期容量を超える件数を取得できる")
+        void testSelectLongs() {
+            long[] ids = sqlRunner.selectLongs("SELECT id FROM scalar_items ORDER BY id", Collections.emptyMap());
+
+            assertThat(ids).hasSize(100);
+            assertThat(ids[0]).isEqualTo(1L);
+            assertThat(ids[99]).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("selectInts()でパラメータ付きの検索ができる")
+        void testSelectInts() {
+            int[] qty = sqlRunner.selectInts(
+                "SELECT qty FROM scalar_items WHERE id <= /*maxId*/0 ORDER BY id", Map.of("maxId", 3));
+
+            assertThat(qty).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("selectDoubles()で0件の場合は空配列を返す")
+        void testSelectDoublesEmpty() {
+            double[] prices = sqlRunner.selectDoubles(
+                "SELECT price FROM scalar_items WHERE id > /*minId*/0", Map.of("minId", 1000));
+
+            assertThat(prices).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("単一値検索テスト")
+    class SingleValueTests {
+
+        @Test
+        @DisplayName("selectOneLong()で集計値を取得できる")
+        void testSelectOneLong() {
+            long count = sqlRunner.selectOneLong("SELECT COUNT(*) FROM scalar_items", Collections.emptyMap());
+
+            assertThat(count).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("selectOneString()で文字列を取得できる")
+        void testSelectOneString() {
+            String name = sqlRunner.selectOneString(
+                "SELECT name FROM scalar_items WHERE id = /*id*/0", Map.of("id", 42));
+
+            assertThat(name).isEqualTo("item42");
+        }
+
+        @Test
+        @DisplayName("結果が0件の場合はNoResultExceptionをスローする")
+        void testSelectOneLongNoResult() {
+            assertThatThrownBy(() -> sqlRunner.selectOneLong(
+                "SELECT id FROM scalar_items WHERE id = /*id*/0", Map.of("id", -1)))
+                .isInstanceOf(NoResultException.class);
+        }
+
+        @Test
+        @DisplayName("結果が複数件の場合はNonUniqueResultExceptionをスローする")
+        void testSelectOneStringNonUnique() {
+            assertThatThrownBy(() -> sqlRunner.selectOneString("SELECT name FROM scalar_items", Collections.emptyMap()))
+                .isInstanceOf(NonUniqueResultException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("列形式検索テスト")
+    class ColumnarTests {
+
+        @Test
+        @DisplayName("selectColumnar()で列ごとの配列として取得できる")
+        void testSelectColumnar() {
+            ColumnarResult result = sqlRunner.selectColumnar(
+                "SELECT id, qty, price, category, active, created_at FROM scalar_items ORDER BY id",
+                Collections.emptyMap());
+
+            assertThat(result.getRowCount()).isEqualTo(100);
+            assertThat(result.getColumnCount()).isEqualTo(6);
+            assertThat(result.getColumnType("id")).isEqualTo(ColumnType.LONG);
+            assertThat(result.getColumnType("price")).isEqualTo(ColumnType.DOUBLE);
+            assertThat(result.getColumnType("category")).isEqualTo(ColumnType.STRING);
+            assertThat(result.getColumnType("active")).isEqualTo(ColumnType.BOOLEAN);
+            assertThat(result.getColumnType("created_at")).isEqualTo(ColumnType.TIMESTAMP);
+
+            assertThat(result.getLongs("id")).hasSize(100).startsWith(1L, 2L, 3L);
+            assertThat(result.getDoubles("price")[1]).isEqualTo(3.0);
+            assertThat(result.getBooleans("active").cardinality()).isEqualTo(33);
+            assertThat(result.getTimestamps("created_at")[0])
+                .isEqualTo(Timestamp.valueOf("2025-01-01 00:00:00").getTime());
+        }
+
+        @Test
+        @DisplayName("NULLはビットマップで判定できる")
+        void testSelectColumnarNulls() {
+            ColumnarResult result = sqlRunner.selectColumnar(
+                "SELECT qty FROM scalar_items ORDER BY id", Collections.emptyMap());
+
+            assertThat(result.getNulls("qty").cardinality()).isEqualTo(10);
+            assertThat(result.isNull("qty", 9)).isTrue();
+            assertThat(result.isNull("qty", 0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("文字列列は重複を排除した辞書で保持される")
+        void testSelectColumnarStrings() {
+            ColumnarResult result = sqlRunner.selectColumnar(
+                "SELECT category FROM scalar_items ORDER BY id", Collections.emptyMap());
+
+            assertThat(result.getDistinctStrings("category")).containsExactly("ODD", "EVEN");
+            String[] categories = result.getStrings("category");
+            assertThat(categories[0]).isEqualTo("ODD");
+            assertThat(categories[0]).isSameAs(categories[2]);
+            assertThat(result.getString("category", 1)).isEqualTo("EVEN");
+        }
+    }
+
+    @Nested
+    @DisplayName("LOBストリームテスト")
+    class LobStreamTests {
+
+        private byte[] largeBinary() {
+            byte[] data = new byte[3 * 1024 * 1024];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (i % 251);
+            }
+            return data;
+        }
+
+        @Test
+        @DisplayName("InputStream/Readerをバインドして登録し、ストリームで読み出せる")
+        void testStreamRoundTrip() {
+            byte[] data = largeBinary();
+            String text = "添付ファイル本文".repeat(10_000);
+            Map<String, Object> params = new HashMap<>();
+            params.put("id", 1);
+            params.put("content", new ByteArrayInputStream(data));
+            params.put("body", new StringReader(text));
+
+            int inserted = sqlRunner.insert(
+                "INSERT INTO lob_documents (id, content, body) VALUES (/*id*/0, /*content*/'', /*body*/'')", params);
+
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            long bytes = sqlRunner.readBinaryStream(
+                "SELECT content FROM lob_documents WHERE id = /*id*/0", Map.of("id", 1), binary);
+            StringWriter chars = new StringWriter();
+            long length = sqlRunner.readCharacterStream(
+                "SELECT body FROM lob_documents WHERE id = /*id*/0", Map.of("id", 1), chars);
+
+            assertThat(inserted).isEqualTo(1);
+            assertThat(bytes).isEqualTo(data.length);
+            assertThat(Arrays.equals(binary.toByteArray(), data)).isTrue();
+            assertThat(length).isEqualTo(text.length());
+            assertThat(chars.toString()).isEqualTo(text);
+        }
+
+        @Test
+        @DisplayName("Pathとbyte[]をバインドして更新できる")
+        void testPathAndBytes(@TempDir Path tempDir) throws Exception {
+            Path file = tempDir.resolve("attachment.bin");
+            byte[] data = largeBinary();
+            Files.write(file, data);
+            sqlRunner.insert("INSERT INTO lob_documents (id, content) VALUES (/*id*/0, /*content*/'')",
+                Map.of("id", 2, "content", new byte[] { 1, 2, 3 }));
+
+            int updated = sqlRunner.update("UPDATE lob_documents SET content = /*content*/'' WHERE id = /*id*/0",
+                Map.of("id", 2, "content", file));
+
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            sqlRunner.readBinaryStream("SELECT content FROM lob_documents WHERE id = /*id*/0", Map.of("id", 2), binary);
+            assertThat(updated).isEqualTo(1);
+            assertThat(Arrays.equals(binary.toByteArray(), data)).isTrue();
+        }
+
+        @Test
+        @DisplayName("値が存在しない場合は-1を返す")
+        void testReadMissing() {
+            long bytes = sqlRunner.readBinaryStream(
+                "SELECT content FROM lob_documents WHERE id = /*id*/0", Map.of("id", -1), new ByteArrayOutputStream());
+
+            assertThat(bytes).isEqualTo(-1L);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
+import jp.vemi.seasarbatis.core.meta.SBColumnMeta;
+import jp.vemi.seasarbatis.core.meta.SBTableMeta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * H2データベースを使用した {@link WriteBehindBuffer} のテストクラス。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class WriteBehindBufferH2Test {
+
+    private DataSource dataSource;
+    private JdbcFlow jdbcFlow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new UnpooledDataSource(
+            "org.h2.Driver",
+            "jdbc:h2:mem:write_behind;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS events");
+            stmt.execute("""
+                CREATE TABLE events (
+                    id BIGINT PRIMARY KEY,
+                    payload VARCHAR(100)
+                )
+            """);
+        }
+
+        try (Reader reader = Resources.getResourceAsReader("mybatis-test-config.xml")) {
+            SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+            sqlSessionFactory.getConfiguration().setEnvironment(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+            jdbcFlow = new JdbcFlow(sqlSessionFactory);
+        }
+    }
+
+    private long queryLong(String sql) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("複数スレッドから登録したエンティティがすべて書き込まれる")
+    void testConcurrentSubmit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Event>> futures = new ArrayList<>();
+        try (WriteBehindBuffer<Event> buffer = jdbcFlow.writeBehind(64, 25, Duration.ofMillis(20))) {
+            List<Future<List<CompletableFuture<Event>>>> submitted = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 250;
+                submitted.add(executor.submit(() -> {
+                    List<CompletableFuture<Event>> results = new ArrayList<>();
+                    for (int i = 0; i < 250; i++) {
+                        results.add(buffer.submit(new Event((long) base + i, "event")));
+                    }
+                    return results;
+                }));
+            }
+            for (Future<List<CompletableFuture<Event>>> future : submitted) {
+                futures.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(futures).hasSize(1000).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(queryLong("SELECT COUNT(*) FROM events")).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("件数に満たない場合も待ち時間の経過後に書き込まれる")
+    void testFlushOnInterval() throws Exception {
+        try (WriteBehindBuffer<Event> buffer = jdbcFlow.writeBehind(100, 50, Duration.ofMillis(20))) {
+            CompletableFuture<Event> future = buffer.submit(new Event(1L, "single"));
+
+            assertThat(future.get(10, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            assertThat(buffer.getWrittenCount()).isEqualTo(1L);
+        }
+        assertThat(queryLong("SELECT COUNT(*) FROM events")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("失敗したバッチは1件ずつ書き込み、失敗したエンティティのみ例外で完了する")
+    void testFailedBatchIsolatesRows() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO events (id, payload) VALUES (2, 'existing')");
+        }
+
+        List<CompletableFuture<Event>> futures = new ArrayList<>();
+        try (WriteBehindBuffer<Event> buffer = jdbcFlow.writeBehind(100, 10, Duration.ofSeconds(10))) {
+            for (long id = 1; id <= 3; id++) {
+                futures.add(buffer.submit(new Event(id, "new")));
+            }
+        }
+
+        assertThat(futures.get(0)).isCompleted();
+        assertThat(futures.get(1)).isCompletedExceptionally();
+        assertThat(futures.get(2)).isCompleted();
+        assertThat(queryLong("SELECT COUNT(*) FROM events WHERE payload = 'new'")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("クローズ時に残りを書き込み、その後の登録は拒否する")
+    void testFlushOnClose() throws Exception {
+        WriteBehindBuffer<Event> buffer = jdbcFlow.writeBehind(100, 50, Duration.ofSeconds(10));
+        for (long id = 1; id <= 5; id++) {
+            buffer.submit(new Event(id, "close"));
+        }
+
+        buffer.close();
+
+        assertThat(queryLong("SELECT COUNT(*) FROM events")).isEqualTo(5L);
+        assertThat(buffer.getPendingCount()).isZero();
+        assertThatThrownBy(() -> buffer.submit(new Event(6L, "late")))
+            .isInstanceOf(FluidIllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("キューが満杯の場合は指定時間で登録を諦める")
+    void testBackpressure() throws Exception {
+        try (WriteBehindBuffer<Event> buffer = jdbcFlow.writeBehind(1, 10, Duration.ofSeconds(10))) {
+            assertThat(buffer.trySubmit(new Event(1L, "first"), 1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(buffer.trySubmit(new Event(2L, "second"), 10, TimeUnit.MILLISECONDS)).isNull();
+        }
+        assertThat(queryLong("SELECT COUNT(*) FROM events")).isEqualTo(1L);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @SBTableMeta(name = "events")
+    public static class Event {
+        @SBColumnMeta(name = "id", primaryKey = true)
+        private Long id;
+
+        @SBColumnMeta(name = "payload")
+        private String payload;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * {@link DirtyTracker} のテストクラスです。
+ * 
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class DirtyTrackerTest {
+
+    private static Map<String, Object> values(Item item) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", item.getId());
+        values.put("name", item.getName());
+        values.put("data", item.getData());
+        return values;
+    }
+
+    @Test
+    @DisplayName("スナップショットから変更されたカラムのみを返すこと")
+    void getChangedColumns_returnsChangedOnly() {
+        DirtyTracker tracker = new DirtyTracker();
+        Item item = new Item(1L, "before", new byte[] { 1, 2 });
+        tracker.snapshot(item, values(item));
+
+        item.setName("after");
+        item.setData(new byte[] { 1, 2 });
+
+        assertThat(tracker.getChangedColumns(item, values(item))).containsExactly("name");
+    }
+
+    @Test
+    @DisplayName("equalsが値に依存するエンティティでも同一インスタンスで識別すること")
+    void getChangedColumns_identifiesByInstance() {
+        DirtyTracker tracker = new DirtyTracker();
+        Item item = new Item(1L, "same", null);
+        Item other = new Item(1L, "same", null);
+        tracker.snapshot(item, values(item));
+
+        assertThat(tracker.isTracked(item)).isTrue();
+        assertThat(tracker.isTracked(other)).isFalse();
+        assertThat(tracker.getChangedColumns(other, values(other))).isNull();
+    }
+
+    @Test
+    @DisplayName("変更がない場合は空のセットを返し、破棄後は追跡しないこと")
+    void forget_removesSnapshot() {
+        DirtyTracker tracker = new DirtyTracker();
+        Item item = new Item(1L, "name", null);
+        tracker.snapshot(item, values(item));
+
+        assertThat(tracker.getChangedColumns(item, values(item))).isEmpty();
+
+        tracker.forget(item);
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Item {
+        private Long id;
+        private String name;
+        private byte[] data;
+    }
+}
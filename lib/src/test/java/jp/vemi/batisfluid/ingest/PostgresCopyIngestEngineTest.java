@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link PostgresCopyIngestEngine} のCSV形式への変換のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class PostgresCopyIngestEngineTest {
+
+    private static String csv(Object... row) {
+        StringBuilder buffer = new StringBuilder();
+        PostgresCopyIngestEngine.appendRow(buffer, row);
+        return buffer.toString();
+    }
+
+    @Test
+    @DisplayName("数値と真偽値は引用符なし、nullは空で出力されること")
+    void appendRow_numbersAndNull() {
+        assertThat(csv(1L, null, true, 1.5)).isEqualTo("1,,true,1.5\n");
+    }
+
+    @Test
+    @DisplayName("文字列は引用符で囲み、引用符を二重にすること")
+    void appendRow_quotesText() {
+        assertThat(csv("a,b", "say \"hi\"", "")).isEqualTo("\"a,b\",\"say \"\"hi\"\"\",\"\"\n");
+    }
+
+    @Test
+    @DisplayName("改行を含む文字列は引用符内にそのまま出力されること")
+    void appendRow_keepsNewline() {
+        assertThat(csv("line1\nline2")).isEqualTo("\"line1\nline2\"\n");
+    }
+
+    @Test
+    @DisplayName("バイト配列はbytea の16進形式で出力されること")
+    void appendRow_bytes() {
+        assertThat(csv((Object) new byte[] { 0x01, (byte) 0xab })).isEqualTo("\\x01ab\n");
+    }
+
+    @Test
+    @DisplayName("java.util.Date はタイムスタンプ形式で出力されること")
+    void appendRow_utilDate() {
+        Timestamp timestamp = Timestamp.valueOf("2025-01-02 03:04:05");
+        assertThat(csv(new java.util.Date(timestamp.getTime()))).isEqualTo("\"2025-01-02 03:04:05.0\"\n");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.keygen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link HiLoKeyGenerator} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class HiLoKeyGeneratorTest {
+
+    @Test
+    @DisplayName("1つの上位値からブロックの件数分のキーを連番で払い出すこと")
+    void nextKey_allocatesBlock() {
+        AtomicLong hi = new AtomicLong();
+        HiLoKeyGenerator generator = new HiLoKeyGenerator(hi::incrementAndGet, 3);
+
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            keys.add(generator.nextKey());
+        }
+
+        assertThat(keys).containsExactly(3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(hi.get()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("複数のスレッドから払い出しても重複せず、問い合わせはブロックごとに1回であること")
+    void nextKey_concurrentUnique() throws Exception {
+        AtomicLong hi = new AtomicLong();
+        HiLoKeyGenerator generator = new HiLoKeyGenerator(hi::incrementAndGet, 100);
+        Set<Long> keys = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        keys.add(generator.nextKey());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(keys).hasSize(80_000);
+        assertThat(hi.get()).isEqualTo(800L);
+    }
+
+    @Test
+    @DisplayName("ブロックの件数が1未満の場合は例外をスローすること")
+    void constructor_withInvalidBlockSize_throwsException() {
+        assertThatThrownBy(() -> new HiLoKeyGenerator(() -> 1L, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
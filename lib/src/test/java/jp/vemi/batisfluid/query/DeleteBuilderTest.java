@@ -4,8 +4,10 @@
 package jp.vemi.batisfluid.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.batisfluid.meta.FluidColumn;
 import jp.vemi.batisfluid.meta.FluidTable;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
@@ -63,6 +66,7 @@ class DeleteBuilderTest {
             assertThat(sql).contains("DELETE FROM test_table");
             assertThat(sql).contains("WHERE");
             assertThat(sql).contains("status = ");
+            assertThat(sql).containsOnlyOnce("WHERE");
         }
         
         @Test
@@ -86,6 +90,21 @@ class DeleteBuilderTest {
             assertThat(sql).contains("DELETE FROM test_table");
             assertThat(sql).contains("IN");
         }
+        
+        @Test
+        @DisplayName("where()で条件を1つも指定しなかった場合は例外をスローすること")
+        void build_withEmptyWhere_throwsException() {
+            Long id = null;
+            deleteBuilder.where(w -> {
+                if (id != null) {
+                    w.eq("id", id);
+                }
+            });
+            
+            assertThatThrownBy(() -> deleteBuilder.execute())
+                .isInstanceOf(FluidIllegalStateException.class);
+            verify(jdbcManager, never()).delete(anyString(), anyMap());
+        }
     }
     
     @Nested
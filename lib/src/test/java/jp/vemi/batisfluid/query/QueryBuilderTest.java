@@ -195,6 +195,16 @@ class QueryBuilderTest {
             assertThat(sql).contains("<>");
         }
 
+        @Test
+        @DisplayName("and()/or() の結合子が重複しない")
+        void testAndOrConnectors() {
+            SimpleWhere where = new SimpleWhere();
+            where.eq("a", 1).or("b", 2).and("c", 3);
+
+            assertThat(where.getWhereSql())
+                .isEqualTo(" WHERE a = /*param0*/0 OR b = /*param1*/0 AND c = /*param2*/0");
+        }
+
         @Test
         @DisplayName("NOT IN条件を構築できる")
         void testNotIn() {
@@ -10,24 +10,32 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.batisfluid.exception.NonUniqueResultException;
 import jp.vemi.batisfluid.meta.FluidColumn;
 import jp.vemi.batisfluid.meta.FluidTable;
 import jp.vemi.seasarbatis.core.query.SBSelect;
+import jp.vemi.seasarbatis.core.sql.dialect.OracleDialect;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
 
 /**
@@ -261,6 +269,254 @@ class SelectBuilderTest {
         }
     }
     
+    @Nested
+    @DisplayName("select() メソッドのテスト")
+    class ProjectionTest {
+
+        @Test
+        @DisplayName("指定したカラムのみを取得すること")
+        void select_withColumns_generatesColumnList() {
+            String sql = selectBuilder.select("id", "name").build();
+
+            assertThat(sql).isEqualTo("SELECT id, name FROM test_table");
+        }
+
+        @Test
+        @DisplayName("指定したクラスにマッピングできること")
+        @SuppressWarnings("unchecked")
+        void getResultList_withResultType_mapsToDto() {
+            SBSelect<NameOnly> dtoQuery = mock(SBSelect.class);
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(NameOnly.class)))
+                .thenReturn(dtoQuery);
+            when(dtoQuery.getResultList()).thenReturn(List.of(new NameOnly("test")));
+
+            List<NameOnly> result = selectBuilder.select("name").getResultList(NameOnly.class);
+
+            assertThat(result).containsExactly(new NameOnly("test"));
+            verify(jdbcManager).selectBySql(eq("SELECT name FROM test_table"), anyMap(), eq(NameOnly.class));
+        }
+
+        @Test
+        @DisplayName("キーセットページングでは主キーを自動的に含めること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_withColumns_includesPrimaryKey() {
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            selectBuilder.select("name").getResultListAfter(null, 10);
+
+            verify(jdbcManager).selectBySql(eq("SELECT name, id FROM test_table ORDER BY id ASC LIMIT 10"),
+                anyMap(), eq(TestEntity.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("集約・存在確認のテスト")
+    class AggregateTest {
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void stubRows(List<Map> rows) {
+            SBSelect<Map> mapQuery = mock(SBSelect.class);
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(Map.class))).thenReturn(mapQuery);
+            when(mapQuery.getResultList()).thenReturn(rows);
+        }
+
+        @Test
+        @DisplayName("count() はCOUNT(*)をデータベースで実行すること")
+        void count_rendersCountQuery() {
+            stubRows(List.of(Map.of("AGG_VALUE", 3)));
+
+            long count = selectBuilder.where(w -> w.eq("status", "ACTIVE")).count();
+
+            assertThat(count).isEqualTo(3L);
+            verify(jdbcManager).selectBySql(
+                eq("SELECT COUNT(*) AS agg_value FROM test_table WHERE status = /*param0*/0"),
+                anyMap(), eq(Map.class));
+        }
+
+        @Test
+        @DisplayName("exists() は件数上限1のSELECT 1を実行すること")
+        void exists_rendersLimitedProbe() {
+            stubRows(List.of());
+
+            boolean exists = selectBuilder.exists();
+
+            assertThat(exists).isFalse();
+            verify(jdbcManager).selectBySql(eq("SELECT 1 FROM test_table LIMIT 1"), anyMap(), eq(Map.class));
+        }
+
+        @Test
+        @DisplayName("aggregate() は結果を指定した型に変換すること")
+        void sum_convertsResultType() {
+            stubRows(List.of(Map.of("agg_value", 150L)));
+
+            java.math.BigDecimal sum = selectBuilder.sum("amount", java.math.BigDecimal.class);
+
+            assertThat(sum).isEqualByComparingTo("150");
+            verify(jdbcManager).selectBySql(eq("SELECT SUM(amount) AS agg_value FROM test_table"),
+                anyMap(), eq(Map.class));
+        }
+
+        @Test
+        @DisplayName("countBy() はグループごとの件数をグループ順で返すこと")
+        void countBy_returnsOrderedMap() {
+            stubRows(List.of(
+                Map.of("GROUP_KEY", "ACTIVE", "AGG_VALUE", 2),
+                Map.of("GROUP_KEY", "INACTIVE", "AGG_VALUE", 1)));
+
+            Map<Object, Long> counts = selectBuilder.countBy("status");
+
+            assertThat(counts).containsExactly(
+                org.assertj.core.api.Assertions.entry("ACTIVE", 2L),
+                org.assertj.core.api.Assertions.entry("INACTIVE", 1L));
+            verify(jdbcManager).selectBySql(eq("SELECT status AS group_key, COUNT(*) AS agg_value FROM test_table"
+                + " GROUP BY status ORDER BY status"), anyMap(), eq(Map.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("キーセットページングのテスト")
+    class KeysetTest {
+
+        @Test
+        @DisplayName("先頭ページは主キー順・件数上限付きで取得すること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_firstPage_ordersByPkWithLimit() {
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            selectBuilder.getResultListAfter(null, 100);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(jdbcManager).selectBySql(sql.capture(), anyMap(), eq(TestEntity.class));
+            assertThat(sql.getValue()).isEqualTo("SELECT * FROM test_table ORDER BY id ASC LIMIT 100");
+        }
+
+        @Test
+        @DisplayName("前ページ末尾のキーより後ろを条件にすること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_withLastKey_addsSeekCondition() {
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            selectBuilder.where(w -> w.eq("status", "ACTIVE"))
+                .getResultListAfter(Map.of("id", 10L), 50);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+            verify(jdbcManager).selectBySql(sql.capture(), params.capture(), eq(TestEntity.class));
+            assertThat(sql.getValue())
+                .contains("WHERE (status = /*param0*/0) AND (id > /*keyset0*/0)")
+                .endsWith("ORDER BY id ASC LIMIT 50");
+            assertThat(params.getValue()).containsEntry("param0", "ACTIVE").containsEntry("keyset0", 10L);
+        }
+
+        @Test
+        @DisplayName("ORを含む条件でも、キーセットの条件がすべての行に掛かること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_withOrCondition_parenthesizesWhere() {
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            selectBuilder.where(w -> w.eq("status", "ACTIVE").or("status", "PENDING"))
+                .getResultListAfter(Map.of("id", 10L), 50);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(jdbcManager).selectBySql(sql.capture(), anyMap(), eq(TestEntity.class));
+            assertThat(sql.getValue())
+                .contains("WHERE (status = /*param0*/0 OR status = /*param1*/0) AND (id > /*keyset0*/0)");
+        }
+
+        @Test
+        @DisplayName("複合主キーは辞書式の展開形で比較すること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_withCompositeKey_expandsComparison() {
+            SBSelect<CompositeKeyEntity> compositeQuery = mock(SBSelect.class);
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(CompositeKeyEntity.class)))
+                .thenReturn(compositeQuery);
+            when(compositeQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            new SelectBuilder<>(jdbcManager, CompositeKeyEntity.class)
+                .getResultListAfter(Map.of("tenant_id", 1L, "seq", 5L), 10);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(jdbcManager).selectBySql(sql.capture(), anyMap(), eq(CompositeKeyEntity.class));
+            assertThat(sql.getValue()).isEqualTo("SELECT * FROM composite_table"
+                + " WHERE (tenant_id > /*keyset0*/0) OR (tenant_id = /*keyset0*/0 AND seq > /*keyset1*/0)"
+                + " ORDER BY tenant_id ASC, seq ASC LIMIT 10");
+        }
+
+        @Test
+        @DisplayName("ダイアレクトの行制限構文を使用すること")
+        @SuppressWarnings("unchecked")
+        void getResultListAfter_withOracle_usesFetchFirst() {
+            when(jdbcManager.getDialect()).thenReturn(new OracleDialect());
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Collections.emptyList());
+
+            selectBuilder.getResultListAfter(null, 20);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(jdbcManager).selectBySql(sql.capture(), anyMap(), eq(TestEntity.class));
+            assertThat(sql.getValue()).endsWith("ORDER BY id ASC FETCH FIRST 20 ROWS ONLY");
+        }
+
+        @Test
+        @DisplayName("ORDER BY 指定時は例外をスローすること")
+        void getResultListAfter_withOrderBy_throwsException() {
+            selectBuilder.orderBy("name");
+
+            assertThatThrownBy(() -> selectBuilder.getResultListAfter(null, 10))
+                .isInstanceOf(FluidIllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("チャンク単位で末尾まで読み進めること")
+        @SuppressWarnings("unchecked")
+        void iterateChunks_readsUntilShortChunk() {
+            TestEntity e1 = new TestEntity();
+            e1.setId(1L);
+            TestEntity e2 = new TestEntity();
+            e2.setId(2L);
+            TestEntity e3 = new TestEntity();
+            e3.setId(3L);
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Arrays.asList(e1, e2), Arrays.asList(e3));
+
+            Iterator<List<TestEntity>> chunks = selectBuilder.iterateChunks(2);
+
+            assertThat(chunks.next()).containsExactly(e1, e2);
+            assertThat(chunks.next()).containsExactly(e3);
+            assertThat(chunks.hasNext()).isFalse();
+
+            ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+            verify(jdbcManager, times(2)).selectBySql(anyString(), params.capture(), eq(TestEntity.class));
+            assertThat(params.getAllValues().get(1)).containsEntry("keyset0", 2L);
+        }
+
+        @Test
+        @DisplayName("チャンクをストリームとして取得できること")
+        @SuppressWarnings("unchecked")
+        void streamChunks_returnsAllChunks() {
+            TestEntity e1 = new TestEntity();
+            e1.setId(1L);
+            when(jdbcManager.selectBySql(anyString(), anyMap(), eq(TestEntity.class)))
+                .thenReturn(selectQuery);
+            when(selectQuery.getResultList()).thenReturn(Arrays.asList(e1), Collections.emptyList());
+
+            List<List<TestEntity>> chunks = selectBuilder.streamChunks(1).collect(Collectors.toList());
+
+            assertThat(chunks).hasSize(1);
+            assertThat(chunks.get(0)).containsExactly(e1);
+        }
+    }
+
     // テスト用エンティティ
     @FluidTable(name = "test_table")
     static class TestEntity {
@@ -280,4 +536,18 @@ class SelectBuilderTest {
         public String getStatus() { return status; }
         public void setStatus(String status) { this.status = status; }
     }
+
+    // 射影用のレコード
+    record NameOnly(String name) {
+    }
+
+    // 複合主キーのテスト用エンティティ
+    @FluidTable(name = "composite_table")
+    static class CompositeKeyEntity {
+        @FluidColumn(name = "tenant_id", primaryKey = true)
+        private Long tenantId;
+
+        @FluidColumn(name = "seq", primaryKey = true)
+        private Long seq;
+    }
 }
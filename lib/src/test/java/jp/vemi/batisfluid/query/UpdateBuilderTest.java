@@ -4,8 +4,10 @@
 package jp.vemi.batisfluid.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jp.vemi.batisfluid.exception.FluidIllegalStateException;
 import jp.vemi.batisfluid.meta.FluidColumn;
 import jp.vemi.batisfluid.meta.FluidTable;
 import jp.vemi.seasarbatis.jdbc.SBJdbcManager;
@@ -82,6 +85,7 @@ class UpdateBuilderTest {
             assertThat(sql).contains("UPDATE test_table SET");
             assertThat(sql).contains("WHERE");
             assertThat(sql).contains("id = ");
+            assertThat(sql).containsOnlyOnce("WHERE");
         }
         
         @Test
@@ -96,6 +100,23 @@ class UpdateBuilderTest {
             assertThat(sql).contains("UPDATE test_table SET");
             assertThat(sql).contains("WHERE");
         }
+        
+        @Test
+        @DisplayName("where()で条件を1つも指定しなかった場合は例外をスローすること")
+        void build_withEmptyWhere_throwsException() {
+            Long id = null;
+            updateBuilder
+                .set("status", "INACTIVE")
+                .where(w -> {
+                    if (id != null) {
+                        w.eq("id", id);
+                    }
+                });
+            
+            assertThatThrownBy(() -> updateBuilder.execute())
+                .isInstanceOf(FluidIllegalStateException.class);
+            verify(jdbcManager, never()).update(anyString(), anyMap());
+        }
     }
     
     @Nested
@@ -123,6 +144,64 @@ class UpdateBuilderTest {
         }
     }
     
+    @Nested
+    @DisplayName("SQL式による更新のテスト")
+    class ExpressionTest {
+        
+        @Test
+        @DisplayName("increment() で現在値への加算式が生成されること")
+        void increment_generatesAdditionExpression() {
+            updateBuilder.increment("age", 5);
+            
+            String sql = updateBuilder.build();
+            
+            assertThat(sql).isEqualTo("UPDATE test_table SET age = age + /*age_expr0*/?");
+            assertThat(updateBuilder.getParameters()).containsEntry("age_expr0", 5);
+        }
+        
+        @Test
+        @DisplayName("setExpression() で式中の?が引数にバインドされること")
+        void setExpression_bindsArguments() {
+            updateBuilder.setExpression("name", "COALESCE(name, '?') || ?", "x");
+            
+            String sql = updateBuilder.build();
+            
+            assertThat(sql).isEqualTo("UPDATE test_table SET name = COALESCE(name, '?') || /*name_expr0*/?");
+            assertThat(updateBuilder.getParameters()).containsEntry("name_expr0", "x");
+        }
+        
+        @Test
+        @DisplayName("setExpression() の?の数と引数の数が一致しない場合は例外をスローすること")
+        void setExpression_withMismatchedArguments_throwsException() {
+            assertThatThrownBy(() -> updateBuilder.setExpression("age", "age * ?"))
+                .isInstanceOf(FluidIllegalStateException.class);
+            assertThatThrownBy(() -> updateBuilder.setExpression("age", "age * ?", 1, 2))
+                .isInstanceOf(FluidIllegalStateException.class);
+        }
+        
+        @Test
+        @DisplayName("setNow() でCURRENT_TIMESTAMPが設定されること")
+        void setNow_setsCurrentTimestamp() {
+            updateBuilder.set("name", "n").setNow("updated_at").where(w -> w.eq("id", 1L));
+            
+            String sql = updateBuilder.build();
+            
+            assertThat(sql).contains("updated_at = CURRENT_TIMESTAMP");
+            assertThat(sql).containsOnlyOnce("WHERE");
+        }
+        
+        @Test
+        @DisplayName("同じカラムを再設定すると後の設定で置き換えられること")
+        void set_afterIncrement_replacesAssignment() {
+            updateBuilder.increment("age", 1).set("age", 10);
+            
+            String sql = updateBuilder.build();
+            
+            assertThat(sql).isEqualTo("UPDATE test_table SET age = /*age*/?");
+            assertThat(updateBuilder.getParameters()).doesNotContainKey("age_expr0");
+        }
+    }
+    
     @Nested
     @DisplayName("where() メソッドのテスト")
     class WhereTest {
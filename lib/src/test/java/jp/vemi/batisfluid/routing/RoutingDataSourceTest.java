@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RoutingDataSource} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class RoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private Connection primaryConnection;
+    private Connection replicaConnection1;
+    private Connection replicaConnection2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection1 = mock(Connection.class);
+        replicaConnection2 = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replicaConnection1);
+        when(replica2.getConnection()).thenReturn(replicaConnection2);
+    }
+
+    @Test
+    @DisplayName("読み取り専用の処理の外ではプライマリを使用すること")
+    void getConnection_outsideReadOnly_returnsPrimary() throws SQLException {
+        RoutingDataSource dataSource = new RoutingDataSource(primary, List.of(replica1),
+                ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(RoutingDataSource.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ROUND_ROBIN ではレプリカを順番に使用すること")
+    void getConnection_roundRobin_alternatesReplicas() throws SQLException {
+        RoutingDataSource dataSource = new RoutingDataSource(primary, List.of(replica1, replica2),
+                ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        RoutingDataSource.readOnly(() -> {
+            for (int i = 0; i < 3; i++) {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.isValid(1);
+                }
+            }
+            return null;
+        });
+
+        verify(replicaConnection1, times(2)).isValid(1);
+        verify(replicaConnection2, times(1)).isValid(1);
+        verify(replicaConnection1, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("LEAST_LOADED では使用中のコネクションが少ないレプリカを使用すること")
+    void getConnection_leastLoaded_selectsIdleReplica() throws SQLException {
+        RoutingDataSource dataSource = new RoutingDataSource(primary, List.of(replica1, replica2),
+                ReplicaSelectionStrategy.LEAST_LOADED);
+
+        Connection[] held = RoutingDataSource.readOnly(() -> new Connection[] {
+                dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection() });
+
+        assertThat(dataSource.getActiveConnectionCounts()).containsExactlyInAnyOrder(1, 2);
+        held[0].close();
+        held[0].close();
+        assertThat(dataSource.getActiveConnectionCounts()[0] + dataSource.getActiveConnectionCounts()[1])
+                .isEqualTo(2);
+
+        held[1].close();
+        held[2].close();
+        assertThat(dataSource.getActiveConnectionCounts()).containsExactly(0, 0);
+    }
+
+    @Test
+    @DisplayName("レプリカから取得できない場合は他のレプリカ、次にプライマリを使用すること")
+    void getConnection_whenReplicaFails_fallsBack() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("down"));
+        RoutingDataSource dataSource = new RoutingDataSource(primary, List.of(replica1),
+                ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        Connection connection = RoutingDataSource.readOnly(dataSource::getConnection);
+
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("レプリカが指定されていない場合は例外をスローすること")
+    void constructor_withoutReplicas_throwsException() {
+        assertThatThrownBy(() -> new RoutingDataSource(primary, List.of(), ReplicaSelectionStrategy.ROUND_ROBIN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LatencyHistogram} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("件数、合計、平均、最大値が記録されること")
+    void snapshot_returnsCountTotalMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(1).toNanos());
+        histogram.record(Duration.ofMillis(3).toNanos());
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getTotal()).isEqualTo(Duration.ofMillis(4));
+        assertThat(snapshot.getMean()).isEqualTo(Duration.ofMillis(2));
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ofMillis(3));
+    }
+
+    @Test
+    @DisplayName("パーセンタイルが区間の上限値で近似されること")
+    void getPercentile_returnsBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(Duration.ofMillis(1).toNanos());
+        }
+        histogram.record(Duration.ofSeconds(1).toNanos());
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // 1ms は 1,024μs を上限とする区間に入る
+        assertThat(snapshot.getPercentile(50)).isEqualTo(Duration.ofNanos(1_024_000));
+        assertThat(snapshot.getPercentile(99)).isEqualTo(Duration.ofNanos(1_024_000));
+        assertThat(snapshot.getPercentile(100)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("記録がない場合はゼロを返すこと")
+    void snapshot_withoutRecords_returnsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMean()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.getPercentile(99)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("範囲外のパーセンタイルを指定した場合は例外が発生すること")
+    void getPercentile_withInvalidValue_throwsException() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThatThrownBy(() -> snapshot.getPercentile(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.getPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("reset() で記録が破棄されること")
+    void reset_clearsRecords() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+
+        histogram.reset();
+
+        assertThat(histogram.snapshot().getCount()).isZero();
+        assertThat(histogram.snapshot().getMax()).isEqualTo(Duration.ZERO);
+    }
+}
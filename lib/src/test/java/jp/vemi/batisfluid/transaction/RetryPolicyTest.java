@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.vemi.batisfluid.exception.TransactionException;
+import jp.vemi.seasarbatis.core.sql.dialect.PostgresDialect;
+
+/**
+ * {@link RetryPolicy} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("例外の連鎖に含まれるSQLExceptionをダイアレクトで分類すること")
+    void isRetryable_classifiesSqlExceptionInCauseChain() {
+        RetryPolicy policy = RetryPolicy.forDialect(new PostgresDialect());
+
+        RuntimeException deadlock = new TransactionException("transaction.error.execution",
+            new PersistenceException(new SQLException("deadlock detected", "40P01")));
+        RuntimeException duplicate = new TransactionException("transaction.error.execution",
+            new PersistenceException(new SQLException("duplicate key value", "23505")));
+
+        assertThat(policy.isRetryable(deadlock)).isTrue();
+        assertThat(policy.isRetryable(duplicate)).isFalse();
+        assertThat(policy.isRetryable(new IllegalStateException("no sql"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("待機時間が試行ごとに延び、上限を超えないこと")
+    void backoffNanos_growsExponentiallyUpToMax() {
+        RetryPolicy policy = RetryPolicy.of(e -> true)
+            .withBackoff(Duration.ofMillis(10), Duration.ofMillis(50));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffNanos(1)).isBetween(0L, Duration.ofMillis(10).toNanos());
+            assertThat(policy.backoffNanos(2)).isBetween(0L, Duration.ofMillis(20).toNanos());
+            assertThat(policy.backoffNanos(30)).isBetween(0L, Duration.ofMillis(50).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("不正な設定の場合は例外が発生すること")
+    void withInvalidSettings_throwsException() {
+        RetryPolicy policy = RetryPolicy.of(e -> true);
+
+        assertThat(policy.getMaxAttempts()).isEqualTo(3);
+        assertThat(policy.withMaxAttempts(5).getMaxAttempts()).isEqualTo(5);
+        assertThatThrownBy(() -> policy.withMaxAttempts(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> policy.withBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.batisfluid.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Wrapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SuppressedConnection} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class SuppressedConnectionTest {
+
+    private Connection target;
+    private SuppressedConnection connection;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(Connection.class);
+        connection = new SuppressedConnection(target);
+    }
+
+    @Test
+    @DisplayName("commit/rollback/close/setAutoCommit は実際のコネクションへ委譲しないこと")
+    void suppressedOperations_areNotDelegated() throws SQLException {
+        connection.setAutoCommit(true);
+        connection.commit();
+        connection.rollback();
+        connection.close();
+
+        verify(target, never()).setAutoCommit(true);
+        verify(target, never()).commit();
+        verify(target, never()).rollback();
+        verify(target, never()).close();
+    }
+
+    @Test
+    @DisplayName("その他の操作は実際のコネクションへ委譲すること")
+    void otherOperations_areDelegated() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        when(target.prepareStatement("SELECT 1")).thenReturn(statement);
+
+        assertThat(connection.prepareStatement("SELECT 1")).isSameAs(statement);
+        connection.rollback(savepoint);
+
+        verify(target).rollback(savepoint);
+    }
+
+    @Test
+    @DisplayName("Connection へのアンラップでは実際のコネクションを返さないこと")
+    void unwrap_toConnection_returnsSelf() throws SQLException {
+        assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+        assertThat(connection.unwrap(Wrapper.class)).isSameAs(connection);
+        assertThat(connection.isWrapperFor(Connection.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ドライバ固有のインターフェースへのアンラップは委譲すること")
+    void unwrap_toVendorInterface_isDelegated() throws SQLException {
+        Runnable vendor = () -> { };
+        when(target.unwrap(Runnable.class)).thenReturn(vendor);
+        when(target.isWrapperFor(Runnable.class)).thenReturn(true);
+
+        assertThat(connection.unwrap(Runnable.class)).isSameAs(vendor);
+        assertThat(connection.isWrapperFor(Runnable.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("既に包まれたコネクションは包み直さないこと")
+    void wrap_whenAlreadyWrapped_returnsSameInstance() {
+        assertThat(SuppressedConnection.wrap(connection)).isSameAs(connection);
+        assertThat(SuppressedConnection.wrap(target)).isNotSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("null をバインドした場合はバインドを解除すること")
+    void bind_withNull_unbinds() {
+        ThreadLocalDataSource.bind(target);
+        ThreadLocalDataSource.bind(null);
+
+        assertThat(ThreadLocalDataSource.currentBinding()).isNull();
+    }
+}
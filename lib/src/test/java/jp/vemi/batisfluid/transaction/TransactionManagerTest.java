@@ -11,7 +11,10 @@ import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
@@ -183,6 +186,147 @@ class TransactionManagerTest {
         }
     }
     
+    @Nested
+    @DisplayName("getMetrics() メソッドのテスト")
+    class MetricsTest {
+        
+        @Test
+        @DisplayName("伝播タイプごとにコミットとロールバックの件数が記録されること")
+        void metrics_recordsCommitAndRollbackPerPropagationType() {
+            transactionManager.execute(PropagationType.REQUIRED, () -> "ok");
+            transactionManager.execute(PropagationType.REQUIRES_NEW, () -> "ok");
+            assertThatThrownBy(() -> transactionManager.execute(PropagationType.REQUIRES_NEW, () -> {
+                throw new IllegalStateException("Error");
+            })).isInstanceOf(TransactionException.class);
+            
+            TransactionMetrics.Snapshot snapshot = transactionManager.getMetrics().snapshot();
+            
+            assertThat(snapshot.get(PropagationType.REQUIRED).getCommitted()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.REQUIRES_NEW).getCommitted()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.REQUIRES_NEW).getRolledBack()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.REQUIRES_NEW).getDuration().getCount()).isEqualTo(2);
+            assertThat(snapshot.getRollbackReasons())
+                .containsEntry(IllegalStateException.class.getName(), 1L);
+            assertThat(snapshot.getConnectionAcquisition().getCount()).isEqualTo(3);
+        }
+        
+        @Test
+        @DisplayName("参加したトランザクションとセーブポイント、ネストの深さが記録されること")
+        void metrics_recordsJoinedSavepointsAndDepth() throws SQLException {
+            when(connection.setSavepoint()).thenReturn(mock(Savepoint.class));
+            
+            transactionManager.execute(PropagationType.REQUIRED, () -> {
+                transactionManager.execute(PropagationType.REQUIRED, () -> "joined");
+                transactionManager.execute(PropagationType.NESTED, () -> "released");
+                assertThatThrownBy(() -> transactionManager.execute(PropagationType.NESTED, () -> {
+                    throw new IllegalArgumentException("Error");
+                })).isInstanceOf(TransactionException.class);
+                return null;
+            });
+            
+            TransactionMetrics.Snapshot snapshot = transactionManager.getMetrics().snapshot();
+            
+            assertThat(snapshot.getJoined()).isEqualTo(1);
+            assertThat(snapshot.getSavepointsCreated()).isEqualTo(2);
+            assertThat(snapshot.getSavepointsReleased()).isEqualTo(1);
+            assertThat(snapshot.getSavepointsRolledBack()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.NESTED).getCommitted()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.NESTED).getRolledBack()).isEqualTo(1);
+            assertThat(snapshot.get(PropagationType.REQUIRED).getCommitted()).isEqualTo(1);
+            assertThat(snapshot.getMaxDepth()).isEqualTo(2);
+        }
+        
+        @Test
+        @DisplayName("しきい値を超えたトランザクションが長時間のトランザクションとして記録されること")
+        void metrics_recordsLongTransactions() {
+            transactionManager.getMetrics().setLongTransactionThreshold(Duration.ofNanos(1));
+            
+            transactionManager.execute(PropagationType.REQUIRED, () -> {
+                Thread.sleep(2);
+                return null;
+            });
+            
+            assertThat(transactionManager.getMetrics().snapshot().getLongTransactions()).isEqualTo(1);
+            
+            transactionManager.getMetrics().reset();
+            
+            assertThat(transactionManager.getMetrics().snapshot().getLongTransactions()).isZero();
+            assertThat(transactionManager.getMetrics().snapshot().get(PropagationType.REQUIRED).getCommitted()).isZero();
+        }
+    }
+    
+    @Nested
+    @DisplayName("リトライポリシーを指定した execute() メソッドのテスト")
+    class ExecuteWithRetryTest {
+        
+        private final RetryPolicy retryPolicy = RetryPolicy.of(e -> "40001".equals(e.getSQLState()))
+            .withMaxAttempts(3)
+            .withBackoff(Duration.ZERO, Duration.ZERO);
+        
+        @Test
+        @DisplayName("再実行の対象となる失敗は新しいトランザクションで再実行されること")
+        void execute_withRetryableFailure_retriesInNewTransaction() throws SQLException {
+            AtomicInteger attempts = new AtomicInteger();
+            
+            String result = transactionManager.execute(PropagationType.REQUIRED, retryPolicy, () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new RuntimeException(new SQLException("deadlock", "40001"));
+                }
+                return "ok";
+            });
+            
+            assertThat(result).isEqualTo("ok");
+            assertThat(attempts).hasValue(3);
+            TransactionMetrics.Snapshot snapshot = transactionManager.getMetrics().snapshot();
+            assertThat(snapshot.getRetries()).isEqualTo(2);
+            assertThat(snapshot.get(PropagationType.REQUIRED).getRolledBack()).isEqualTo(2);
+            assertThat(snapshot.get(PropagationType.REQUIRED).getCommitted()).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("最大試行回数に達した場合は最後の例外が発生すること")
+        void execute_withPersistentFailure_throwsAfterMaxAttempts() {
+            AtomicInteger attempts = new AtomicInteger();
+            
+            assertThatThrownBy(() -> transactionManager.execute(PropagationType.REQUIRES_NEW, retryPolicy, () -> {
+                attempts.incrementAndGet();
+                throw new RuntimeException(new SQLException("deadlock", "40001"));
+            })).isInstanceOf(TransactionException.class).hasRootCauseInstanceOf(SQLException.class);
+            
+            assertThat(attempts).hasValue(3);
+            assertThat(transactionManager.getMetrics().snapshot().getRetriesExhausted()).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("再実行の対象でない失敗は再実行されないこと")
+        void execute_withNonRetryableFailure_doesNotRetry() {
+            AtomicInteger attempts = new AtomicInteger();
+            
+            assertThatThrownBy(() -> transactionManager.execute(PropagationType.REQUIRED, retryPolicy, () -> {
+                attempts.incrementAndGet();
+                throw new RuntimeException(new SQLException("duplicate", "23505"));
+            })).isInstanceOf(TransactionException.class);
+            
+            assertThat(attempts).hasValue(1);
+            assertThat(transactionManager.getMetrics().snapshot().getRetries()).isZero();
+        }
+        
+        @Test
+        @DisplayName("既存のトランザクションに参加する場合は再実行されないこと")
+        void execute_joiningExistingTransaction_doesNotRetry() {
+            AtomicInteger attempts = new AtomicInteger();
+            
+            assertThatThrownBy(() -> transactionManager.execute(PropagationType.REQUIRED, () ->
+                transactionManager.execute(PropagationType.REQUIRED, retryPolicy, () -> {
+                    attempts.incrementAndGet();
+                    throw new RuntimeException(new SQLException("deadlock", "40001"));
+                })
+            )).isInstanceOf(TransactionException.class);
+            
+            assertThat(attempts).hasValue(1);
+        }
+    }
+    
     @Nested
     @DisplayName("isActive() メソッドのテスト")
     class IsActiveTest {
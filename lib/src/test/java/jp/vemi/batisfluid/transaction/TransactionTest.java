@@ -120,12 +120,12 @@ class TransactionTest {
             Connection conn1 = ds.getConnection();
             assertThat(conn1).isSameAs(mockNewConnection);
 
-            // バインドありの場合（抑制プロキシが返される）
+            // バインドありの場合（抑制用のラッパーが返される）
             ThreadLocalDataSource.bind(mockConnection);
             Connection conn2 = ds.getConnection();
-            // プロキシなので同一ではないが、Connectionインターフェースを実装
-            assertThat(conn2).isNotNull();
-            assertThat(conn2).isInstanceOf(Connection.class);
+            assertThat(conn2).isInstanceOf(SuppressedConnection.class);
+            // バインド中は同じラッパーを使い回す
+            assertThat(ds.getConnection()).isSameAs(conn2);
 
             ThreadLocalDataSource.unbind();
         }
@@ -191,5 +191,31 @@ class TransactionTest {
             op.end();
             assertThat(op.isActive()).isFalse();
         }
+
+        @Test
+        @DisplayName("他のスレッドで開始したトランザクションの状態を参照しない")
+        void testStateIsPerThread() throws Exception {
+            TransactionOperation op = new TransactionOperation(mockFactory);
+            op.begin();
+            try {
+                AtomicBoolean activeInOtherThread = new AtomicBoolean(true);
+                AtomicBoolean begunInOtherThread = new AtomicBoolean();
+                Thread other = new Thread(() -> {
+                    activeInOtherThread.set(op.isActive());
+                    op.begin();
+                    begunInOtherThread.set(op.isActive());
+                    op.end();
+                });
+                other.start();
+                other.join();
+
+                assertThat(activeInOtherThread.get()).isFalse();
+                assertThat(begunInOtherThread.get()).isTrue();
+                assertThat(op.isActive()).isTrue();
+                assertThat(op.getCurrentSession()).isSameAs(mockSession);
+            } finally {
+                op.end();
+            }
+        }
     }
 }
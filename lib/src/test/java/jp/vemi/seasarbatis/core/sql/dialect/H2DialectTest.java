@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.seasarbatis.core.sql.dialect;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link H2Dialect} のテストクラスです。
+ * 
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class H2DialectTest {
+
+    private H2Dialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        dialect = new H2Dialect();
+    }
+
+    @Test
+    void testGetDatabaseProductName() {
+        assertEquals("H2", dialect.getDatabaseProductName());
+    }
+
+    @Test
+    void testFormatString() {
+        assertEquals("'hello''world'", dialect.formatString("hello'world"));
+    }
+
+    @Test
+    void testInsertReturning() {
+        assertEquals("SELECT * FROM FINAL TABLE (INSERT INTO t (id, name) VALUES (1, 'a'))",
+                dialect.insertReturning("t", "id, name", "1, 'a'"));
+    }
+
+    @Test
+    void testUpdateReturning() {
+        assertEquals("SELECT * FROM FINAL TABLE (UPDATE t SET name = 'a' WHERE id = 1)",
+                dialect.updateReturning("t", "name = 'a'", "id = 1"));
+    }
+
+    @Test
+    void testUpsert() {
+        assertEquals("MERGE INTO t (id, name) KEY (id) VALUES (1, 'a')",
+                dialect.upsert("t", List.of("id", "name"), List.of("1", "'a'"), List.of("id"), null, null));
+    }
+
+    @Test
+    void testUpsertWithLock() {
+        assertEquals("MERGE INTO t AS target USING (VALUES (1, 'a', 2)) AS source (id, name, version)"
+                + " ON (target.id = source.id)"
+                + " WHEN MATCHED AND target.version = 1 THEN UPDATE SET name = source.name, version = source.version"
+                + " WHEN NOT MATCHED THEN INSERT (id, name, version) VALUES (source.id, source.name, source.version)",
+                dialect.upsert("t", List.of("id", "name", "version"), List.of("1", "'a'", "2"), List.of("id"),
+                        "version", "1"));
+    }
+
+    @Test
+    void testNextSequenceValue() {
+        assertEquals("SELECT NEXT VALUE FOR orders_seq", dialect.nextSequenceValue("orders_seq"));
+    }
+
+    @Test
+    void testIsRetryable() {
+        assertTrue(dialect.isRetryable(new SQLTransactionRollbackException("Deadlock detected", "40001", 40001)));
+        assertFalse(dialect.isRetryable(new SQLException("Unique index or primary key violation", "23505", 23505)));
+    }
+}
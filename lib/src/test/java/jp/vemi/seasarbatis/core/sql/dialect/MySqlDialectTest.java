@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.seasarbatis.core.sql.dialect;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MySqlDialect} のテストクラスです。
+ * 
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class MySqlDialectTest {
+
+    private MySqlDialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        dialect = new MySqlDialect();
+    }
+
+    @Test
+    void testGetDatabaseProductName() {
+        assertEquals("MySQL", dialect.getDatabaseProductName());
+    }
+
+    @Test
+    void testFormatString() {
+        assertEquals("'it''s \\\\ path'", dialect.formatString("it's \\ path"));
+    }
+
+    @Test
+    void testFormatArray() {
+        assertEquals("(1, 2)", dialect.formatArray("1, 2"));
+    }
+
+    @Test
+    void testUpsert() {
+        assertEquals("INSERT INTO t (id, name) VALUES (1, 'a') AS new ON DUPLICATE KEY UPDATE name = new.name",
+                dialect.upsert("t", List.of("id", "name"), List.of("1", "'a'"), List.of("id"), null, null));
+    }
+
+    @Test
+    void testUpsertKeyOnly() {
+        assertEquals("INSERT INTO t (id) VALUES (1) AS new ON DUPLICATE KEY UPDATE id = new.id",
+                dialect.upsert("t", List.of("id"), List.of("1"), List.of("id"), null, null));
+    }
+
+    @Test
+    void testUpsertWithLockUnsupported() {
+        assertNull(dialect.upsert("t", List.of("id", "version"), List.of("1", "2"), List.of("id"), "version", "1"));
+    }
+
+    @Test
+    void testNextSequenceValueUnsupported() {
+        assertNull(dialect.nextSequenceValue("orders_seq"));
+    }
+
+    @Test
+    void testIsRetryable() {
+        assertTrue(dialect.isRetryable(new SQLException("Deadlock found", "40001", 1213)));
+        assertTrue(dialect.isRetryable(new SQLException("Deadlock found", "HY000", 1213)));
+        assertFalse(dialect.isRetryable(new SQLException("Lock wait timeout exceeded", "HY000", 1205)));
+        assertFalse(dialect.isRetryable(new SQLException("Duplicate entry", "23000", 1062)));
+    }
+}
@@ -5,6 +5,9 @@ package jp.vemi.seasarbatis.core.sql.dialect;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.sql.SQLException;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +89,38 @@ class OracleDialectTest {
         String formatted = dialect.formatArray(null);
         assertEquals("", formatted);
     }
+
+    @Test
+    void testLimit() {
+        assertEquals("SELECT * FROM t ORDER BY id ASC FETCH FIRST 10 ROWS ONLY", dialect.limit("SELECT * FROM t ORDER BY id ASC", 10));
+    }
+
+    @Test
+    void testUpsert() {
+        assertEquals("MERGE INTO t target USING (SELECT 1 AS id, 'a' AS name, 2 AS version FROM DUAL) source "
+                + "ON (target.id = source.id) WHEN MATCHED THEN UPDATE SET target.name = source.name, "
+                + "target.version = source.version WHERE target.version = 1 "
+                + "WHEN NOT MATCHED THEN INSERT (id, name, version) VALUES (source.id, source.name, source.version)",
+                dialect.upsert("t", List.of("id", "name", "version"), List.of("1", "'a'", "2"), List.of("id"),
+                        "version", "1"));
+    }
+
+    @Test
+    void testBulkLimits() {
+        assertEquals(1, dialect.getMaxInsertRows());
+        assertEquals(1000, dialect.getMaxInListSize());
+        assertTrue(dialect.supportsRowValueIn());
+    }
+
+    @Test
+    void testNextSequenceValue() {
+        assertEquals("SELECT orders_seq.NEXTVAL FROM DUAL", dialect.nextSequenceValue("orders_seq"));
+    }
+
+    @Test
+    void testIsRetryable() {
+        assertTrue(dialect.isRetryable(new SQLException("ORA-00060: deadlock detected", "61000", 60)));
+        assertTrue(dialect.isRetryable(new SQLException("ORA-08177: can't serialize access", "72000", 8177)));
+        assertFalse(dialect.isRetryable(new SQLException("ORA-00001: unique constraint violated", "23000", 1)));
+    }
 }
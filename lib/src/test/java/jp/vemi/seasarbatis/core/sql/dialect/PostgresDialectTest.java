@@ -5,6 +5,9 @@ package jp.vemi.seasarbatis.core.sql.dialect;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.sql.SQLException;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -85,4 +88,53 @@ class PostgresDialectTest {
         String formatted = dialect.formatArray(null);
         assertEquals("ARRAY[]", formatted);
     }
+
+    @Test
+    void testLimit() {
+        assertEquals("SELECT * FROM t ORDER BY id ASC LIMIT 10", dialect.limit("SELECT * FROM t ORDER BY id ASC", 10));
+    }
+
+    @Test
+    void testInsertReturning() {
+        assertEquals("INSERT INTO t (id, name) VALUES (1, 'a') RETURNING *",
+                dialect.insertReturning("t", "id, name", "1, 'a'"));
+    }
+
+    @Test
+    void testUpdateReturning() {
+        assertEquals("UPDATE t SET name = 'a' WHERE id = 1 RETURNING *",
+                dialect.updateReturning("t", "name = 'a'", "id = 1"));
+    }
+
+    @Test
+    void testUpsert() {
+        assertEquals("INSERT INTO t AS target (id, name) VALUES (1, 'a') ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name",
+                dialect.upsert("t", List.of("id", "name"), List.of("1", "'a'"), List.of("id"), null, null));
+    }
+
+    @Test
+    void testUpsertWithLock() {
+        assertEquals("INSERT INTO t AS target (id, name, version) VALUES (1, 'a', 2) ON CONFLICT (id) "
+                + "DO UPDATE SET name = EXCLUDED.name, version = EXCLUDED.version WHERE target.version = 1",
+                dialect.upsert("t", List.of("id", "name", "version"), List.of("1", "'a'", "2"), List.of("id"),
+                        "version", "1"));
+    }
+
+    @Test
+    void testUpsertKeyOnly() {
+        assertEquals("INSERT INTO t AS target (id) VALUES (1) ON CONFLICT (id) DO NOTHING",
+                dialect.upsert("t", List.of("id"), List.of("1"), List.of("id"), null, null));
+    }
+
+    @Test
+    void testNextSequenceValue() {
+        assertEquals("SELECT nextval('orders_seq')", dialect.nextSequenceValue("orders_seq"));
+    }
+
+    @Test
+    void testIsRetryable() {
+        assertTrue(dialect.isRetryable(new SQLException("deadlock detected", "40P01")));
+        assertTrue(dialect.isRetryable(new SQLException("could not serialize access", "40001")));
+        assertFalse(dialect.isRetryable(new SQLException("duplicate key value", "23505")));
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 VEMI, All Rights Reserved.
+ */
+package jp.vemi.seasarbatis.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SBTypeConverterUtils} のテストクラスです。
+ *
+ * @author H.Kurosawa
+ * @version 0.0.2
+ */
+class SBTypeConverterUtilsTest {
+
+    private final Configuration configuration = new Configuration();
+
+    record UserSummary(long id, String userName, Integer score) {
+    }
+
+    @Test
+    void testConvertRowToRecord() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("ID", 10);
+        row.put("user_name", "テストユーザー");
+        row.put("score", 80L);
+
+        UserSummary summary = SBTypeConverterUtils.convertRowToEntity(row, UserSummary.class, configuration);
+
+        assertEquals(10L, summary.id());
+        assertEquals("テストユーザー", summary.userName());
+        assertEquals(80, summary.score());
+    }
+
+    @Test
+    void testConvertRowToRecord_MissingColumns() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("user_name", "テストユーザー");
+
+        UserSummary summary = SBTypeConverterUtils.convertRowToEntity(row, UserSummary.class, configuration);
+
+        assertEquals(0L, summary.id());
+        assertEquals("テストユーザー", summary.userName());
+        assertNull(summary.score());
+    }
+}